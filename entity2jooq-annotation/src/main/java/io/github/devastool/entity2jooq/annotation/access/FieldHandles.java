@@ -0,0 +1,62 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.annotation.access;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Factory of {@link VarHandle} for fields of entities without public getters and setters.
+ * Generated tables keep the handles in static final fields, so access to the fields is not
+ * reflective.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public final class FieldHandles {
+  /**
+   * Constructs new instance of {@link FieldHandles}.
+   */
+  private FieldHandles() {
+  }
+
+  /**
+   * Returns handle of the field, the field may be private.
+   *
+   * @param type      class declaring the field
+   * @param name      name of the field
+   * @param fieldType type of the field
+   * @return handle of the field
+   * @throws IllegalStateException when the field is absent or not accessible
+   */
+  public static VarHandle find(
+      Class<?> type,
+      String name,
+      Class<?> fieldType
+  ) throws IllegalStateException {
+    try {
+      return MethodHandles
+          .privateLookupIn(type, MethodHandles.lookup())
+          .findVarHandle(type, name, fieldType);
+    } catch (ReflectiveOperationException exception) {
+      throw new IllegalStateException(
+          String.join("", "Field is not accessible: [", type.getName(), ".", name, "]"),
+          exception
+      );
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.annotation.mapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.RecordMapperProvider;
+import org.jooq.RecordType;
+import org.jooq.RecordUnmapper;
+import org.jooq.RecordUnmapperProvider;
+import org.jooq.Table;
+import org.jooq.impl.DefaultConfiguration;
+
+/**
+ * Provider of generated mappers of entities for Jooq, it replaces reflective mapping of
+ * 'fetchInto', 'into' and 'newRecord' methods. Mappers are looked up by exact class of the entity
+ * in the map prepared once, other classes are delegated to the default providers. Generated
+ * mapper is used only when the record contains all fields of the table.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class EntityMapperProvider implements RecordMapperProvider, RecordUnmapperProvider {
+  private final Map<Class<?>, Mapping<?>> mappings = new HashMap<>();
+  private final RecordMapperProvider mapperProvider;
+  private final RecordUnmapperProvider unmapperProvider;
+
+  /**
+   * Constructs new instance of {@link EntityMapperProvider} with default providers of Jooq.
+   */
+  public EntityMapperProvider() {
+    this(new DefaultConfiguration());
+  }
+
+  /**
+   * Constructs new instance of {@link EntityMapperProvider}, not registered classes are delegated
+   * to the providers of the configuration.
+   *
+   * @param configuration configuration of Jooq
+   */
+  public EntityMapperProvider(Configuration configuration) {
+    this(configuration.recordMapperProvider(), configuration.recordUnmapperProvider());
+  }
+
+  /**
+   * Constructs new instance of {@link EntityMapperProvider}.
+   *
+   * @param mapperProvider   provider of mappers for not registered classes
+   * @param unmapperProvider provider of unmappers for not registered classes
+   */
+  public EntityMapperProvider(
+      RecordMapperProvider mapperProvider,
+      RecordUnmapperProvider unmapperProvider
+  ) {
+    this.mapperProvider = mapperProvider;
+    this.unmapperProvider = unmapperProvider;
+  }
+
+  /**
+   * Registers mappers of the entity, the first registration of the class is used.
+   *
+   * @param type     class of the entity
+   * @param table    table of the entity
+   * @param mapper   mapper of the record to the entity
+   * @param unmapper mapper of the entity to the record
+   * @param <E>      type of the entity
+   */
+  protected <E> void register(
+      Class<E> type,
+      Table<?> table,
+      RecordMapper<Record, E> mapper,
+      RecordUnmapper<E, Record> unmapper
+  ) {
+    mappings.putIfAbsent(type, new Mapping<>(table.fields(), mapper, unmapper));
+  }
+
+  /**
+   * Sets the provider as provider of mappers and unmappers of the configuration.
+   *
+   * @param configuration configuration of Jooq
+   * @return the configuration
+   */
+  public Configuration applyTo(Configuration configuration) {
+    return configuration
+        .set((RecordMapperProvider) this)
+        .set((RecordUnmapperProvider) this);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <R extends Record, E> RecordMapper<R, E> provide(
+      RecordType<R> recordType,
+      Class<? extends E> type
+  ) {
+    Mapping<?> mapping = mappings.get(type);
+    if (mapping != null && mapping.isMappable(recordType)) {
+      return (RecordMapper<R, E>) mapping.mapper;
+    }
+    return mapperProvider.provide(recordType, type);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <E, R extends Record> RecordUnmapper<E, R> provide(
+      Class<? extends E> type,
+      RecordType<R> recordType
+  ) {
+    Mapping<?> mapping = mappings.get(type);
+    if (mapping != null) {
+      return (RecordUnmapper<E, R>) mapping.unmapper;
+    }
+    return unmapperProvider.provide(type, recordType);
+  }
+
+  /**
+   * Mappers of the registered entity.
+   *
+   * @param <E> type of the entity
+   * @author Andrey_Yurzanov
+   */
+  private static class Mapping<E> {
+    private final Field<?>[] fields;
+    private final RecordMapper<Record, E> mapper;
+    private final RecordUnmapper<E, Record> unmapper;
+
+    /**
+     * Constructs new instance of {@link Mapping}.
+     *
+     * @param fields   fields of the table
+     * @param mapper   mapper of the record to the entity
+     * @param unmapper mapper of the entity to the record
+     */
+    private Mapping(
+        Field<?>[] fields,
+        RecordMapper<Record, E> mapper,
+        RecordUnmapper<E, Record> unmapper
+    ) {
+      this.fields = fields;
+      this.mapper = mapper;
+      this.unmapper = unmapper;
+    }
+
+    // Checks fields of the record, it returns true if the record contains all fields of the table
+    private boolean isMappable(RecordType<?> recordType) {
+      for (Field<?> field : fields) {
+        if (recordType.field(field) == null) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.annotation.mapping;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime metrics of the generated mapping methods of the table: mapped rows, time of the mapping
+ * and invocations of the converters. Metrics are registered by static fields of the generated
+ * tables when the generation of the mapping metrics is enabled, counters are striped, so the
+ * mapping methods are not contended under load.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public final class MappingMetrics {
+  private final String table;
+  private final int converters;
+  private final LongAdder rows = new LongAdder();
+  private final LongAdder nanos = new LongAdder();
+
+  private static final Map<String, MappingMetrics> TABLES = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs new instance of {@link MappingMetrics}.
+   *
+   * @param table      qualified name of the table
+   * @param converters count of the converted columns of the table
+   */
+  private MappingMetrics(String table, int converters) {
+    this.table = table;
+    this.converters = converters;
+  }
+
+  /**
+   * Registers metrics of the table, the first registration of the table is used.
+   *
+   * @param table      qualified name of the table
+   * @param converters count of the converted columns of the table, each mapped row invokes their
+   *                   converters
+   * @return metrics of the table
+   */
+  public static MappingMetrics register(String table, int converters) {
+    return TABLES.computeIfAbsent(table, name -> new MappingMetrics(name, converters));
+  }
+
+  /**
+   * Returns metrics of the table.
+   *
+   * @param table qualified name of the table
+   * @return metrics of the table or empty container
+   */
+  public static Optional<MappingMetrics> find(String table) {
+    return Optional.ofNullable(TABLES.get(table));
+  }
+
+  /**
+   * Returns metrics of all registered tables, sorted by names of the tables.
+   *
+   * @return metrics by qualified names of the tables
+   */
+  public static Map<String, MappingMetrics> getAll() {
+    return Collections.unmodifiableMap(new TreeMap<>(TABLES));
+  }
+
+  /**
+   * Adds mapped rows and time of their mapping.
+   *
+   * @param rows  count of the mapped rows
+   * @param nanos time of the mapping in nanoseconds
+   */
+  public void record(long rows, long nanos) {
+    this.rows.add(rows);
+    this.nanos.add(nanos);
+  }
+
+  /**
+   * Resets counters of the table.
+   */
+  public void reset() {
+    rows.reset();
+    nanos.reset();
+  }
+
+  /**
+   * Returns qualified name of the table.
+   *
+   * @return qualified name of the table
+   */
+  public String getTable() {
+    return table;
+  }
+
+  /**
+   * Returns count of the mapped rows, entities and records are counted.
+   *
+   * @return count of the mapped rows
+   */
+  public long getRows() {
+    return rows.sum();
+  }
+
+  /**
+   * Returns time of the mapping.
+   *
+   * @return time of the mapping in nanoseconds
+   */
+  public long getNanos() {
+    return nanos.sum();
+  }
+
+  /**
+   * Returns invocations of the converters, each mapped row invokes converters of all converted
+   * columns once.
+   *
+   * @return invocations of the converters
+   */
+  public long getConverterInvocations() {
+    return getRows() * converters;
+  }
+
+  @Override
+  public String toString() {
+    return String.join(
+        "",
+        table,
+        ": rows=", Long.toString(getRows()),
+        ", nanos=", Long.toString(getNanos()),
+        ", converters=", Long.toString(getConverterInvocations())
+    );
+  }
+}
@@ -16,14 +16,32 @@
 
 package io.github.devastool.entity2jooq.annotation.type.converter;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
- * Converter for converting strings to specific enums.
+ * Converter for converting strings to specific enums. Constants of the enum are resolved once,
+ * small enums are looked up by scanning of the names array, large enums by the names map.
+ * Instances are immutable, use {@link #of(Class)} to share the converter of the enum.
  *
  * @param <To> converter output type
  * @author Andrey_Yurzanov
  * @since 1.0.0
  */
 public class EnumConverter<To extends Enum<To>> extends ParameterizableConverter<String, To> {
+  private final To[] constants;
+  private final String[] names;
+  private final Map<String, To> byName;
+
+  private static final int SCAN_LIMIT = 16;
+  private static final ClassValue<EnumConverter<?>> CONVERTERS = new ClassValue<>() {
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected EnumConverter<?> computeValue(Class<?> type) {
+      return new EnumConverter(type);
+    }
+  };
+
   /**
    * Constructs new instance of {@link EnumConverter}.
    *
@@ -31,20 +49,65 @@ public class EnumConverter<To extends Enum<To>> extends ParameterizableConverter
    */
   public EnumConverter(Class<To> toType) {
     super(toType);
+
+    constants = toType.getEnumConstants();
+    names = new String[constants.length];
+    for (int i = 0; i < constants.length; i++) {
+      names[i] = constants[i].name();
+    }
+
+    if (constants.length > SCAN_LIMIT) {
+      byName = new HashMap<>();
+      for (To constant : constants) {
+        byName.put(constant.name(), constant);
+      }
+    } else {
+      byName = null;
+    }
+  }
+
+  /**
+   * Returns shared instance of {@link EnumConverter} for the enum.
+   *
+   * @param toType converter output type
+   * @param <To>   converter output type
+   * @return shared instance of the converter
+   */
+  @SuppressWarnings("unchecked")
+  public static <To extends Enum<To>> EnumConverter<To> of(Class<To> toType) {
+    return (EnumConverter<To>) CONVERTERS.get(toType);
   }
 
   @Override
   public To from(String value) {
-    return To.valueOf(toType, value);
+    if (value == null) {
+      return null;
+    }
+
+    if (byName == null) {
+      for (int i = 0; i < names.length; i++) {
+        if (names[i].equals(value)) {
+          return constants[i];
+        }
+      }
+    } else {
+      To constant = byName.get(value);
+      if (constant != null) {
+        return constant;
+      }
+    }
+    throw new IllegalArgumentException(
+        String.join("", "No enum constant: [", toType.getCanonicalName(), ".", value, "]")
+    );
   }
 
   @Override
   public String to(To value) {
-    return value.name();
+    return value == null ? null : value.name();
   }
 
   @Override
   public Class<String> fromType() {
     return String.class;
   }
-}
\ No newline at end of file
+}
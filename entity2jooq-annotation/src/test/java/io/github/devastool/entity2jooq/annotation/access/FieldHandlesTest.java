@@ -0,0 +1,61 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.annotation.access;
+
+import java.lang.invoke.VarHandle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link FieldHandles}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class FieldHandlesTest {
+  private static final String FIELD_NAME = "value";
+  private static final String UNKNOWN_NAME = "unknown";
+
+  @Test
+  void findTest() {
+    VarHandle handle = FieldHandles.find(TestHolder.class, FIELD_NAME, String.class);
+
+    TestHolder holder = new TestHolder();
+    handle.set(holder, FIELD_NAME);
+    Assertions.assertEquals(FIELD_NAME, (String) handle.get(holder));
+  }
+
+  @Test
+  void findUnknownTest() {
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () -> FieldHandles.find(TestHolder.class, UNKNOWN_NAME, String.class)
+    );
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () -> FieldHandles.find(TestHolder.class, FIELD_NAME, Integer.class)
+    );
+  }
+
+  /**
+   * Holder of the private field.
+   *
+   * @author Andrey_Yurzanov
+   */
+  private static class TestHolder {
+    private String value;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.annotation.mapping;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link EntityMapperProvider}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class EntityMapperProviderTest {
+  private static final TestTable TABLE = new TestTable();
+  private static final String VALUE = "value";
+
+  private AtomicInteger mapped;
+  private AtomicInteger unmapped;
+  private DSLContext context;
+
+  @BeforeEach
+  void init() {
+    mapped = new AtomicInteger();
+    unmapped = new AtomicInteger();
+
+    EntityMapperProvider provider = new EntityMapperProvider();
+    provider.register(
+        TestBean.class,
+        TABLE,
+        record -> {
+          mapped.incrementAndGet();
+          TestBean bean = new TestBean();
+          bean.name = record.get(TABLE.NAME);
+          return bean;
+        },
+        bean -> {
+          unmapped.incrementAndGet();
+          Record record = DSL.using(new DefaultConfiguration()).newRecord(TABLE.NAME);
+          record.set(TABLE.NAME, bean.name);
+          return record;
+        }
+    );
+    context = DSL.using(provider.applyTo(new DefaultConfiguration()));
+  }
+
+  @Test
+  void provideMapperTest() {
+    Record record = context.newRecord(TABLE);
+    record.set(TABLE.NAME, VALUE);
+
+    Assertions.assertEquals(VALUE, record.into(TestBean.class).name);
+    Assertions.assertEquals(1, mapped.get());
+  }
+
+  @Test
+  void provideDefaultMapperTest() {
+    Record record = context.newRecord(DSL.field(DSL.name(VALUE), String.class));
+    record.set(DSL.field(DSL.name(VALUE), String.class), VALUE);
+
+    Assertions.assertNull(record.into(TestBean.class).name);
+    Assertions.assertEquals(0, mapped.get());
+  }
+
+  @Test
+  void provideUnmapperTest() {
+    TestBean bean = new TestBean();
+    bean.name = VALUE;
+
+    Assertions.assertEquals(VALUE, context.newRecord(TABLE, bean).get(TABLE.NAME));
+    Assertions.assertEquals(1, unmapped.get());
+  }
+
+  /**
+   * Bean of the test table.
+   *
+   * @author Andrey_Yurzanov
+   */
+  public static class TestBean {
+    public String name;
+  }
+
+  /**
+   * Test table with single field.
+   *
+   * @author Andrey_Yurzanov
+   */
+  private static class TestTable extends TableImpl<Record> {
+    private final TableField<Record, String> NAME = createField(
+        DSL.name("name"),
+        SQLDataType.VARCHAR,
+        this,
+        ""
+    );
+
+    /**
+     * Constructs new instance of {@link TestTable}.
+     */
+    private TestTable() {
+      super(DSL.name("test_table"));
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.annotation.mapping;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link MappingMetrics}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class MappingMetricsTest {
+  private static final String TABLE = "test_schema.mapping_metrics_table";
+
+  @Test
+  void recordTest() {
+    MappingMetrics metrics = MappingMetrics.register(TABLE, 2);
+    Assertions.assertSame(metrics, MappingMetrics.register(TABLE, 3));
+    Assertions.assertSame(metrics, MappingMetrics.find(TABLE).orElseThrow());
+    Assertions.assertSame(metrics, MappingMetrics.getAll().get(TABLE));
+    Assertions.assertEquals(TABLE, metrics.getTable());
+
+    metrics.record(1, 10);
+    metrics.record(3, 20);
+    Assertions.assertEquals(4, metrics.getRows());
+    Assertions.assertEquals(30, metrics.getNanos());
+    Assertions.assertEquals(8, metrics.getConverterInvocations());
+    Assertions.assertEquals(TABLE + ": rows=4, nanos=30, converters=8", metrics.toString());
+
+    metrics.reset();
+    Assertions.assertEquals(0, metrics.getRows());
+    Assertions.assertEquals(0, metrics.getNanos());
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.annotation.type.converter;
+
+import java.time.DayOfWeek;
+import java.time.temporal.ChronoField;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link EnumConverter}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class EnumConverterTest {
+  private static final String UNKNOWN_NAME = "UNKNOWN";
+
+  @Test
+  void fromTest() {
+    EnumConverter<DayOfWeek> converter = new EnumConverter<>(DayOfWeek.class);
+    for (DayOfWeek day : DayOfWeek.values()) {
+      Assertions.assertEquals(day, converter.from(day.name()));
+    }
+    Assertions.assertNull(converter.from(null));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> converter.from(UNKNOWN_NAME));
+  }
+
+  @Test
+  void fromLargeEnumTest() {
+    EnumConverter<ChronoField> converter = new EnumConverter<>(ChronoField.class);
+    for (ChronoField field : ChronoField.values()) {
+      Assertions.assertEquals(field, converter.from(field.name()));
+    }
+    Assertions.assertNull(converter.from(null));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> converter.from(UNKNOWN_NAME));
+  }
+
+  @Test
+  void toTest() {
+    EnumConverter<DayOfWeek> converter = new EnumConverter<>(DayOfWeek.class);
+    Assertions.assertEquals(DayOfWeek.MONDAY.name(), converter.to(DayOfWeek.MONDAY));
+    Assertions.assertNull(converter.to(null));
+  }
+
+  @Test
+  void ofTest() {
+    EnumConverter<DayOfWeek> converter = EnumConverter.of(DayOfWeek.class);
+    Assertions.assertSame(converter, EnumConverter.of(DayOfWeek.class));
+    Assertions.assertEquals(DayOfWeek.class, converter.toType());
+    Assertions.assertEquals(String.class, converter.fromType());
+  }
+}
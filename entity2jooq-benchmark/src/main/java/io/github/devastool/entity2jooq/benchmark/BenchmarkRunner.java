@@ -0,0 +1,59 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runner of the benchmarks, it accepts options of JMH and always adds GC profiler, so results
+ * contain allocation rate (gc.alloc.rate.norm) next to throughput. All benchmarks of the module are
+ * run when benchmarks are not specified.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public final class BenchmarkRunner {
+  /**
+   * Constructs new instance of {@link BenchmarkRunner}.
+   */
+  private BenchmarkRunner() {
+  }
+
+  /**
+   * Runs the benchmarks, example: java -jar target/benchmarks.jar ToEntityBenchmark -p rows=1.
+   *
+   * @param args options of JMH
+   * @throws CommandLineOptionException when options are incorrect
+   * @throws RunnerException            when running of the benchmarks fails
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    CommandLineOptions options = new CommandLineOptions(args);
+    ChainedOptionsBuilder builder = new OptionsBuilder()
+        .parent(options)
+        .addProfiler(GCProfiler.class);
+    if (options.getIncludes().isEmpty()) {
+      builder.include(BenchmarkRunner.class.getPackageName() + ".*");
+    }
+    new Runner(builder.build()).run();
+  }
+}
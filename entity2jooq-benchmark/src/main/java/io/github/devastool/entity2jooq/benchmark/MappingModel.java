@@ -0,0 +1,278 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.benchmark;
+
+import static org.jooq.generated.enums.Tables.TEST_ENTITY_ENUM;
+import static org.jooq.generated.test_inherit_schema.Tables.TEST_INHERIT_ENTITY;
+import static org.jooq.generated.test_schema.Tables.TEST_EMBEDDED_ENTITY;
+import static org.jooq.generated.test_schema.Tables.TEST_ENTITY;
+
+import io.github.devastool.entity2jooq.example.TestEntity;
+import io.github.devastool.entity2jooq.example.TestInheritEntity;
+import io.github.devastool.entity2jooq.example.embedded.TestEmbeddedEntity;
+import io.github.devastool.entity2jooq.example.enums.TestEntityEnum;
+import io.github.devastool.entity2jooq.example.enums.TestEnum;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+/**
+ * Model of the benchmarks: table of the example entity, generated mapping methods of the table and
+ * factory of the entities. Records are inserted to in-memory H2 database and fetched by Jooq, so
+ * the benchmarks map the same records as applications.
+ *
+ * @param <E> type of the entity
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public final class MappingModel<E> {
+  private final Table<Record> table;
+  private final Class<E> type;
+  private final IntFunction<E> factory;
+  private final Function<Record, E> toEntity;
+  private final Function<Result<Record>, List<E>> toEntities;
+  private final Function<E, Record> toRecord;
+  private final Function<Collection<E>, List<Record>> toRecords;
+
+  private static final String DB_URL = "jdbc:h2:mem:";
+  private static final String DB_OPTIONS = ";DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+  private static final String VALUE_PREFIX = "value_";
+
+  /**
+   * Constructs new instance of {@link MappingModel}.
+   *
+   * @param table      table of the entity
+   * @param type       class of the entity
+   * @param factory    factory of the entities by index
+   * @param toEntity   generated mapping of the record to the entity
+   * @param toEntities generated mapping of the result to the entities
+   * @param toRecord   generated mapping of the entity to the record
+   * @param toRecords  generated mapping of the entities to the records
+   */
+  private MappingModel(
+      Table<Record> table,
+      Class<E> type,
+      IntFunction<E> factory,
+      Function<Record, E> toEntity,
+      Function<Result<Record>, List<E>> toEntities,
+      Function<E, Record> toRecord,
+      Function<Collection<E>, List<Record>> toRecords
+  ) {
+    this.table = table;
+    this.type = type;
+    this.factory = factory;
+    this.toEntity = toEntity;
+    this.toEntities = toEntities;
+    this.toRecord = toRecord;
+    this.toRecords = toRecords;
+  }
+
+  /**
+   * Returns model by name, names are values of 'model' parameter of the benchmarks.
+   *
+   * @param name name of the model: entity, inherit, embedded, enum or converter
+   * @return model of the benchmarks
+   * @throws IllegalArgumentException when the model is unknown
+   */
+  @SuppressWarnings("unchecked")
+  public static MappingModel<Object> of(String name) throws IllegalArgumentException {
+    MappingModel<?> model;
+    switch (name) {
+      case "entity":
+        model = new MappingModel<>(
+            TEST_ENTITY,
+            TestEntity.class,
+            index -> new TestEntity(),
+            TEST_ENTITY::toEntity,
+            TEST_ENTITY::toEntities,
+            TEST_ENTITY::toRecord,
+            TEST_ENTITY::toRecords
+        );
+        break;
+      case "inherit":
+        model = new MappingModel<>(
+            TEST_INHERIT_ENTITY,
+            TestInheritEntity.class,
+            index -> new TestInheritEntity(VALUE_PREFIX + index),
+            TEST_INHERIT_ENTITY::toEntity,
+            TEST_INHERIT_ENTITY::toEntities,
+            TEST_INHERIT_ENTITY::toRecord,
+            TEST_INHERIT_ENTITY::toRecords
+        );
+        break;
+      case "embedded":
+        model = new MappingModel<>(
+            TEST_EMBEDDED_ENTITY,
+            TestEmbeddedEntity.class,
+            index -> new TestEmbeddedEntity(
+                VALUE_PREFIX + index,
+                VALUE_PREFIX + (index + 1),
+                VALUE_PREFIX + (index + 2)
+            ),
+            TEST_EMBEDDED_ENTITY::toEntity,
+            TEST_EMBEDDED_ENTITY::toEntities,
+            TEST_EMBEDDED_ENTITY::toRecord,
+            TEST_EMBEDDED_ENTITY::toRecords
+        );
+        break;
+      case "enum":
+        TestEnum[] constants = TestEnum.values();
+        model = new MappingModel<>(
+            TEST_ENTITY_ENUM,
+            TestEntityEnum.class,
+            index -> new TestEntityEnum(index, constants[index % constants.length]),
+            TEST_ENTITY_ENUM::toEntity,
+            TEST_ENTITY_ENUM::toEntities,
+            TEST_ENTITY_ENUM::toRecord,
+            TEST_ENTITY_ENUM::toRecords
+        );
+        break;
+      case "converter":
+        org.jooq.generated.converter.tables.TestEntity converter =
+            org.jooq.generated.converter.Tables.TEST_ENTITY;
+        model = new MappingModel<>(
+            converter,
+            io.github.devastool.entity2jooq.example.converter.TestEntity.class,
+            io.github.devastool.entity2jooq.example.converter.TestEntity::new,
+            converter::toEntity,
+            converter::toEntities,
+            converter::toRecord,
+            converter::toRecords
+        );
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown model: [" + name + "]");
+    }
+    return (MappingModel<Object>) model;
+  }
+
+  /**
+   * Returns table of the entity.
+   *
+   * @return table of the entity
+   */
+  public Table<Record> getTable() {
+    return table;
+  }
+
+  /**
+   * Returns class of the entity.
+   *
+   * @return class of the entity
+   */
+  public Class<E> getType() {
+    return type;
+  }
+
+  /**
+   * Maps the record to the entity by the generated method.
+   *
+   * @param record record to map
+   * @return instance of the entity
+   */
+  public E toEntity(Record record) {
+    return toEntity.apply(record);
+  }
+
+  /**
+   * Maps the result to the entities by the generated method.
+   *
+   * @param result result to map
+   * @return instances of the entity
+   */
+  public List<E> toEntities(Result<Record> result) {
+    return toEntities.apply(result);
+  }
+
+  /**
+   * Maps the entity to the record by the generated method.
+   *
+   * @param entity entity to map
+   * @return record of the entity
+   */
+  public Record toRecord(E entity) {
+    return toRecord.apply(entity);
+  }
+
+  /**
+   * Maps the entities to the records by the generated method.
+   *
+   * @param entities entities to map
+   * @return records of the entities
+   */
+  public List<Record> toRecords(Collection<E> entities) {
+    return toRecords.apply(entities);
+  }
+
+  /**
+   * Creates new entities with distinct values.
+   *
+   * @param count count of the entities
+   * @return created entities
+   */
+  public List<E> newEntities(int count) {
+    List<E> entities = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      entities.add(factory.apply(i));
+    }
+    return entities;
+  }
+
+  /**
+   * Inserts new entities to in-memory database and fetches their records.
+   *
+   * @param count         count of the records
+   * @param configuration configuration of the fetched records
+   * @return fetched records, they are attached to the configuration
+   * @throws SQLException when access to the database fails
+   */
+  public Result<Record> fetch(int count, Configuration configuration) throws SQLException {
+    String url = DB_URL + table.getName() + DB_OPTIONS;
+    try (Connection connection = DriverManager.getConnection(url)) {
+      DSLContext context = DSL.using(configuration.derive(connection).derive(SQLDialect.H2));
+      context
+          .createSchemaIfNotExists(table.getSchema())
+          .execute();
+      context
+          .createTableIfNotExists(table)
+          .columns(table.fields())
+          .execute();
+
+      for (Record record : toRecords(newEntities(count))) {
+        context
+            .insertInto(table)
+            .set(record)
+            .execute();
+      }
+      return context
+          .selectFrom(table)
+          .fetch();
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.benchmark;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.generated.EntityMappers;
+import org.jooq.impl.DefaultConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of mapping of the records to the entities. Generated 'toEntity' and 'toEntities'
+ * methods are compared with 'into' methods of Jooq, they use {@link
+ * org.jooq.impl.DefaultRecordMapper} by default and the generated methods with
+ * {@link EntityMappers}.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToEntityBenchmark {
+  @Param({"entity", "inherit", "embedded", "enum", "converter"})
+  public String model;
+
+  @Param({"1000"})
+  public int rows;
+
+  private MappingModel<Object> mapping;
+  private Result<Record> result;
+  private Result<Record> mappedResult;
+  private Record record;
+  private Record mappedRecord;
+
+  /**
+   * Fetches records of the model by default configuration and configuration with generated
+   * mappers.
+   *
+   * @throws SQLException when access to the database fails
+   */
+  @Setup
+  public void setup() throws SQLException {
+    mapping = MappingModel.of(model);
+    result = mapping.fetch(rows, new DefaultConfiguration());
+    mappedResult = mapping.fetch(rows, new EntityMappers().applyTo(new DefaultConfiguration()));
+    record = result.get(0);
+    mappedRecord = mappedResult.get(0);
+  }
+
+  /**
+   * Maps single record by the generated method.
+   *
+   * @return instance of the entity
+   */
+  @Benchmark
+  public Object generatedToEntity() {
+    return mapping.toEntity(record);
+  }
+
+  /**
+   * Maps single record by {@link org.jooq.impl.DefaultRecordMapper}.
+   *
+   * @return instance of the entity
+   */
+  @Benchmark
+  public Object defaultToEntity() {
+    return record.into(mapping.getType());
+  }
+
+  /**
+   * Maps single record by Jooq with {@link EntityMappers}.
+   *
+   * @return instance of the entity
+   */
+  @Benchmark
+  public Object providerToEntity() {
+    return mappedRecord.into(mapping.getType());
+  }
+
+  /**
+   * Maps all records by the generated method.
+   *
+   * @return instances of the entity
+   */
+  @Benchmark
+  public List<Object> generatedToEntities() {
+    return mapping.toEntities(result);
+  }
+
+  /**
+   * Maps all records by {@link org.jooq.impl.DefaultRecordMapper}.
+   *
+   * @return instances of the entity
+   */
+  @Benchmark
+  public List<Object> defaultToEntities() {
+    return result.into(mapping.getType());
+  }
+
+  /**
+   * Maps all records by Jooq with {@link EntityMappers}.
+   *
+   * @return instances of the entity
+   */
+  @Benchmark
+  public List<Object> providerToEntities() {
+    return mappedResult.into(mapping.getType());
+  }
+}
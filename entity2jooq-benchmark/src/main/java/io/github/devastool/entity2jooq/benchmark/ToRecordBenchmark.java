@@ -0,0 +1,135 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.generated.EntityMappers;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of mapping of the entities to the records. Generated 'toRecord' and 'toRecords'
+ * methods are compared with 'newRecord' method of Jooq, it uses
+ * {@link org.jooq.impl.DefaultRecordUnmapper} by default and the generated methods with
+ * {@link EntityMappers}.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToRecordBenchmark {
+  @Param({"entity", "inherit", "embedded", "enum", "converter"})
+  public String model;
+
+  @Param({"1000"})
+  public int rows;
+
+  private MappingModel<Object> mapping;
+  private List<Object> entities;
+  private Object entity;
+  private DSLContext context;
+  private DSLContext mappedContext;
+
+  /**
+   * Creates entities of the model and contexts with default and generated mappers.
+   */
+  @Setup
+  public void setup() {
+    mapping = MappingModel.of(model);
+    entities = mapping.newEntities(rows);
+    entity = entities.get(0);
+    context = DSL.using(SQLDialect.H2);
+    mappedContext = DSL.using(
+        new EntityMappers().applyTo(new DefaultConfiguration().set(SQLDialect.H2))
+    );
+  }
+
+  /**
+   * Maps single entity by the generated method.
+   *
+   * @return record of the entity
+   */
+  @Benchmark
+  public Record generatedToRecord() {
+    return mapping.toRecord(entity);
+  }
+
+  /**
+   * Maps single entity by {@link org.jooq.impl.DefaultRecordUnmapper}.
+   *
+   * @return record of the entity
+   */
+  @Benchmark
+  public Record defaultToRecord() {
+    return context.newRecord(mapping.getTable(), entity);
+  }
+
+  /**
+   * Maps single entity by Jooq with {@link EntityMappers}.
+   *
+   * @return record of the entity
+   */
+  @Benchmark
+  public Record providerToRecord() {
+    return mappedContext.newRecord(mapping.getTable(), entity);
+  }
+
+  /**
+   * Maps all entities by the generated method.
+   *
+   * @return records of the entities
+   */
+  @Benchmark
+  public List<Record> generatedToRecords() {
+    return mapping.toRecords(entities);
+  }
+
+  /**
+   * Maps all entities by {@link org.jooq.impl.DefaultRecordUnmapper}.
+   *
+   * @return records of the entities
+   */
+  @Benchmark
+  public List<Record> defaultToRecords() {
+    List<Record> records = new ArrayList<>(entities.size());
+    for (Object value : entities) {
+      records.add(context.newRecord(mapping.getTable(), value));
+    }
+    return records;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.benchmark.codegen;
+
+import io.github.devastool.entity2jooq.annotation.Table;
+import io.github.devastool.entity2jooq.codegen.filesystem.classload.ClassFile;
+import io.github.devastool.entity2jooq.codegen.filesystem.classload.ClassLoaderContext;
+import io.github.devastool.entity2jooq.codegen.filesystem.classload.ClassScanIndex;
+import io.github.devastool.entity2jooq.codegen.filesystem.classload.PathClassLoader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of searching of the entities: scanning of the class files by
+ * {@link ClassLoaderContext} without and with {@link ClassScanIndex} and loading of the entities
+ * by {@link PathClassLoader}.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassScanBenchmark {
+  @Param({"100", "1000", "10000"})
+  public int size;
+
+  @Param({"1", "4"})
+  public int parallelism;
+
+  private EntityCorpus corpus;
+  private ClassLoaderContext context;
+  private Path index;
+
+  /**
+   * Creates the corpus, scans it once for the loading and fills the index of the scanning.
+   *
+   * @throws IOException when creation of the corpus fails
+   */
+  @Setup
+  public void setup() throws IOException {
+    corpus = EntityCorpus.create(size);
+    context = new ClassLoaderContext(parallelism);
+    context.addRoot(corpus.getClasses());
+
+    index = corpus.createDirectory("index").resolve("scan-index");
+    new ClassLoaderContext(parallelism, ClassScanIndex.load(index)).addRoot(corpus.getClasses());
+  }
+
+  /**
+   * Removes the corpus.
+   *
+   * @throws IOException when removing of the corpus fails
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    corpus.close();
+  }
+
+  /**
+   * Scans the class files and reads their meta-information.
+   *
+   * @return scanned class files
+   */
+  @Benchmark
+  public ClassLoaderContext scan() {
+    ClassLoaderContext scanned = new ClassLoaderContext(parallelism);
+    scanned.addRoot(corpus.getClasses());
+    return scanned;
+  }
+
+  /**
+   * Scans the class files, meta-information is taken from the index.
+   *
+   * @return scanned class files
+   */
+  @Benchmark
+  public ClassLoaderContext scanIndexed() {
+    ClassLoaderContext scanned = new ClassLoaderContext(parallelism, ClassScanIndex.load(index));
+    scanned.addRoot(corpus.getClasses());
+    return scanned;
+  }
+
+  /**
+   * Loads the entities by new loader, like the plugin does after the scanning.
+   *
+   * @param blackhole consumer of the loaded classes
+   * @throws IOException            when closing of the loader fails
+   * @throws ClassNotFoundException when loading of the entity fails
+   */
+  @Benchmark
+  public void load(Blackhole blackhole) throws IOException, ClassNotFoundException {
+    try (PathClassLoader loader = new PathClassLoader(context)) {
+      for (ClassFile element : context) {
+        if (element.getMetadata().isAnnotated(Table.class)) {
+          blackhole.consume(loader.loadClass(element));
+        }
+      }
+    }
+  }
+}
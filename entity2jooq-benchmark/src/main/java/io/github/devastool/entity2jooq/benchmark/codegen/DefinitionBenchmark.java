@@ -0,0 +1,205 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.benchmark.codegen;
+
+import io.github.devastool.entity2jooq.annotation.naming.SnakeCaseStrategy;
+import io.github.devastool.entity2jooq.annotation.type.converter.EnumConverter;
+import io.github.devastool.entity2jooq.codegen.Entity2JooqDatabase;
+import io.github.devastool.entity2jooq.codegen.definition.EntityColumnDefinition;
+import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.definition.factory.EntityColumnDefinitionFactory;
+import io.github.devastool.entity2jooq.codegen.definition.factory.EntityDataTypeDefinitionFactory;
+import io.github.devastool.entity2jooq.codegen.definition.factory.EntitySchemaDefinitionFactory;
+import io.github.devastool.entity2jooq.codegen.definition.factory.EntityTableDefinitionFactory;
+import io.github.devastool.entity2jooq.codegen.definition.factory.FactoryContext;
+import io.github.devastool.entity2jooq.codegen.definition.type.EntityDataTypeDefinition;
+import io.github.devastool.entity2jooq.codegen.filesystem.classload.ClassLoaderContext;
+import io.github.devastool.entity2jooq.codegen.filesystem.classload.PathClassLoader;
+import io.github.devastool.entity2jooq.codegen.properties.CodegenProperties;
+import io.github.devastool.entity2jooq.codegen.properties.CodegenProperty;
+import io.github.devastool.entity2jooq.codegen.type.RouteTypeMapper;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jooq.SQLDialect;
+import org.jooq.meta.ColumnDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of building of the definitions by loaded entities: building of the tables by
+ * {@link EntityTableDefinitionFactory}, lookups of SQL types by {@link RouteTypeMapper} and
+ * resolving of the names by {@link SnakeCaseStrategy}. Lookups and names are taken from the
+ * entities, so they are the same as in the building of the tables.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefinitionBenchmark {
+  @Param({"100", "1000", "10000"})
+  public int size;
+
+  private EntityCorpus corpus;
+  private PathClassLoader loader;
+  private List<Class<?>> entities;
+  private CodegenProperties properties;
+  private List<Class<?>> columnTypes;
+  private List<String> names;
+  private final RouteTypeMapper mapper = new RouteTypeMapper();
+  private final SnakeCaseStrategy strategy = new SnakeCaseStrategy();
+
+  private static final List<String> DIALECTS = List.of(
+      SQLDialect.H2.getName(),
+      SQLDialect.HSQLDB.getName(),
+      SQLDialect.MARIADB.getName(),
+      SQLDialect.MYSQL.getName(),
+      SQLDialect.POSTGRES.getName()
+  );
+
+  /**
+   * Creates and loads the corpus, collects types of the columns and names of the entities.
+   *
+   * @throws IOException            when creation of the corpus fails
+   * @throws ClassNotFoundException when loading of the entity fails
+   */
+  @Setup
+  public void setup() throws IOException, ClassNotFoundException {
+    corpus = EntityCorpus.create(size);
+    ClassLoaderContext context = new ClassLoaderContext();
+    context.addRoot(corpus.getClasses());
+    loader = new PathClassLoader(context);
+
+    entities = new ArrayList<>(size);
+    for (String className : corpus.getClassNames()) {
+      entities.add(loader.loadClass(className));
+    }
+    properties = new CodegenProperties(Map.of(
+        CodegenProperty.DATABASE, new Entity2JooqDatabase(),
+        CodegenProperty.DIALECT, SQLDialect.POSTGRES.getName()
+    ));
+
+    columnTypes = new ArrayList<>();
+    for (EntityTableDefinition table : build(getTableFactory())) {
+      for (ColumnDefinition column : table.getColumns()) {
+        // Converted columns are looked up by type of the converter
+        EntityDataTypeDefinition type = (EntityDataTypeDefinition) column.getType();
+        if (type.getConverterDefinition() == null) {
+          columnTypes.add(((EntityColumnDefinition) column).getFieldDetails().getProcessedType());
+        }
+      }
+    }
+
+    names = new ArrayList<>();
+    for (Class<?> entity : entities) {
+      names.add(entity.getSimpleName());
+      for (Class<?> type = entity; type != null; type = type.getSuperclass()) {
+        for (Field field : type.getDeclaredFields()) {
+          names.add(field.getName());
+        }
+      }
+    }
+  }
+
+  /**
+   * Closes the loader and removes the corpus.
+   *
+   * @throws IOException when removing of the corpus fails
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    loader.close();
+    corpus.close();
+  }
+
+  /**
+   * Builds the tables by new factories, like the plugin does for each build.
+   *
+   * @return built tables
+   */
+  @Benchmark
+  public List<EntityTableDefinition> buildTables() {
+    return build(getTableFactory());
+  }
+
+  /**
+   * Looks up SQL types of the columns for the dialects of the examples.
+   *
+   * @param blackhole consumer of the SQL types
+   */
+  @Benchmark
+  public void mapTypes(Blackhole blackhole) {
+    for (String dialect : DIALECTS) {
+      for (Class<?> type : columnTypes) {
+        blackhole.consume(mapper.getSqlType(dialect, type));
+      }
+    }
+  }
+
+  /**
+   * Resolves names of the entities and their fields.
+   *
+   * @param blackhole consumer of the resolved names
+   */
+  @Benchmark
+  public void resolveNames(Blackhole blackhole) {
+    for (String name : names) {
+      blackhole.consume(strategy.resolve(name));
+    }
+  }
+
+  // Builds the tables of all entities of the corpus
+  private List<EntityTableDefinition> build(EntityTableDefinitionFactory factory) {
+    List<EntityTableDefinition> tables = new ArrayList<>(entities.size());
+    for (Class<?> entity : entities) {
+      tables.add(factory.build(entity, properties));
+    }
+    return tables;
+  }
+
+  // Returns new factory of the tables, factories are created like by the database
+  private static EntityTableDefinitionFactory getTableFactory() {
+    FactoryContext context = new FactoryContext();
+    return new EntityTableDefinitionFactory(
+        new EntitySchemaDefinitionFactory(context),
+        new EntityColumnDefinitionFactory(
+            new EntityDataTypeDefinitionFactory(context, Map.of(Enum.class, EnumConverter.class)),
+            context
+        ),
+        context
+    );
+  }
+}
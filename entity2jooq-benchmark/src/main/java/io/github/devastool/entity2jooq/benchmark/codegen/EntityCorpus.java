@@ -0,0 +1,293 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.benchmark.codegen;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Synthetic corpus of the entities for benchmarks of the code generation. Sources of the entities
+ * are generated and compiled to temporary directory, the directory is the same as output directory
+ * of a project for the plugin. Entities of the corpus have columns of common types, enum columns,
+ * embedded columns and inherited columns.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public final class EntityCorpus implements Closeable {
+  private final int size;
+  private final Path directory;
+  private final Path classes;
+  private final Path testClasses;
+  private final List<String> classNames;
+
+  private static final String PACKAGE = "corpus";
+  private static final String ENTITY_PREFIX = "CorpusEntity";
+  private static final int PACKAGE_SIZE = 100;
+  private static final int SCHEMAS = 10;
+  private static final int INHERITANCE_RATE = 4;
+  private static final int EMBEDDED_RATE = 3;
+  private static final String NEW_LINE = "\n";
+  private static final String SOURCE_EXT = ".java";
+  private static final String CLASSPATH = "java.class.path";
+
+  private static final String STATUS = String.join(
+      NEW_LINE,
+      "package corpus;",
+      "public enum CorpusStatus { NEW, ACTIVE, CLOSED }"
+  );
+  private static final String PARENT = String.join(
+      NEW_LINE,
+      "package corpus;",
+      "public class CorpusParent {",
+      "  private Long id;",
+      "  private java.time.LocalDateTime createdAt;",
+      "}"
+  );
+  private static final String LOCATION = String.join(
+      NEW_LINE,
+      "package corpus;",
+      "@io.github.devastool.entity2jooq.annotation.Embedded",
+      "public class CorpusLocation {",
+      "  private String city;",
+      "  private String zip;",
+      "}"
+  );
+
+  /**
+   * Constructs new instance of {@link EntityCorpus}.
+   *
+   * @param size        count of the entities
+   * @param directory   temporary directory of the corpus
+   * @param classes     directory of the compiled entities
+   * @param testClasses empty directory, the plugin scans test classes too
+   * @param classNames  names of the entities
+   */
+  private EntityCorpus(
+      int size,
+      Path directory,
+      Path classes,
+      Path testClasses,
+      List<String> classNames
+  ) {
+    this.size = size;
+    this.directory = directory;
+    this.classes = classes;
+    this.testClasses = testClasses;
+    this.classNames = classNames;
+  }
+
+  /**
+   * Generates and compiles the corpus, compilation of large corpus takes tens of seconds, so the
+   * corpus should be created once per trial.
+   *
+   * @param size count of the entities
+   * @return created corpus
+   * @throws IOException when writing of the sources fails
+   * @throws IllegalStateException when the compiler is not available or compilation fails
+   */
+  public static EntityCorpus create(int size) throws IOException, IllegalStateException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      throw new IllegalStateException("Java compiler is not available, JDK is required");
+    }
+
+    Path directory = Files.createTempDirectory("entity2jooq-corpus");
+    Path sources = Files.createDirectories(directory.resolve("sources"));
+    Path classes = Files.createDirectories(directory.resolve("classes"));
+
+    List<Path> files = new ArrayList<>();
+    files.add(write(sources, PACKAGE, "CorpusStatus", STATUS));
+    files.add(write(sources, PACKAGE, "CorpusParent", PARENT));
+    files.add(write(sources, PACKAGE, "CorpusLocation", LOCATION));
+
+    List<String> classNames = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      String packageName = getPackage(i);
+      String simpleName = ENTITY_PREFIX + i;
+      files.add(write(sources, packageName, simpleName, getEntity(i)));
+      classNames.add(packageName + "." + simpleName);
+    }
+
+    try (StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, null)) {
+      Iterable<? extends JavaFileObject> units = manager.getJavaFileObjectsFromPaths(files);
+      List<String> options = List.of(
+          "-d", classes.toString(),
+          "-cp", System.getProperty(CLASSPATH),
+          "-proc:none",
+          "-nowarn"
+      );
+      if (!compiler.getTask(null, manager, null, options, null, units).call()) {
+        throw new IllegalStateException("Compilation of the corpus failed: [" + directory + "]");
+      }
+    }
+    return new EntityCorpus(
+        size,
+        directory,
+        classes,
+        Files.createDirectories(directory.resolve("test-classes")),
+        Collections.unmodifiableList(classNames)
+    );
+  }
+
+  /**
+   * Returns count of the entities.
+   *
+   * @return count of the entities
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Returns directory of the compiled entities.
+   *
+   * @return directory of the compiled entities
+   */
+  public Path getClasses() {
+    return classes;
+  }
+
+  /**
+   * Returns empty directory of the test classes.
+   *
+   * @return empty directory of the test classes
+   */
+  public Path getTestClasses() {
+    return testClasses;
+  }
+
+  /**
+   * Returns classpath of the corpus, it contains annotations of the entities.
+   *
+   * @return classpath of the corpus
+   */
+  public String getClasspath() {
+    return System.getProperty(CLASSPATH);
+  }
+
+  /**
+   * Returns names of the entities.
+   *
+   * @return names of the entities
+   */
+  public List<String> getClassNames() {
+    return classNames;
+  }
+
+  /**
+   * Creates new directory in the corpus directory, it is removed with the corpus.
+   *
+   * @param prefix prefix of the directory name
+   * @return created directory
+   * @throws IOException when the directory can not be created
+   */
+  public Path createDirectory(String prefix) throws IOException {
+    return Files.createTempDirectory(directory, prefix);
+  }
+
+  /**
+   * Deletes the directory with its content.
+   *
+   * @param path path of the directory
+   * @throws IOException when deleting of the directory fails
+   */
+  public void deleteDirectory(Path path) throws IOException {
+    try (Stream<Path> paths = Files.walk(path)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(EntityCorpus::delete);
+    } catch (UncheckedIOException exception) {
+      throw exception.getCause();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    deleteDirectory(directory);
+  }
+
+  // Returns package of the entity, entities are distributed between packages like in projects
+  private static String getPackage(int index) {
+    return PACKAGE + ".p" + (index / PACKAGE_SIZE);
+  }
+
+  // Returns source code of the entity, shape of the entity depends on its index
+  private static String getEntity(int index) {
+    boolean inherited = index % INHERITANCE_RATE == 0;
+    List<String> lines = new ArrayList<>();
+    lines.add("package " + getPackage(index) + ";");
+    lines.add(inherited ? "@io.github.devastool.entity2jooq.annotation.Table(inheritance = true)"
+        : "@io.github.devastool.entity2jooq.annotation.Table");
+    lines.add("@io.github.devastool.entity2jooq.annotation.Schema(\"corpus_schema_"
+        + (index % SCHEMAS) + "\")");
+    lines.add("public class " + ENTITY_PREFIX + index
+        + (inherited ? " extends corpus.CorpusParent {" : " {"));
+    if (!inherited) {
+      lines.add("  private Long id;");
+    }
+    lines.add("  private String name;");
+    lines.add("  private Integer count;");
+    lines.add("  private java.math.BigDecimal amount;");
+    lines.add("  private Boolean active;");
+    lines.add("  private java.util.UUID code;");
+    lines.add("  private java.time.LocalDate day;");
+    lines.add("  private corpus.CorpusStatus status;");
+    if (index % EMBEDDED_RATE == 0) {
+      lines.add("  private corpus.CorpusLocation location;");
+    }
+    lines.add("}");
+    return String.join(NEW_LINE, lines);
+  }
+
+  // Writes source code of the class to the package directory
+  private static Path write(
+      Path sources,
+      String packageName,
+      String simpleName,
+      String source
+  ) throws IOException {
+    Path packageDirectory = Files.createDirectories(
+        sources.resolve(packageName.replace('.', '/'))
+    );
+    return Files.writeString(
+        packageDirectory.resolve(simpleName + SOURCE_EXT),
+        source,
+        StandardCharsets.UTF_8
+    );
+  }
+
+  // Deletes file or empty directory of the corpus
+  private static void delete(Path path) {
+    try {
+      Files.delete(path);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.benchmark.codegen;
+
+import io.github.devastool.entity2jooq.codegen.Entity2JooqDatabase;
+import io.github.devastool.entity2jooq.codegen.Entity2JooqJavaGenerator;
+import io.github.devastool.entity2jooq.codegen.properties.CodegenProperty;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jooq.SQLDialect;
+import org.jooq.codegen.GenerationTool;
+import org.jooq.meta.jaxb.Configuration;
+import org.jooq.meta.jaxb.Database;
+import org.jooq.meta.jaxb.Generator;
+import org.jooq.meta.jaxb.Logging;
+import org.jooq.meta.jaxb.Property;
+import org.jooq.meta.jaxb.Target;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of full runs of {@link Entity2JooqJavaGenerator} by {@link GenerationTool}, the
+ * configuration is the same as the configuration of the plugin. Full generation writes all tables,
+ * incremental generation of the unchanged corpus takes the entities from the indexes and skips
+ * writing of the tables. Each run is measured once, generation of large corpus takes seconds.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GeneratorBenchmark {
+  @Param({"100", "1000", "10000"})
+  public int size;
+
+  @Param({"1", "4"})
+  public int parallelism;
+
+  private EntityCorpus corpus;
+  private Configuration incremental;
+
+  private static final String PACKAGE_NAME = "corpus.generated";
+
+  /**
+   * Creates the corpus and configurations of the generation, indexes of the incremental generation
+   * are filled by the first run.
+   *
+   * @throws Exception when creation of the corpus or the generation fails
+   */
+  @Setup
+  public void setup() throws Exception {
+    corpus = EntityCorpus.create(size);
+
+    Path indexes = corpus.createDirectory("index");
+    incremental = getConfiguration(
+        corpus.createDirectory("incremental"),
+        List.of(
+            getProperty(CodegenProperty.SCAN_INDEX, indexes.resolve("scan-index")),
+            getProperty(CodegenProperty.GENERATE_INDEX, indexes.resolve("generate-index"))
+        )
+    );
+    GenerationTool.generate(incremental);
+  }
+
+  /**
+   * Removes the corpus and generated sources.
+   *
+   * @throws IOException when removing of the corpus fails
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    corpus.close();
+  }
+
+  /**
+   * Generates all tables of the corpus to the empty directory.
+   *
+   * @param target target of the full generation
+   * @throws Exception when the generation fails
+   */
+  @Benchmark
+  public void generate(FullTarget target) throws Exception {
+    GenerationTool.generate(target.configuration);
+  }
+
+  /**
+   * Generates tables of the unchanged corpus with the indexes.
+   *
+   * @throws Exception when the generation fails
+   */
+  @Benchmark
+  public void generateIncremental() throws Exception {
+    GenerationTool.generate(incremental);
+  }
+
+  /**
+   * Target of the full generation, it is a new empty directory for each run. Otherwise sources of
+   * the previous run are equal to the generated sources and writing of the tables is skipped.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0.0
+   */
+  @State(Scope.Benchmark)
+  public static class FullTarget {
+    private Path directory;
+    private Configuration configuration;
+
+    /**
+     * Replaces the directory of the previous run by the new empty directory.
+     *
+     * @param benchmark state of the benchmark
+     * @throws IOException when creating or deleting of the directory fails
+     */
+    @Setup(Level.Invocation)
+    public void setup(GeneratorBenchmark benchmark) throws IOException {
+      if (directory != null) {
+        benchmark.corpus.deleteDirectory(directory);
+      }
+      directory = benchmark.corpus.createDirectory("full");
+      configuration = benchmark.getConfiguration(directory, List.of());
+    }
+  }
+
+  // Returns configuration of the generation like the plugin with additional properties
+  private Configuration getConfiguration(Path target, List<Property> additional) {
+    List<Property> properties = new ArrayList<>(List.of(
+        getProperty(CodegenProperty.CLASSES, corpus.getClasses()),
+        getProperty(CodegenProperty.TEST_CLASSES, corpus.getTestClasses()),
+        getProperty(CodegenProperty.CLASSPATH, corpus.getClasspath()),
+        getProperty(CodegenProperty.DIALECT, SQLDialect.POSTGRES.getName()),
+        getProperty(CodegenProperty.PARALLELISM, parallelism)
+    ));
+    properties.addAll(additional);
+
+    Database database = new Database();
+    database.setName(Entity2JooqDatabase.class.getCanonicalName());
+    database.setProperties(properties);
+
+    Target generateTarget = new Target();
+    generateTarget.setDirectory(target.toString());
+    generateTarget.setPackageName(PACKAGE_NAME);
+
+    Generator generator = new Generator();
+    generator.setName(Entity2JooqJavaGenerator.class.getCanonicalName());
+    generator.setDatabase(database);
+    generator.setTarget(generateTarget);
+
+    Configuration configuration = new Configuration();
+    configuration.setLogging(Logging.WARN);
+    configuration.setGenerator(generator);
+    return configuration;
+  }
+
+  // Returns property of the database by the property of the generation
+  private static Property getProperty(CodegenProperty<?> key, Object value) {
+    Property property = new Property();
+    property.setKey(key.getName());
+    property.setValue(value.toString());
+    return property;
+  }
+}
@@ -20,20 +20,39 @@ import static io.github.devastool.entity2jooq.codegen.filesystem.ExtFileVisitor.
 
 import io.github.devastool.entity2jooq.codegen.Entity2JooqDatabase;
 import io.github.devastool.entity2jooq.codegen.filesystem.ExtFileVisitor;
+import io.github.devastool.entity2jooq.codegen.generate.GeneratedSources;
+import io.github.devastool.entity2jooq.codegen.metrics.CodegenMetrics;
+import io.github.devastool.entity2jooq.codegen.metrics.PhaseMetrics;
+import io.github.devastool.entity2jooq.codegen.metrics.PhaseMetrics.Measurement;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import javax.tools.JavaCompiler;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
 import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
 import javax.tools.StandardJavaFileManager;
 import javax.tools.StandardLocation;
-import javax.tools.ToolProvider;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Build;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -54,11 +73,14 @@ import org.jooq.meta.jaxb.Property;
 @Mojo(
     name = "entity2jooq-generate",
     defaultPhase = LifecyclePhase.PROCESS_CLASSES,
-    requiresDependencyResolution = ResolutionScope.COMPILE
+    requiresDependencyResolution = ResolutionScope.COMPILE,
+    threadSafe = true
 )
 public class CodegenPlugin extends AbstractMojo {
   @Parameter(property = "project", required = true, readonly = true)
   private MavenProject project;
+  @Parameter(defaultValue = "${session}", required = true, readonly = true)
+  private MavenSession session;
   @Parameter(property = "generate")
   private Generate generate;
   @Parameter(property = "compile")
@@ -69,9 +91,25 @@ public class CodegenPlugin extends AbstractMojo {
   private static final String CLASSPATH_PROPERTY_KEY = "classpath";
   private static final String CLASSES_PROPERTY_KEY = "classes";
   private static final String TEST_CLASSES_PROPERTY_KEY = "testClasses";
+  private static final String SCAN_INDEX_PROPERTY_KEY = "scanIndex";
+  private static final String GENERATE_INDEX_PROPERTY_KEY = "generateIndex";
+  private static final String GENERATED_SOURCES_PROPERTY_KEY = "generatedSources";
+  private static final String WRITE_SOURCES_PROPERTY_KEY = "writeSources";
+  private static final String PARALLELISM_PROPERTY_KEY = "parallelism";
+  private static final String NULL_EMBEDDED_PROPERTY_KEY = "nullEmbedded";
+  private static final String CHANGED_RECORDS_PROPERTY_KEY = "changedRecords";
+  private static final String MAPPING_METRICS_PROPERTY_KEY = "mappingMetrics";
+  private static final String METRICS_PROPERTY_KEY = "metrics";
+  private static final String WRITTEN_COUNTER = "written";
+  private static final String BYTES_COUNTER = "bytes";
+  private static final String SOURCES_COUNTER = "sources";
+  private static final String JAVAC_TIME_COUNTER = "javacTime";
+  private static final long NANOS_IN_MILLI = 1_000_000L;
+  private static final double BYTES_IN_MB = 1024.0 * 1024.0;
 
   @Override
   public void execute() throws MojoExecutionException, MojoFailureException {
+    String session = UUID.randomUUID().toString();
     try {
       generate.init(project);
       compile.init(project);
@@ -79,34 +117,75 @@ public class CodegenPlugin extends AbstractMojo {
       // Step 1. Generating source code
       Generator generator = new Generator();
       generator.setName(generate.getClassName());
-      generator.setDatabase(getDatabase());
+      generator.setDatabase(getDatabase(session));
       generator.setTarget(generate.getGenerateTarget());
 
       Configuration configuration = new Configuration();
       configuration.setGenerator(generator);
 
+      CodegenMetrics metrics = CodegenMetrics.open(session);
+      GeneratedSources generated = GeneratedSources.open(session);
       GenerationTool.generate(configuration);
 
+      PhaseMetrics generation = metrics.getPhase(CodegenMetrics.GENERATION);
+      generation.add(WRITTEN_COUNTER, generated.getWritten().size());
+      for (File file : generated.getWritten()) {
+        generation.add(BYTES_COUNTER, Files.size(file.toPath()));
+      }
+
       // Step 2. Compiling source code
-      ExtFileVisitor visitor = new ExtFileVisitor(JAVA_FILE_EXT);
-      Files.walkFileTree(Paths.get(generate.getTarget()), visitor);
+      Map<Path, String> inMemory = new HashMap<>();
+      if (compile.isInMemory() || !generate.isWriteSources()) {
+        generated
+            .getSources()
+            .forEach((file, source) -> inMemory.put(normalize(file.toPath()), source));
+      }
 
-      JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
-      StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, null);
-      manager.setLocation(StandardLocation.CLASS_OUTPUT, compile.getTargetLocation());
-      manager.setLocation(StandardLocation.CLASS_PATH, compile.getClasspathFiles());
+      Path sources = normalize(Paths.get(generate.getTarget()));
+      Collection<Path> paths = new TreeSet<>(inMemory.keySet());
+      if (generate.isWriteSources()) {
+        ExtFileVisitor visitor = new ExtFileVisitor(JAVA_FILE_EXT);
+        Files.walkFileTree(sources, visitor);
+        paths = visitor.getFiltered();
+      }
 
-      Collection<PathJavaFileObject> sourceCodes = visitor.getFiltered(PathJavaFileObject::new);
-      if (!sourceCodes.isEmpty()) {
-        CompilationTask task = compiler.getTask(null, manager, null, null, null, sourceCodes);
-        task.call();
+      CompileIndex index = CompileIndex.load(
+          Paths.get(compile.getIndex()),
+          sources,
+          Paths.get(compile.getTarget())
+      );
+      if (generate.isIncremental()) {
+        index.deleteRemoved(paths);
+        index.save(paths);
+      }
+      if (generate.isWriteSources()) {
+        // Files with unchanged source code are not written, their classes are actual
+        Set<Path> written = generated
+            .getWritten()
+            .stream()
+            .map(file -> normalize(file.toPath()))
+            .collect(Collectors.toSet());
+        paths = index.getChanged(paths, written);
       }
+
+      PhaseMetrics compilation = metrics.getPhase(CodegenMetrics.COMPILATION);
+      try (Measurement ignored = compilation.start()) {
+        compile(paths, inMemory, compilation);
+      }
+
+      // Step 3. Reporting metrics of the phases
+      report(metrics);
+    } catch (MojoFailureException exception) {
+      throw exception;
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      GeneratedSources.close(session);
+      CodegenMetrics.close(session);
     }
   }
 
-  private Database getDatabase() {
+  private Database getDatabase(String session) {
     Build build = project.getBuild();
     Property classes = new Property();
     classes.setKey(CLASSES_PROPERTY_KEY);
@@ -124,9 +203,159 @@ public class CodegenPlugin extends AbstractMojo {
     dialect.setKey(DIALECT_PROPERTY_KEY);
     dialect.setValue(generate.getDialect());
 
+    Property scanIndex = new Property();
+    scanIndex.setKey(SCAN_INDEX_PROPERTY_KEY);
+    scanIndex.setValue(generate.getScanIndex());
+
+    Property generatedSources = new Property();
+    generatedSources.setKey(GENERATED_SOURCES_PROPERTY_KEY);
+    generatedSources.setValue(session);
+
+    Property metrics = new Property();
+    metrics.setKey(METRICS_PROPERTY_KEY);
+    metrics.setValue(session);
+
+    Property writeSources = new Property();
+    writeSources.setKey(WRITE_SOURCES_PROPERTY_KEY);
+    writeSources.setValue(generate.isWriteSources().toString());
+
+    Property parallelism = new Property();
+    parallelism.setKey(PARALLELISM_PROPERTY_KEY);
+    parallelism.setValue(generate.getParallelism().toString());
+
+    Property nullEmbedded = new Property();
+    nullEmbedded.setKey(NULL_EMBEDDED_PROPERTY_KEY);
+    nullEmbedded.setValue(generate.isNullEmbedded().toString());
+
+    Property changedRecords = new Property();
+    changedRecords.setKey(CHANGED_RECORDS_PROPERTY_KEY);
+    changedRecords.setValue(generate.isChangedRecords().toString());
+
+    Property mappingMetrics = new Property();
+    mappingMetrics.setKey(MAPPING_METRICS_PROPERTY_KEY);
+    mappingMetrics.setValue(generate.isMappingMetrics().toString());
+
+    List<Property> properties = new ArrayList<>(Arrays.asList(
+        classes,
+        testClasses,
+        classpath,
+        dialect,
+        scanIndex,
+        generatedSources,
+        metrics,
+        writeSources,
+        parallelism,
+        nullEmbedded,
+        changedRecords,
+        mappingMetrics
+    ));
+    if (generate.isIncremental()) {
+      Property generateIndex = new Property();
+      generateIndex.setKey(GENERATE_INDEX_PROPERTY_KEY);
+      generateIndex.setValue(generate.getGenerateIndex());
+      properties.add(generateIndex);
+    }
+
     Database database = new Database();
     database.setName(Entity2JooqDatabase.class.getCanonicalName());
-    database.setProperties(Arrays.asList(classes, testClasses, classpath, dialect));
+    database.setProperties(properties);
     return database;
   }
+
+  // Compiles source code, source code from memory is used instead of files when it is present
+  private void compile(
+      Collection<Path> paths,
+      Map<Path, String> inMemory,
+      PhaseMetrics metrics
+  ) throws IOException, MojoFailureException {
+    metrics.add(SOURCES_COUNTER, paths.size());
+    if (paths.isEmpty()) {
+      return;
+    }
+
+    // The request is shared by all modules, the session is cloned for each module by '-T'
+    CompilerCache cache = CompilerCache.get(session.getRequest());
+    List<File> classpath = compile.getClasspathFiles();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    StandardJavaFileManager manager = cache.acquire(classpath);
+    try {
+      manager.setLocation(StandardLocation.CLASS_OUTPUT, compile.getTargetLocation());
+
+      List<JavaFileObject> sourceCodes = new ArrayList<>(paths.size());
+      for (Path path : paths) {
+        String source = inMemory.get(normalize(path));
+        if (source != null) {
+          sourceCodes.add(new StringJavaFileObject(path, source));
+        } else {
+          sourceCodes.add(new PathJavaFileObject(path));
+        }
+      }
+
+      CompilationTask task = cache
+          .getCompiler()
+          .getTask(null, manager, diagnostics, null, null, sourceCodes);
+      long start = System.nanoTime();
+      Boolean success = task.call();
+      metrics.add(JAVAC_TIME_COUNTER, System.nanoTime() - start);
+      report(diagnostics.getDiagnostics());
+      if (!Boolean.TRUE.equals(success)) {
+        throw new MojoFailureException(String.join(
+            "",
+            "Compilation error of generated source code: [",
+            generate.getTarget(),
+            "]"
+        ));
+      }
+    } finally {
+      cache.release(classpath, manager);
+    }
+  }
+
+  // Writes metrics of the phases to the log and to the report file when the report is enabled
+  private void report(CodegenMetrics metrics) throws IOException {
+    Log log = getLog();
+    for (PhaseMetrics phase : metrics.getPhases()) {
+      List<String> counters = new ArrayList<>();
+      phase.getCounters().forEach((counter, value) -> counters.add(counter + "=" + value));
+      log.info(String.format(
+          Locale.ROOT,
+          "Phase %s: %d ms, %.2f MB allocated, %s",
+          phase.getName(),
+          phase.getTime() / NANOS_IN_MILLI,
+          phase.getAllocated() / BYTES_IN_MB,
+          String.join(", ", counters)
+      ));
+    }
+
+    if (generate.isReport()) {
+      Path report = Paths.get(generate.getReportFile());
+      Files.createDirectories(normalize(report).getParent());
+      Files.write(report, metrics.toJson().getBytes(StandardCharsets.UTF_8));
+      log.info("Report of the generation: " + report);
+    }
+  }
+
+  // Writes diagnostics of the compiler to the log
+  private void report(List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+    Log log = getLog();
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics) {
+      String message = diagnostic.toString();
+      switch (diagnostic.getKind()) {
+        case ERROR:
+          log.error(message);
+          break;
+        case WARNING:
+        case MANDATORY_WARNING:
+          log.warn(message);
+          break;
+        default:
+          log.debug(message);
+      }
+    }
+  }
+
+  // Returns absolute and normalized path
+  private static Path normalize(Path path) {
+    return path.toAbsolutePath().normalize();
+  }
 }
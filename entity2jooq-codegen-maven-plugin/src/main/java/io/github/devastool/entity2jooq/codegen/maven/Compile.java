@@ -34,6 +34,10 @@ import org.apache.maven.project.MavenProject;
 public class Compile {
   private String target;
   private List<String> classpath;
+  private String index;
+  private Boolean inMemory;
+
+  private static final String DEFAULT_INDEX = "/entity2jooq/compile-index";
 
   public String getTarget() {
     return target;
@@ -51,6 +55,22 @@ public class Compile {
     return classpath;
   }
 
+  public String getIndex() {
+    return index;
+  }
+
+  public void setIndex(String index) {
+    this.index = index;
+  }
+
+  public Boolean isInMemory() {
+    return inMemory;
+  }
+
+  public void setInMemory(Boolean inMemory) {
+    this.inMemory = inMemory;
+  }
+
   /**
    * Returns compiler output directories.
    *
@@ -82,6 +102,14 @@ public class Compile {
       target = project.getBuild().getOutputDirectory();
     }
 
+    if (index == null || index.isEmpty()) {
+      index = project.getBuild().getDirectory() + DEFAULT_INDEX;
+    }
+
+    if (inMemory == null) {
+      inMemory = true;
+    }
+
     if (classpath == null || classpath.isEmpty()) {
       classpath = project.getCompileClasspathElements();
     } else {
@@ -0,0 +1,170 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.maven;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Index of compiled sources, it is used for incremental compilation of generated source code.
+ * Changed sources are detected by modification time of the compiled classes, classes of removed
+ * sources are deleted.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class CompileIndex {
+  private final Path file;
+  private final Path sources;
+  private final Path classes;
+  private final Set<String> previous;
+
+  private static final String HEADER = "entity2jooq-compile-index 1";
+  private static final String SOURCE_EXT = ".java";
+  private static final String CLASS_EXT = ".class";
+  private static final String NESTED_CLASS_PATTERN = "$*.class";
+  private static final String PATH_SEPARATOR = "/";
+
+  /**
+   * Constructs new instance of {@link CompileIndex}.
+   *
+   * @param file     file of the index
+   * @param sources  directory of the generated sources
+   * @param classes  directory of the compiled classes
+   * @param previous sources of the previous compilation
+   */
+  private CompileIndex(Path file, Path sources, Path classes, Set<String> previous) {
+    this.file = file;
+    this.sources = sources;
+    this.classes = classes;
+    this.previous = previous;
+  }
+
+  /**
+   * Loads index from the file, incorrect or absent file gives empty index.
+   *
+   * @param file    file of the index
+   * @param sources directory of the generated sources
+   * @param classes directory of the compiled classes
+   * @return loaded index
+   */
+  public static CompileIndex load(Path file, Path sources, Path classes) {
+    Set<String> previous = new TreeSet<>();
+    if (Files.isRegularFile(file)) {
+      try {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (!lines.isEmpty() && HEADER.equals(lines.get(0))) {
+          previous.addAll(lines.subList(1, lines.size()));
+        }
+      } catch (IOException exception) {
+        previous.clear();
+      }
+    }
+    return new CompileIndex(file, sources, classes, previous);
+  }
+
+  /**
+   * Returns changed sources, source is changed when it is written by the generation or its class is
+   * absent or older than source.
+   *
+   * @param paths   all generated sources
+   * @param written sources written by the generation
+   * @return changed sources
+   * @throws IOException when reading of file attributes fails
+   */
+  public Collection<Path> getChanged(
+      Collection<Path> paths,
+      Collection<Path> written
+  ) throws IOException {
+    List<Path> changed = new ArrayList<>();
+    for (Path path : paths) {
+      Path classFile = classes.resolve(getClassName(path) + CLASS_EXT);
+      if (written.contains(path)
+          || !Files.exists(classFile)
+          || Files.getLastModifiedTime(path).compareTo(Files.getLastModifiedTime(classFile)) > 0) {
+        changed.add(path);
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Deletes classes of the sources that are absent since the previous compilation.
+   *
+   * @param paths all generated sources
+   * @throws IOException when deleting of the class fails
+   */
+  public void deleteRemoved(Collection<Path> paths) throws IOException {
+    Set<String> removed = new TreeSet<>(previous);
+    for (Path path : paths) {
+      removed.remove(getClassName(path));
+    }
+
+    for (String className : removed) {
+      Path classFile = classes.resolve(className + CLASS_EXT);
+      Files.deleteIfExists(classFile);
+
+      Path parent = classFile.getParent();
+      if (parent != null && Files.isDirectory(parent)) {
+        String pattern = classFile.getFileName().toString().replace(CLASS_EXT, "")
+            + NESTED_CLASS_PATTERN;
+        try (DirectoryStream<Path> nested = Files.newDirectoryStream(parent, pattern)) {
+          for (Path nestedClass : nested) {
+            Files.deleteIfExists(nestedClass);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Saves index to the file.
+   *
+   * @param paths all generated sources
+   * @throws IOException when writing of the file fails
+   */
+  public void save(Collection<Path> paths) throws IOException {
+    Set<String> current = new TreeSet<>();
+    for (Path path : paths) {
+      current.add(getClassName(path));
+    }
+
+    List<String> lines = new ArrayList<>();
+    lines.add(HEADER);
+    lines.addAll(current);
+
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    Files.write(file, lines, StandardCharsets.UTF_8);
+  }
+
+  // Returns relative name of the class by source, example: 'my/package/MyClass'
+  private String getClassName(Path path) {
+    String relative = sources.relativize(path).toString().replace(
+        path.getFileSystem().getSeparator(),
+        PATH_SEPARATOR
+    );
+    return relative.substring(0, relative.length() - SOURCE_EXT.length());
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+/**
+ * Cache of the java compiler and file managers, it is shared by all modules of the maven session.
+ * The file manager keeps opened archives of the classpath, so the managers are pooled by archives
+ * of the classpath. Each manager is used by one compilation at a time, concurrent compilations
+ * take different managers.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class CompilerCache {
+  private final JavaCompiler compiler;
+  private final Map<List<File>, Deque<StandardJavaFileManager>> managers;
+
+  private static final Map<Object, CompilerCache> SESSIONS = new WeakHashMap<>();
+
+  /**
+   * Constructs new instance of {@link CompilerCache}.
+   *
+   * @param compiler java compiler
+   */
+  public CompilerCache(JavaCompiler compiler) {
+    this.compiler = compiler;
+    this.managers = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns cache of the session, caches of the previous sessions are closed.
+   *
+   * @param session key of the session, it must be shared by all modules of the session
+   * @return cache of the session
+   */
+  public static CompilerCache get(Object session) {
+    List<CompilerCache> previous = new ArrayList<>();
+    CompilerCache cache;
+    synchronized (SESSIONS) {
+      cache = SESSIONS.get(session);
+      if (cache == null) {
+        Iterator<CompilerCache> iterator = SESSIONS.values().iterator();
+        while (iterator.hasNext()) {
+          previous.add(iterator.next());
+          iterator.remove();
+        }
+
+        cache = new CompilerCache(ToolProvider.getSystemJavaCompiler());
+        SESSIONS.put(session, cache);
+      }
+    }
+
+    for (CompilerCache closed : previous) {
+      closed.close();
+    }
+    return cache;
+  }
+
+  /**
+   * Returns java compiler.
+   *
+   * @return java compiler
+   */
+  public JavaCompiler getCompiler() {
+    return compiler;
+  }
+
+  /**
+   * Takes file manager for the classpath, the manager must be returned by
+   * {@link #release(List, StandardJavaFileManager)}.
+   *
+   * @param classpath classpath of the compilation
+   * @return file manager with configured classpath
+   * @throws IOException when configuring of the classpath fails
+   */
+  public StandardJavaFileManager acquire(List<File> classpath) throws IOException {
+    StandardJavaFileManager manager = getPool(classpath).pollFirst();
+    if (manager == null) {
+      manager = compiler.getStandardFileManager(null, null, null);
+    }
+    manager.setLocation(StandardLocation.CLASS_PATH, classpath);
+    return manager;
+  }
+
+  /**
+   * Returns file manager to the cache.
+   *
+   * @param classpath classpath of the compilation
+   * @param manager   file manager taken by {@link #acquire(List)}
+   */
+  public void release(List<File> classpath, StandardJavaFileManager manager) {
+    getPool(classpath).offerFirst(manager);
+  }
+
+  /**
+   * Closes all cached file managers.
+   */
+  public void close() {
+    for (Deque<StandardJavaFileManager> pool : managers.values()) {
+      StandardJavaFileManager manager = pool.pollFirst();
+      while (manager != null) {
+        try {
+          manager.close();
+        } catch (IOException exception) {
+          // Closing of the manager is not required for the build
+        }
+        manager = pool.pollFirst();
+      }
+    }
+    managers.clear();
+  }
+
+  // Returns pool of file managers by archives of the classpath, directories are not cached
+  private Deque<StandardJavaFileManager> getPool(List<File> classpath) {
+    List<File> archives = new ArrayList<>();
+    for (File file : classpath) {
+      if (!file.isDirectory()) {
+        archives.add(file);
+      }
+    }
+    return managers.computeIfAbsent(archives, key -> new ConcurrentLinkedDeque<>());
+  }
+}
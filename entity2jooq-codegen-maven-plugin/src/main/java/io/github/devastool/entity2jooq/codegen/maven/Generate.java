@@ -32,10 +32,23 @@ public class Generate {
   private String className;
   private String packageName;
   private String target;
+  private String scanIndex;
+  private String generateIndex;
+  private Boolean incremental;
+  private Boolean writeSources;
+  private Integer parallelism;
+  private Boolean nullEmbedded;
+  private Boolean changedRecords;
+  private Boolean mappingMetrics;
+  private Boolean report;
+  private String reportFile;
 
   private static final String DEFAULT_DIALECT = "";
   private static final String DEFAULT_PACKAGE_NAME = "org.jooq.generated";
   private static final String DEFAULT_TARGET = "/generated-sources/jooq";
+  private static final String DEFAULT_SCAN_INDEX = "/entity2jooq/scan-index";
+  private static final String DEFAULT_GENERATE_INDEX = "/entity2jooq/generate-index";
+  private static final String DEFAULT_REPORT_FILE = "/entity2jooq/codegen-report.json";
 
   /**
    * Returns SQL dialect.
@@ -91,6 +104,191 @@ public class Generate {
     this.target = target;
   }
 
+  /**
+   * Returns file of the class scan index.
+   *
+   * @return file of the class scan index
+   */
+  public String getScanIndex() {
+    return scanIndex;
+  }
+
+  /**
+   * Sets file of the class scan index.
+   *
+   * @param scanIndex file of the class scan index
+   */
+  public void setScanIndex(String scanIndex) {
+    this.scanIndex = scanIndex;
+  }
+
+  /**
+   * Returns file of the generate index.
+   *
+   * @return file of the generate index
+   */
+  public String getGenerateIndex() {
+    return generateIndex;
+  }
+
+  /**
+   * Sets file of the generate index.
+   *
+   * @param generateIndex file of the generate index
+   */
+  public void setGenerateIndex(String generateIndex) {
+    this.generateIndex = generateIndex;
+  }
+
+  /**
+   * Returns enable/disable flag of incremental generation and compilation, unchanged tables are
+   * not generated and compiled again.
+   *
+   * @return enable/disable flag of incremental generation and compilation
+   */
+  public Boolean isIncremental() {
+    return incremental;
+  }
+
+  /**
+   * Sets enable/disable flag of incremental generation and compilation.
+   *
+   * @param incremental enable/disable flag of incremental generation and compilation
+   */
+  public void setIncremental(Boolean incremental) {
+    this.incremental = incremental;
+  }
+
+  /**
+   * Returns enable/disable flag of writing generated source code to files.
+   *
+   * @return enable/disable flag of writing generated source code to files
+   */
+  public Boolean isWriteSources() {
+    return writeSources;
+  }
+
+  /**
+   * Sets enable/disable flag of writing generated source code to files.
+   *
+   * @param writeSources enable/disable flag of writing generated source code to files
+   */
+  public void setWriteSources(Boolean writeSources) {
+    this.writeSources = writeSources;
+  }
+
+  /**
+   * Returns parallelism of the generation, value 1 gives serial generation.
+   *
+   * @return count of the threads of the generation
+   */
+  public Integer getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets parallelism of the generation.
+   *
+   * @param parallelism count of the threads of the generation
+   */
+  public void setParallelism(Integer parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Returns enable/disable flag of null embedded objects, embedded object of the entity is not
+   * created when all its columns are null.
+   *
+   * @return enable/disable flag of null embedded objects
+   */
+  public Boolean isNullEmbedded() {
+    return nullEmbedded;
+  }
+
+  /**
+   * Sets enable/disable flag of null embedded objects.
+   *
+   * @param nullEmbedded enable/disable flag of null embedded objects
+   */
+  public void setNullEmbedded(Boolean nullEmbedded) {
+    this.nullEmbedded = nullEmbedded;
+  }
+
+  /**
+   * Returns enable/disable flag of changed records, methods 'toChangedRecord' are generated for
+   * partial updates.
+   *
+   * @return enable/disable flag of changed records
+   */
+  public Boolean isChangedRecords() {
+    return changedRecords;
+  }
+
+  /**
+   * Sets enable/disable flag of changed records.
+   *
+   * @param changedRecords enable/disable flag of changed records
+   */
+  public void setChangedRecords(Boolean changedRecords) {
+    this.changedRecords = changedRecords;
+  }
+
+  /**
+   * Returns enable/disable flag of mapping metrics, generated mapping methods record mapped rows
+   * and time of the mapping by tables.
+   *
+   * @return enable/disable flag of mapping metrics
+   */
+  public Boolean isMappingMetrics() {
+    return mappingMetrics;
+  }
+
+  /**
+   * Sets enable/disable flag of mapping metrics.
+   *
+   * @param mappingMetrics enable/disable flag of mapping metrics
+   */
+  public void setMappingMetrics(Boolean mappingMetrics) {
+    this.mappingMetrics = mappingMetrics;
+  }
+
+  /**
+   * Returns enable/disable flag of the report, metrics of the generation phases are written to the
+   * report file in JSON format.
+   *
+   * @return enable/disable flag of the report
+   */
+  public Boolean isReport() {
+    return report;
+  }
+
+  /**
+   * Sets enable/disable flag of the report.
+   *
+   * @param report enable/disable flag of the report
+   */
+  public void setReport(Boolean report) {
+    this.report = report;
+  }
+
+  /**
+   * Returns file of the report.
+   *
+   * @return file of the report
+   */
+  public String getReportFile() {
+    return reportFile;
+  }
+
+  /**
+   * Sets file of the report.
+   *
+   * @param reportFile file of the report
+   */
+  public void setReportFile(String reportFile) {
+    this.reportFile = reportFile;
+  }
+
   /**
    * Returns class name of the jooq generator.
    *
@@ -132,6 +330,26 @@ public class Generate {
    * <br/>
    * target = "/generated-sources/jooq"
    * <br/>
+   * scanIndex = "/entity2jooq/scan-index"
+   * <br/>
+   * generateIndex = "/entity2jooq/generate-index"
+   * <br/>
+   * incremental = true
+   * <br/>
+   * writeSources = true
+   * <br/>
+   * parallelism = count of the available processors
+   * <br/>
+   * nullEmbedded = false
+   * <br/>
+   * changedRecords = false
+   * <br/>
+   * mappingMetrics = false
+   * <br/>
+   * report = false
+   * <br/>
+   * reportFile = "/entity2jooq/codegen-report.json"
+   * <br/>
    * className = "io.github.devastool.entity2jooq.codegen.Entity2JooqJavaGenerator"
    *
    * @param project information of maven project
@@ -150,6 +368,46 @@ public class Generate {
       target = build.getDirectory() + DEFAULT_TARGET;
     }
 
+    if (scanIndex == null || scanIndex.isEmpty()) {
+      scanIndex = build.getDirectory() + DEFAULT_SCAN_INDEX;
+    }
+
+    if (generateIndex == null || generateIndex.isEmpty()) {
+      generateIndex = build.getDirectory() + DEFAULT_GENERATE_INDEX;
+    }
+
+    if (incremental == null) {
+      incremental = true;
+    }
+
+    if (writeSources == null) {
+      writeSources = true;
+    }
+
+    if (parallelism == null || parallelism < 1) {
+      parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    if (nullEmbedded == null) {
+      nullEmbedded = false;
+    }
+
+    if (changedRecords == null) {
+      changedRecords = false;
+    }
+
+    if (mappingMetrics == null) {
+      mappingMetrics = false;
+    }
+
+    if (report == null) {
+      report = false;
+    }
+
+    if (reportFile == null || reportFile.isEmpty()) {
+      reportFile = build.getDirectory() + DEFAULT_REPORT_FILE;
+    }
+
     if (className == null || className.isEmpty()) {
       className = Entity2JooqJavaGenerator.class.getCanonicalName();
     }
@@ -0,0 +1,47 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.maven;
+
+import java.nio.file.Path;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+
+/**
+ * Simple realization of {@link JavaFileObject} for source code in memory.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class StringJavaFileObject extends SimpleJavaFileObject {
+  private final String source;
+
+  /**
+   * Constructs new instance of {@link StringJavaFileObject}.
+   *
+   * @param path   source code path, it is used for diagnostics
+   * @param source source code
+   */
+  public StringJavaFileObject(Path path, String source) {
+    super(path.toUri(), Kind.SOURCE);
+    this.source = source;
+  }
+
+  @Override
+  public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+    return source;
+  }
+}
@@ -35,6 +35,7 @@ class CompileTest {
   void initSuccessDefaultTest() throws DependencyResolutionRequiredException {
     Build build = new Build();
     build.setOutputDirectory(TARGET);
+    build.setDirectory(TARGET);
 
     MavenProject project = new MavenProject();
     project.setBuild(build);
@@ -42,6 +43,8 @@ class CompileTest {
     var compile = new Compile();
     compile.init(project);
     Assertions.assertEquals(TARGET, compile.getTarget());
+    Assertions.assertEquals(TARGET + "/entity2jooq/compile-index", compile.getIndex());
+    Assertions.assertTrue(compile.isInMemory());
     Assertions.assertEquals(TARGET, compile.getClasspathFiles().get(0).getName());
 
     compile = new Compile();
@@ -0,0 +1,53 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import javax.tools.StandardJavaFileManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link CompilerCache}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class CompilerCacheTest {
+  private static final List<File> CLASSPATH = List.of(new File("test.jar"));
+
+  @Test
+  void getTest() {
+    Object session = new Object();
+    CompilerCache cache = CompilerCache.get(session);
+    Assertions.assertSame(cache, CompilerCache.get(session));
+    Assertions.assertNotSame(cache, CompilerCache.get(new Object()));
+  }
+
+  @Test
+  void acquireTest() throws IOException {
+    CompilerCache cache = CompilerCache.get(new Object());
+    StandardJavaFileManager first = cache.acquire(CLASSPATH);
+    StandardJavaFileManager second = cache.acquire(CLASSPATH);
+    Assertions.assertNotSame(first, second);
+
+    cache.release(CLASSPATH, first);
+    Assertions.assertSame(first, cache.acquire(CLASSPATH));
+    cache.close();
+  }
+}
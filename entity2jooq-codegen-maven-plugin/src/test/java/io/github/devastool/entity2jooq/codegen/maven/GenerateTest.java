@@ -33,11 +33,14 @@ class GenerateTest {
   private static final String CLASS_NAME = "className";
   private static final String PACKAGE_NAME = "packageName";
   private static final String TARGET = "target";
+  private static final String SCAN_INDEX = "scanIndex";
   private static final String DIALECT_DEFAULT = "";
   private static final String CLASS_NAME_DEFAULT =
       Entity2JooqJavaGenerator.class.getCanonicalName();
   private static final String PACKAGE_NAME_DEFAULT = "org.jooq.generated";
   private static final String TARGET_DEFAULT = TARGET + "/generated-sources/jooq";
+  private static final String SCAN_INDEX_DEFAULT = TARGET + "/entity2jooq/scan-index";
+  private static final String GENERATE_INDEX_DEFAULT = TARGET + "/entity2jooq/generate-index";
 
   @Test
   void getGenerateTargetSuccessTest() {
@@ -59,6 +62,7 @@ class GenerateTest {
     generate.setClassName(CLASS_NAME);
     generate.setPackageName(PACKAGE_NAME);
     generate.setTarget(TARGET);
+    generate.setScanIndex(SCAN_INDEX);
 
     generate.init(new MavenProject());
     Assertions.assertAll(
@@ -66,7 +70,8 @@ class GenerateTest {
         () -> Assertions.assertEquals(DIALECT, generate.getDialect()),
         () -> Assertions.assertEquals(CLASS_NAME, generate.getClassName()),
         () -> Assertions.assertEquals(PACKAGE_NAME, generate.getPackageName()),
-        () -> Assertions.assertEquals(TARGET, generate.getTarget())
+        () -> Assertions.assertEquals(TARGET, generate.getTarget()),
+        () -> Assertions.assertEquals(SCAN_INDEX, generate.getScanIndex())
     );
   }
 
@@ -84,5 +89,15 @@ class GenerateTest {
     Assertions.assertEquals(CLASS_NAME_DEFAULT, generate.getClassName());
     Assertions.assertEquals(PACKAGE_NAME_DEFAULT, generate.getPackageName());
     Assertions.assertEquals(TARGET_DEFAULT, generate.getTarget());
+    Assertions.assertEquals(SCAN_INDEX_DEFAULT, generate.getScanIndex());
+    Assertions.assertEquals(GENERATE_INDEX_DEFAULT, generate.getGenerateIndex());
+    Assertions.assertTrue(generate.isIncremental());
+    Assertions.assertTrue(generate.isWriteSources());
+    Assertions.assertEquals(
+        Runtime.getRuntime().availableProcessors(),
+        generate.getParallelism()
+    );
+    Assertions.assertFalse(generate.isNullEmbedded());
+    Assertions.assertFalse(generate.isChangedRecords());
   }
 }
\ No newline at end of file
@@ -20,9 +20,14 @@ import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty
 import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.CLASSPATH;
 import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.DATABASE;
 import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.DIALECT;
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.METRICS;
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.PARALLELISM;
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.SCAN_INDEX;
 import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.TEST_CLASSES;
 
+import io.github.devastool.entity2jooq.annotation.Table;
 import io.github.devastool.entity2jooq.annotation.type.converter.EnumConverter;
+import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
 import io.github.devastool.entity2jooq.codegen.definition.factory.EntityColumnDefinitionFactory;
 import io.github.devastool.entity2jooq.codegen.definition.factory.EntityDataTypeDefinitionFactory;
 import io.github.devastool.entity2jooq.codegen.definition.factory.EntitySchemaDefinitionFactory;
@@ -30,7 +35,11 @@ import io.github.devastool.entity2jooq.codegen.definition.factory.EntityTableDef
 import io.github.devastool.entity2jooq.codegen.definition.factory.FactoryContext;
 import io.github.devastool.entity2jooq.codegen.filesystem.classload.ClassFile;
 import io.github.devastool.entity2jooq.codegen.filesystem.classload.ClassLoaderContext;
+import io.github.devastool.entity2jooq.codegen.filesystem.classload.ClassScanIndex;
 import io.github.devastool.entity2jooq.codegen.filesystem.classload.PathClassLoader;
+import io.github.devastool.entity2jooq.codegen.metrics.CodegenMetrics;
+import io.github.devastool.entity2jooq.codegen.metrics.PhaseMetrics;
+import io.github.devastool.entity2jooq.codegen.metrics.PhaseMetrics.Measurement;
 import io.github.devastool.entity2jooq.codegen.properties.CodegenProperties;
 import java.nio.file.Paths;
 import java.sql.SQLException;
@@ -67,7 +76,17 @@ import org.jooq.meta.UDTDefinition;
  */
 public class Entity2JooqDatabase extends AbstractDatabase {
   private final List<Class<?>> entities;
+  private final FactoryContext context;
   private final EntityTableDefinitionFactory tableFactory;
+  private int parallelism;
+  private CodegenMetrics metrics = new CodegenMetrics();
+  private List<TableDefinition> tables;
+
+  private static final String CLASSES_COUNTER = "classes";
+  private static final String ENTITIES_COUNTER = "entities";
+  private static final String TABLES_COUNTER = "tables";
+  private static final String COLUMNS_COUNTER = "columns";
+  private static final String CONVERTERS_COUNTER = "converters";
 
   /**
    * Constructs new instance of {@link Entity2JooqDatabase}.
@@ -81,15 +100,25 @@ public class Entity2JooqDatabase extends AbstractDatabase {
         EnumConverter.class
     );
 
-    FactoryContext context = new FactoryContext();
+    context = new FactoryContext();
     EntityDataTypeDefinitionFactory type = new EntityDataTypeDefinitionFactory(context, converters);
     EntitySchemaDefinitionFactory schemas = new EntitySchemaDefinitionFactory(context);
     EntityColumnDefinitionFactory columns = new EntityColumnDefinitionFactory(type, context);
 
     entities = new ArrayList<>();
+    parallelism = Runtime.getRuntime().availableProcessors();
     tableFactory = new EntityTableDefinitionFactory(schemas, columns, context);
   }
 
+  @Override
+  public void close() {
+    // Instances and entities are loaded by the build, they are not kept after the generation
+    context.clear();
+    entities.clear();
+    tables = null;
+    super.close();
+  }
+
   @Override
   protected DSLContext create0() {
     return DSL.using(SQLDialect.DEFAULT.family());
@@ -135,11 +164,21 @@ public class Entity2JooqDatabase extends AbstractDatabase {
 
   @Override
   protected List<TableDefinition> getTables0() throws SQLException {
-    CodegenProperties properties = init();
-    return entities
-        .stream()
-        .map(type -> tableFactory.build(type, properties))
-        .collect(Collectors.toList());
+    // Tables are built once, schemata are built by the same tables
+    if (tables == null) {
+      CodegenProperties properties = init();
+      PhaseMetrics definition = metrics.getPhase(CodegenMetrics.DEFINITION);
+      try (Measurement ignored = definition.start()) {
+        List<EntityTableDefinition> built = ParallelTasks.map(
+            entities,
+            definition.track(type -> tableFactory.build(type, properties)),
+            parallelism
+        );
+        built.forEach(table -> addMetrics(definition, table));
+        tables = new ArrayList<>(built);
+      }
+    }
+    return new ArrayList<>(tables);
   }
 
   @Override
@@ -176,24 +215,47 @@ public class Entity2JooqDatabase extends AbstractDatabase {
     try {
       Properties pluginProperties = getProperties();
 
-      ClassLoaderContext context = new ClassLoaderContext();
       String classpath = pluginProperties.getProperty(CLASSPATH.getName());
-      context.addClasspath(classpath);
-
       String classes = pluginProperties.getProperty(CLASSES.getName());
-      context.addRoot(Paths.get(classes));
-
       String testClasses = pluginProperties.getProperty(TEST_CLASSES.getName());
-      context.addRoot(Paths.get(testClasses));
+      String threads = pluginProperties.getProperty(PARALLELISM.getName());
+      if (threads != null && !threads.isEmpty()) {
+        parallelism = Integer.parseInt(threads);
+      }
+
+      String session = pluginProperties.getProperty(METRICS.getName());
+      metrics = CodegenMetrics.find(session).orElse(metrics);
 
       if (entities.isEmpty()) {
-        try (PathClassLoader loader = new PathClassLoader(context)) {
+        ClassScanIndex index = null;
+        String scanIndex = pluginProperties.getProperty(SCAN_INDEX.getName());
+        if (scanIndex != null && !scanIndex.isEmpty()) {
+          index = ClassScanIndex.load(Paths.get(scanIndex));
+        }
+
+        PhaseMetrics scan = metrics.getPhase(CodegenMetrics.SCAN);
+        ClassLoaderContext context = new ClassLoaderContext(parallelism, index, scan);
+        context.addClasspath(classpath);
+        try (Measurement ignored = scan.start()) {
+          context.addRoots(List.of(Paths.get(classes), Paths.get(testClasses)));
+        }
+
+        PhaseMetrics load = metrics.getPhase(CodegenMetrics.LOAD);
+        try (
+            Measurement ignored = load.start();
+            PathClassLoader loader = new PathClassLoader(context)
+        ) {
           for (ClassFile element : context) {
-            Class<?> loaded = loader.loadClass(element);
-            if (tableFactory.canBuild(loaded)) {
-              entities.add(loaded);
+            // Superclasses and embedded types are loaded by the loader on demand
+            if (isCandidate(element)) {
+              Class<?> loaded = loader.loadClass(element);
+              if (tableFactory.canBuild(loaded)) {
+                entities.add(loaded);
+              }
             }
           }
+          load.add(CLASSES_COUNTER, loader.getDefinedCount());
+          load.add(ENTITIES_COUNTER, entities.size());
         }
       }
 
@@ -209,4 +271,30 @@ public class Entity2JooqDatabase extends AbstractDatabase {
       throw new SQLException();
     }
   }
+
+  /**
+   * Returns parallelism of the generation.
+   *
+   * @return count of the threads, value 1 means serial generation
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  // Adds counters of the built table: tables, columns and columns with converters
+  private static void addMetrics(PhaseMetrics definition, EntityTableDefinition table) {
+    definition.add(TABLES_COUNTER, 1);
+    definition.add(COLUMNS_COUNTER, table.getColumns().size());
+    definition.add(CONVERTERS_COUNTER, table.getConverterCount());
+  }
+
+  // Checks annotation of the class by bytecode, class is not loaded
+  private boolean isCandidate(ClassFile element) {
+    try {
+      return element.getMetadata().isAnnotated(Table.class);
+    } catch (Exception exception) {
+      // Unsupported class data, the class will be checked after loading
+      return true;
+    }
+  }
 }
@@ -16,22 +16,64 @@
 
 package io.github.devastool.entity2jooq.codegen;
 
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.CHANGED_RECORDS;
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.DIALECT;
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.GENERATED_SOURCES;
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.GENERATE_INDEX;
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.MAPPING_METRICS;
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.METRICS;
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.NULL_EMBEDDED;
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.WRITE_SOURCES;
+
 import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
 import io.github.devastool.entity2jooq.codegen.definition.type.EntityDataTypeDefinition;
 import io.github.devastool.entity2jooq.codegen.generate.ConverterGenerateChainPart;
+import io.github.devastool.entity2jooq.codegen.generate.EntityMappersCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.FieldHandleGenerateChainPart;
+import io.github.devastool.entity2jooq.codegen.generate.ForEachEntityGenerateChainPart;
 import io.github.devastool.entity2jooq.codegen.generate.GenerateChainPart;
 import io.github.devastool.entity2jooq.codegen.generate.GenerateContext;
+import io.github.devastool.entity2jooq.codegen.generate.GenerateIndex;
+import io.github.devastool.entity2jooq.codegen.generate.GeneratedSources;
+import io.github.devastool.entity2jooq.codegen.generate.JavaWriterAppender;
+import io.github.devastool.entity2jooq.codegen.generate.MappingMetricsGenerateChainPart;
+import io.github.devastool.entity2jooq.codegen.generate.SourceJavaWriter;
+import io.github.devastool.entity2jooq.codegen.generate.ToChangedRecordGenerateChainPart;
+import io.github.devastool.entity2jooq.codegen.generate.ToEntitiesGenerateChainPart;
 import io.github.devastool.entity2jooq.codegen.generate.ToEntityGenerateChainPart;
+import io.github.devastool.entity2jooq.codegen.generate.ToEntityStreamGenerateChainPart;
 import io.github.devastool.entity2jooq.codegen.generate.ToRecordGenerateChainPart;
+import io.github.devastool.entity2jooq.codegen.generate.ToRecordsGenerateChainPart;
 import io.github.devastool.entity2jooq.codegen.generate.code.BufferedCodeTarget;
+import io.github.devastool.entity2jooq.codegen.generate.code.CodeTarget;
 import io.github.devastool.entity2jooq.codegen.generate.code.IndentCodeTarget;
+import io.github.devastool.entity2jooq.codegen.generate.code.WriterCodeTarget;
+import io.github.devastool.entity2jooq.codegen.metrics.CodegenMetrics;
+import io.github.devastool.entity2jooq.codegen.metrics.PhaseMetrics;
+import io.github.devastool.entity2jooq.codegen.metrics.PhaseMetrics.Measurement;
+import io.github.devastool.entity2jooq.codegen.metrics.TableGenerateEvent;
+import java.io.File;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.jooq.Constants;
+import org.jooq.codegen.Files;
 import org.jooq.codegen.GeneratorStrategy.Mode;
 import org.jooq.codegen.JavaGenerator;
 import org.jooq.codegen.JavaWriter;
+import org.jooq.meta.CatalogDefinition;
 import org.jooq.meta.DataTypeDefinition;
 import org.jooq.meta.Database;
+import org.jooq.meta.SchemaDefinition;
 import org.jooq.meta.TableDefinition;
 
 /**
@@ -43,9 +85,36 @@ import org.jooq.meta.TableDefinition;
 public class Entity2JooqJavaGenerator extends JavaGenerator {
   private final List<GenerateChainPart> methods = List.of(
       new ConverterGenerateChainPart(),
+      new MappingMetricsGenerateChainPart(),
+      new FieldHandleGenerateChainPart(),
       new ToEntityGenerateChainPart(),
-      new ToRecordGenerateChainPart()
+      new ToEntitiesGenerateChainPart(),
+      new ToEntityStreamGenerateChainPart(),
+      new ForEachEntityGenerateChainPart(),
+      new ToRecordGenerateChainPart(),
+      new ToChangedRecordGenerateChainPart(),
+      new ToRecordsGenerateChainPart()
   );
+  private final Set<File> unchanged = ConcurrentHashMap.newKeySet();
+  private final Map<TableDefinition, String> footers = new ConcurrentHashMap<>();
+  private final Files files = new Files();
+  private boolean initialized;
+  private GenerateIndex index;
+  private String signature;
+  private GeneratedSources sources;
+  private boolean writeSources = true;
+  private int parallelism = 1;
+  private boolean nullEmbedded;
+  private boolean changedRecords;
+  private boolean mappingMetrics;
+  private String dialect = "";
+  private PhaseMetrics metrics = new PhaseMetrics(CodegenMetrics.GENERATION);
+
+  private static final String SIGNATURE_SEPARATOR = "|";
+  private static final String TABLES_COUNTER = "tables";
+  private static final String SKIPPED_COUNTER = "skipped";
+  private static final String MAPPERS_CLASS_NAME = "EntityMappers";
+  private static final String SOURCE_EXT = ".java";
 
   @Override
   public boolean generateRecords() {
@@ -71,19 +140,253 @@ public class Entity2JooqJavaGenerator extends JavaGenerator {
     throw new IllegalArgumentException("Unsupported type class: [" + typeClass + "]");
   }
 
+  @Override
+  protected void generateCatalog(CatalogDefinition catalog) {
+    Database database = catalog.getDatabase();
+    init(database);
+
+    // Definitions are built before the generation, so the phases are measured separately
+    for (SchemaDefinition schema : catalog.getSchemata()) {
+      database.getTables(schema);
+    }
+    try (Measurement ignored = metrics.start()) {
+      super.generateCatalog(catalog);
+      generateMappers(catalog);
+    }
+  }
+
+  @Override
+  protected void generateTables(SchemaDefinition schema) {
+    init(schema.getDatabase());
+    prepare(schema.getTables());
+    try {
+      super.generateTables(schema);
+    } finally {
+      footers.clear();
+    }
+
+    if (index != null) {
+      index.save();
+    }
+  }
+
+  @Override
+  protected void generateTable(SchemaDefinition schema, TableDefinition table) {
+    TableGenerateEvent event = new TableGenerateEvent();
+    event.begin();
+
+    File file = getFile(table).getAbsoluteFile();
+    boolean skipped = index != null
+        && EntityTableDefinition.class.equals(table.getClass())
+        && unchanged.contains(file);
+    if (!skipped) {
+      super.generateTable(schema, table);
+    }
+
+    event.end();
+    if (event.shouldCommit()) {
+      event.setTable(table.getQualifiedName());
+      event.setSkipped(skipped);
+      event.setSize(
+          sources != null ? sources.getSize(file, Charset.forName(targetEncoding)) : file.length()
+      );
+      event.commit();
+    }
+  }
+
+  @Override
+  protected void empty(File file, String suffix, Set<File> keep, Set<File> ignore) {
+    // Files of unchanged tables are not generated, but they are actual
+    if (!unchanged.contains(file.getAbsoluteFile())) {
+      super.empty(file, suffix, keep, ignore);
+    }
+  }
+
+  @Override
+  protected JavaWriter newJavaWriter(File file) {
+    if (sources == null && writeSources) {
+      return super.newJavaWriter(file);
+    }
+
+    JavaWriter writer = new SourceJavaWriter(
+        file,
+        generateFullyQualifiedTypes(),
+        targetEncoding,
+        generateJavadoc(),
+        files,
+        sources,
+        writeSources
+    );
+    if (generateIndentation() != null) {
+      writer.tabString(generateIndentation());
+    }
+    if (generateNewline() != null) {
+      writer.newlineString(generateNewline());
+    }
+    return writer;
+  }
+
+  /**
+   * Returns signature of the generator, it includes versions, dialect and settings of the
+   * generation. Changing of the signature leads to generation of all tables.
+   *
+   * @return signature of the generator
+   */
+  protected String getSignature() {
+    String build = "";
+    CodeSource source = getClass().getProtectionDomain().getCodeSource();
+    if (source != null) {
+      URL location = source.getLocation();
+      build = String.join(
+          SIGNATURE_SEPARATOR,
+          location.toString(),
+          Long.toString(new File(location.getPath()).lastModified())
+      );
+    }
+
+    return String.join(
+        SIGNATURE_SEPARATOR,
+        Constants.VERSION,
+        getClass().getName(),
+        getStrategy().getClass().getName(),
+        getTargetPackage(),
+        dialect,
+        Boolean.toString(nullEmbedded),
+        Boolean.toString(changedRecords),
+        Boolean.toString(mappingMetrics),
+        build
+    );
+  }
+
   @Override
   protected void generateTableClassFooter(TableDefinition table, JavaWriter out) {
     super.generateTableClassFooter(table, out);
 
     if (EntityTableDefinition.class.equals(table.getClass())) {
-      EntityTableDefinition entity = (EntityTableDefinition) table;
+      String footer = footers.remove(table);
+      if (footer != null) {
+        out.print(footer);
+      } else {
+        // Footer is streamed to the source file when it is not generated in parallel
+        try (WriterCodeTarget target = new WriterCodeTarget(new JavaWriterAppender(out))) {
+          generateFooter((EntityTableDefinition) table, target);
+        }
+      }
+    }
+  }
 
+  // Checks changes and generates footers of the tables in parallel, tables are written in order.
+  // Serial generation streams footers while writing, so they are not kept in memory
+  private void prepare(List<TableDefinition> tables) {
+    List<EntityTableDefinition> entities = tables
+        .stream()
+        .filter(table -> EntityTableDefinition.class.equals(table.getClass()))
+        .map(EntityTableDefinition.class::cast)
+        .collect(Collectors.toList());
+
+    ParallelTasks.map(entities, metrics.track(this::prepare), parallelism);
+  }
+
+  // Checks changes of the table and generates its footer, unchanged tables are remembered
+  private boolean prepare(EntityTableDefinition table) {
+    if (index != null) {
+      File file = getFile(table);
+      boolean changed = index.isChanged(table, signature);
+      if (!changed && writeSources && file.exists()) {
+        unchanged.add(file.getAbsoluteFile());
+        metrics.add(SKIPPED_COUNTER, 1);
+        return false;
+      }
+    }
+    metrics.add(TABLES_COUNTER, 1);
+    if (parallelism > 1) {
       BufferedCodeTarget target = new BufferedCodeTarget();
-      GenerateContext context = new GenerateContext(entity, new IndentCodeTarget(target));
-      for (GenerateChainPart method : methods) {
-        method.generate(context);
+      generateFooter(table, target);
+      footers.put(table, target.getBuffer());
+    }
+    return true;
+  }
+
+  // Writes footer of the table to the target: converters, mapping methods of entities and records
+  private void generateFooter(EntityTableDefinition table, CodeTarget target) {
+    GenerateContext context = new GenerateContext(table, new IndentCodeTarget(target));
+    context.setVariable(NULL_EMBEDDED, nullEmbedded);
+    context.setVariable(CHANGED_RECORDS, changedRecords);
+    context.setVariable(MAPPING_METRICS, mappingMetrics);
+    for (GenerateChainPart method : methods) {
+      method.generate(context);
+    }
+  }
+
+  // Generates class of the entity mappers, it registers mapped tables of all schemas of the catalog
+  private void generateMappers(CatalogDefinition catalog) {
+    Map<Class<?>, String> tables = new LinkedHashMap<>();
+    for (SchemaDefinition schema : catalog.getSchemata()) {
+      for (TableDefinition table : schema.getTables()) {
+        if (EntityTableDefinition.class.equals(table.getClass())) {
+          EntityTableDefinition entityTable = (EntityTableDefinition) table;
+          if (entityTable.isMapping()) {
+            tables.putIfAbsent(
+                entityTable.getEntityType(),
+                getStrategy().getFullJavaIdentifier(entityTable)
+            );
+          }
+        }
+      }
+    }
+
+    if (!tables.isEmpty()) {
+      JavaWriter out = newJavaWriter(
+          new File(getFile(catalog).getParentFile(), MAPPERS_CLASS_NAME.concat(SOURCE_EXT))
+      );
+      printPackage(out, catalog);
+      if (generateJavadoc()) {
+        out.javadoc("Mappers of the entities, use 'applyTo' to set them to the configuration.");
+      }
+      try (WriterCodeTarget target = new WriterCodeTarget(new JavaWriterAppender(out))) {
+        new EntityMappersCodeGenerator(MAPPERS_CLASS_NAME, tables).generate(
+            new IndentCodeTarget(target, IndentCodeTarget.DEFAULT_INDENT, 0)
+        );
+      }
+      closeJavaWriter(out);
+    }
+  }
+
+  // Reads settings of the generation from properties of the database
+  private void init(Database database) {
+    if (!initialized) {
+      initialized = true;
+      Properties properties = database.getProperties();
+
+      nullEmbedded = Boolean.parseBoolean(properties.getProperty(NULL_EMBEDDED.getName()));
+      changedRecords = Boolean.parseBoolean(properties.getProperty(CHANGED_RECORDS.getName()));
+      mappingMetrics = Boolean.parseBoolean(properties.getProperty(MAPPING_METRICS.getName()));
+      dialect = properties.getProperty(DIALECT.getName(), dialect);
+
+      String generateIndex = properties.getProperty(GENERATE_INDEX.getName());
+      if (generateIndex != null && !generateIndex.isEmpty()) {
+        index = GenerateIndex.load(Paths.get(generateIndex));
+        signature = getSignature();
+      }
+
+      String session = properties.getProperty(GENERATED_SOURCES.getName());
+      if (session != null) {
+        sources = GeneratedSources.find(session).orElse(null);
+      }
+
+      String write = properties.getProperty(WRITE_SOURCES.getName());
+      if (write != null) {
+        writeSources = Boolean.parseBoolean(write);
+      }
+
+      String metricsSession = properties.getProperty(METRICS.getName());
+      CodegenMetrics.find(metricsSession).ifPresent(
+          codegen -> metrics = codegen.getPhase(CodegenMetrics.GENERATION)
+      );
+
+      if (database instanceof Entity2JooqDatabase) {
+        parallelism = ((Entity2JooqDatabase) database).getParallelism();
       }
-      out.print(target.getBuffer());
     }
   }
 }
@@ -0,0 +1,75 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Parallel tasks of the generation. Elements are processed on the fork-join pool, results are
+ * returned in order of the elements, so output of the generation does not depend on parallelism.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public final class ParallelTasks {
+  private ParallelTasks() {
+  }
+
+  /**
+   * Maps elements in parallel, value of parallelism 1 or less gives serial mapping in the current
+   * thread.
+   *
+   * @param elements    elements for mapping
+   * @param mapper      mapper of the element
+   * @param parallelism count of the threads
+   * @param <T>         type of the elements
+   * @param <R>         type of the results
+   * @return results in order of the elements
+   * @throws RuntimeException when mapping of the element fails
+   */
+  public static <T, R> List<R> map(
+      List<T> elements,
+      Function<T, R> mapper,
+      int parallelism
+  ) throws RuntimeException {
+    if (parallelism <= 1 || elements.size() <= 1) {
+      return elements.stream().map(mapper).collect(Collectors.toList());
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, elements.size()));
+    try {
+      return pool
+          .submit(() -> elements.parallelStream().map(mapper).collect(Collectors.toList()))
+          .get();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(exception);
+    } catch (ExecutionException exception) {
+      Throwable cause = exception.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new RuntimeException(cause);
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -16,6 +16,7 @@
 
 package io.github.devastool.entity2jooq.codegen.definition;
 
+import io.github.devastool.entity2jooq.codegen.definition.type.EntityDataTypeDefinition;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
@@ -59,6 +60,24 @@ public class EntityTableDefinition extends AbstractTableDefinition {
     this.columns = List.copyOf(columns);
   }
 
+  /**
+   * Returns count of the columns with converters.
+   *
+   * @return count of the columns with converters
+   */
+  public int getConverterCount() {
+    int converters = 0;
+    for (ColumnDefinition column : getColumns()) {
+      if (column.getType() instanceof EntityDataTypeDefinition) {
+        EntityDataTypeDefinition type = (EntityDataTypeDefinition) column.getType();
+        if (type.getConverterDefinition() != null) {
+          converters++;
+        }
+      }
+    }
+    return converters;
+  }
+
   /**
    * Returns enable/disable flag of mapping functionality.
    *
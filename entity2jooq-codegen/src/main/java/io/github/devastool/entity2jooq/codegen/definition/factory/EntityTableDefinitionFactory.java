@@ -24,6 +24,7 @@ import io.github.devastool.entity2jooq.annotation.Table;
 import io.github.devastool.entity2jooq.annotation.naming.NamingStrategy;
 import io.github.devastool.entity2jooq.codegen.definition.EntitySchemaDefinition;
 import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.metrics.TableBuildEvent;
 import io.github.devastool.entity2jooq.codegen.properties.CodegenProperties;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -63,6 +64,9 @@ public class EntityTableDefinitionFactory
   public EntityTableDefinition build(Class<?> type, CodegenProperties properties) {
     Table annotation = type.getAnnotation(Table.class);
     if (annotation != null) {
+      TableBuildEvent event = new TableBuildEvent();
+      event.begin();
+
       String name = annotation.value();
 
       Class<? extends NamingStrategy> naming = annotation.naming();
@@ -102,6 +106,14 @@ public class EntityTableDefinitionFactory
       }
       table.setColumns(columns);
 
+      event.end();
+      if (event.shouldCommit()) {
+        event.setEntity(type);
+        event.setTable(table.getQualifiedName());
+        event.setColumns(columns.size());
+        event.setConverters(table.getConverterCount());
+        event.commit();
+      }
       return table;
     }
     return null;
@@ -16,21 +16,24 @@
 
 package io.github.devastool.entity2jooq.codegen.definition.factory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Context with caching instance.
+ * Context with caching instance. Instances are cached by type and arguments of the constructor,
+ * the cache belongs to the build and is released by {@link #clear()}.
  *
  * @author Evgeniy_Gerasimov
  * @since 1.0.0
  */
 public class FactoryContext {
   /**
-   * Cache of context instances.
+   * Cache of context instances by type and arguments.
    */
-  private static final Map<Class<?>, Object> CACHE = new HashMap<>();
+  private final Map<List<Object>, Object> cache = new ConcurrentHashMap<>();
 
   /**
    * Getting instance of naming strategy.
@@ -44,7 +47,17 @@ public class FactoryContext {
       throw new IllegalArgumentException("Type cannot be null");
     }
 
-    return type.cast(CACHE.computeIfAbsent(type, value -> createInstance(type, args)));
+    List<Object> key = new ArrayList<>(args.length + 1);
+    key.add(type);
+    key.addAll(Arrays.asList(args));
+    return type.cast(cache.computeIfAbsent(key, value -> createInstance(type, args)));
+  }
+
+  /**
+   * Releases cached instances.
+   */
+  public void clear() {
+    cache.clear();
   }
 
   /**
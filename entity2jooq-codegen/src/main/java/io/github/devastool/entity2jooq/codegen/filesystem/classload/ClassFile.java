@@ -32,6 +32,7 @@ import java.util.Objects;
 public class ClassFile {
   private final Path root;
   private final Path classFile;
+  private volatile ClassFileMetadata metadata;
 
   private static final String EMPTY = "";
   private static final String PACKAGE_SEPARATOR = ".";
@@ -62,6 +63,15 @@ public class ClassFile {
         .replace(FILE_EXTENSION, EMPTY);
   }
 
+  /**
+   * Returns path to the class file.
+   *
+   * @return path to the class file
+   */
+  public Path getPath() {
+    return classFile;
+  }
+
   /**
    * Returns data of the class.
    *
@@ -76,6 +86,27 @@ public class ClassFile {
     }
   }
 
+  /**
+   * Returns meta-information of the class, the class is not loaded. Meta-information is read once
+   * and cached.
+   *
+   * @return meta-information of the class
+   * @throws RuntimeException when reading of data fails
+   */
+  public ClassFileMetadata getMetadata() throws RuntimeException {
+    ClassFileMetadata current = metadata;
+    if (current == null) {
+      current = ClassFileMetadata.read(getClassData());
+      metadata = current;
+    }
+    return current;
+  }
+
+  // Sets meta-information of the class, for example from the index
+  void setMetadata(ClassFileMetadata metadata) {
+    this.metadata = metadata;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (this == other) {
@@ -0,0 +1,259 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.filesystem.classload;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Meta-information of the class, it is read from the bytecode without class loading. Contains
+ * names of the class, its superclass and descriptors of the runtime visible annotations of the
+ * class.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class ClassFileMetadata {
+  private final String className;
+  private final String superClassName;
+  private final Set<String> annotations;
+
+  private static final int MAGIC = 0xCAFEBABE;
+  private static final String ANNOTATIONS_ATTRIBUTE = "RuntimeVisibleAnnotations";
+  private static final char INTERNAL_SEPARATOR = '/';
+  private static final char PACKAGE_SEPARATOR = '.';
+
+  // Tags of constant pool entries
+  private static final int UTF8 = 1;
+  private static final int INTEGER = 3;
+  private static final int FLOAT = 4;
+  private static final int LONG = 5;
+  private static final int DOUBLE = 6;
+  private static final int CLASS = 7;
+  private static final int STRING = 8;
+  private static final int FIELD_REF = 9;
+  private static final int METHOD_REF = 10;
+  private static final int INTERFACE_METHOD_REF = 11;
+  private static final int NAME_AND_TYPE = 12;
+  private static final int METHOD_HANDLE = 15;
+  private static final int METHOD_TYPE = 16;
+  private static final int DYNAMIC = 17;
+  private static final int INVOKE_DYNAMIC = 18;
+  private static final int MODULE = 19;
+  private static final int PACKAGE = 20;
+
+  /**
+   * Constructs new instance of {@link ClassFileMetadata}.
+   *
+   * @param className      full name of the class
+   * @param superClassName full name of the superclass or null
+   * @param annotations    descriptors of the annotations, example: 'Lmy/package/MyAnnotation;'
+   */
+  public ClassFileMetadata(String className, String superClassName, Set<String> annotations) {
+    this.className = className;
+    this.superClassName = superClassName;
+    this.annotations = Collections.unmodifiableSet(annotations);
+  }
+
+  /**
+   * Reads meta-information from data of the class.
+   *
+   * @param classData data of the class
+   * @return meta-information of the class
+   * @throws RuntimeException when data of the class is incorrect
+   */
+  public static ClassFileMetadata read(byte[] classData) throws RuntimeException {
+    try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(classData))) {
+      if (input.readInt() != MAGIC) {
+        throw new IOException("Incorrect magic number");
+      }
+      input.skipBytes(4); // minor_version, major_version
+
+      int poolSize = input.readUnsignedShort();
+      Object[] pool = new Object[poolSize];
+      for (int index = 1; index < poolSize; index++) {
+        int tag = input.readUnsignedByte();
+        switch (tag) {
+          case UTF8:
+            pool[index] = input.readUTF();
+            break;
+          case CLASS:
+            pool[index] = input.readUnsignedShort();
+            break;
+          case LONG:
+          case DOUBLE:
+            input.skipBytes(8);
+            index++;
+            break;
+          case INTEGER:
+          case FLOAT:
+          case FIELD_REF:
+          case METHOD_REF:
+          case INTERFACE_METHOD_REF:
+          case NAME_AND_TYPE:
+          case DYNAMIC:
+          case INVOKE_DYNAMIC:
+            input.skipBytes(4);
+            break;
+          case METHOD_HANDLE:
+            input.skipBytes(3);
+            break;
+          case STRING:
+          case METHOD_TYPE:
+          case MODULE:
+          case PACKAGE:
+            input.skipBytes(2);
+            break;
+          default:
+            throw new IOException(String.join("", "Unknown constant tag [", tag + "", "]"));
+        }
+      }
+
+      input.skipBytes(2); // access_flags
+      final String className = readClassName(pool, input.readUnsignedShort());
+      final String superClassName = readClassName(pool, input.readUnsignedShort());
+      input.skipBytes(2 * input.readUnsignedShort()); // interfaces
+
+      skipMembers(input); // fields
+      skipMembers(input); // methods
+
+      Set<String> annotations = new HashSet<>();
+      int attributes = input.readUnsignedShort();
+      for (int index = 0; index < attributes; index++) {
+        Object name = pool[input.readUnsignedShort()];
+        int length = input.readInt();
+        if (ANNOTATIONS_ATTRIBUTE.equals(name)) {
+          int count = input.readUnsignedShort();
+          for (int annotation = 0; annotation < count; annotation++) {
+            annotations.add((String) pool[input.readUnsignedShort()]);
+            skipElementValuePairs(input);
+          }
+        } else {
+          input.skipBytes(length);
+        }
+      }
+      return new ClassFileMetadata(className, superClassName, annotations);
+    } catch (Exception exception) {
+      throw new RuntimeException("Reading error of class data", exception);
+    }
+  }
+
+  /**
+   * Returns full name of the class, example: 'my.package.MyClass'.
+   *
+   * @return full name of the class
+   */
+  public String getClassName() {
+    return className;
+  }
+
+  /**
+   * Returns full name of the superclass or null when the class has no superclass.
+   *
+   * @return full name of the superclass or null
+   */
+  public String getSuperClassName() {
+    return superClassName;
+  }
+
+  /**
+   * Returns descriptors of the runtime visible annotations of the class.
+   *
+   * @return descriptors of the annotations, example: 'Lmy/package/MyAnnotation;'
+   */
+  public Set<String> getAnnotations() {
+    return annotations;
+  }
+
+  /**
+   * Checks presence of the annotation of the class.
+   *
+   * @param annotation type of the annotation
+   * @return true - when class is annotated, false - when class is not annotated
+   */
+  public boolean isAnnotated(Class<? extends Annotation> annotation) {
+    return annotations.contains(getDescriptor(annotation));
+  }
+
+  // Returns descriptor of the type, example: 'Lmy/package/MyAnnotation;'
+  private static String getDescriptor(Class<?> type) {
+    return String.join(
+        "",
+        "L",
+        type.getName().replace(PACKAGE_SEPARATOR, INTERNAL_SEPARATOR),
+        ";"
+    );
+  }
+
+  // Returns name of the class by index of the constant pool
+  private static String readClassName(Object[] pool, int index) {
+    if (index == 0) {
+      return null;
+    }
+    String name = (String) pool[(Integer) pool[index]];
+    return name.replace(INTERNAL_SEPARATOR, PACKAGE_SEPARATOR);
+  }
+
+  // Skips fields or methods
+  private static void skipMembers(DataInputStream input) throws IOException {
+    int count = input.readUnsignedShort();
+    for (int member = 0; member < count; member++) {
+      input.skipBytes(6); // access_flags, name_index, descriptor_index
+      int attributes = input.readUnsignedShort();
+      for (int attribute = 0; attribute < attributes; attribute++) {
+        input.skipBytes(2); // attribute_name_index
+        input.skipBytes(input.readInt());
+      }
+    }
+  }
+
+  // Skips element-value pairs of the annotation
+  private static void skipElementValuePairs(DataInputStream input) throws IOException {
+    int pairs = input.readUnsignedShort();
+    for (int pair = 0; pair < pairs; pair++) {
+      input.skipBytes(2); // element_name_index
+      skipElementValue(input);
+    }
+  }
+
+  // Skips value of the annotation's element
+  private static void skipElementValue(DataInputStream input) throws IOException {
+    int tag = input.readUnsignedByte();
+    switch (tag) {
+      case 'e':
+        input.skipBytes(4);
+        break;
+      case '@':
+        input.skipBytes(2);
+        skipElementValuePairs(input);
+        break;
+      case '[':
+        int values = input.readUnsignedShort();
+        for (int value = 0; value < values; value++) {
+          skipElementValue(input);
+        }
+        break;
+      default:
+        input.skipBytes(2);
+    }
+  }
+}
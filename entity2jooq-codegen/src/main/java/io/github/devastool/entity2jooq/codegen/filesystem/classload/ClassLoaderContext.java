@@ -19,6 +19,10 @@ package io.github.devastool.entity2jooq.codegen.filesystem.classload;
 import static io.github.devastool.entity2jooq.codegen.filesystem.ExtFileVisitor.CLASS_FILE_EXT;
 
 import io.github.devastool.entity2jooq.codegen.filesystem.ExtFileVisitor;
+import io.github.devastool.entity2jooq.codegen.metrics.ClassScanEvent;
+import io.github.devastool.entity2jooq.codegen.metrics.CodegenMetrics;
+import io.github.devastool.entity2jooq.codegen.metrics.PhaseMetrics;
+import io.github.devastool.entity2jooq.codegen.metrics.PhaseMetrics.Measurement;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
@@ -26,11 +30,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Class loader context, it holds information about classpath, files of classes, etc.
@@ -39,17 +48,66 @@ import java.util.Optional;
  * @author Andrey_Yurzanov
  */
 public class ClassLoaderContext implements Iterable<ClassFile> {
+  private final int parallelism;
+  private final ClassScanIndex index;
+  private final PhaseMetrics metrics;
   private final List<URL> classpath;
   private final Map<String, ClassFile> classFiles;
 
   private static final String CLASSPATH_SEPARATOR = File.pathSeparator;
+  private static final String FILES_COUNTER = "files";
+  private static final String BYTES_COUNTER = "bytes";
 
   /**
-   * Constructs new instance of {@link ClassLoaderContext}.
+   * Constructs new instance of {@link ClassLoaderContext}, count of the threads for scanning is
+   * count of the available processors.
    */
   public ClassLoaderContext() {
-    classpath = new ArrayList<>();
-    classFiles = new HashMap<>();
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructs new instance of {@link ClassLoaderContext}, count of the threads for scanning is
+   * count of the available processors.
+   *
+   * @param index index of the previous scan or null
+   */
+  public ClassLoaderContext(ClassScanIndex index) {
+    this(Runtime.getRuntime().availableProcessors(), index);
+  }
+
+  /**
+   * Constructs new instance of {@link ClassLoaderContext}.
+   *
+   * @param parallelism count of the threads for scanning of root directories
+   */
+  public ClassLoaderContext(int parallelism) {
+    this(parallelism, null);
+  }
+
+  /**
+   * Constructs new instance of {@link ClassLoaderContext}.
+   *
+   * @param parallelism count of the threads for scanning of root directories
+   * @param index       index of the previous scan or null
+   */
+  public ClassLoaderContext(int parallelism, ClassScanIndex index) {
+    this(parallelism, index, new PhaseMetrics(CodegenMetrics.SCAN));
+  }
+
+  /**
+   * Constructs new instance of {@link ClassLoaderContext}.
+   *
+   * @param parallelism count of the threads for scanning of root directories
+   * @param index       index of the previous scan or null
+   * @param metrics     metrics of the scanning, counters: files, bytes
+   */
+  public ClassLoaderContext(int parallelism, ClassScanIndex index, PhaseMetrics metrics) {
+    this.parallelism = Math.max(1, parallelism);
+    this.index = index;
+    this.metrics = metrics;
+    this.classpath = new ArrayList<>();
+    this.classFiles = new TreeMap<>();
   }
 
   /**
@@ -78,18 +136,63 @@ public class ClassLoaderContext implements Iterable<ClassFile> {
    * @param root root directory
    */
   public void addRoot(Path root) {
+    addRoots(List.of(root));
+  }
+
+  /**
+   * Adds root directories, root directory is directory that contains class files. Directories are
+   * walked and class files are read in parallel, meta-information of the classes is cached. Order
+   * of the result does not depend on the threads, a class from the last root wins. When the index
+   * is present, unchanged class files are taken from the index and the index is saved. Walked
+   * files and read bytes are added to the metrics, allocation of the tasks is tracked.
+   *
+   * @param roots root directories
+   */
+  public void addRoots(Collection<Path> roots) {
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    long indexRead = index == null ? 0 : index.getBytesRead();
     try {
-      ExtFileVisitor visitor = new ExtFileVisitor(CLASS_FILE_EXT);
-      Files.walkFileTree(root, visitor);
+      List<Future<Collection<ClassFile>>> walks = new ArrayList<>();
+      for (Path root : roots) {
+        walks.add(executor.submit(() -> {
+          try (Measurement ignored = metrics.track()) {
+            return walk(root);
+          }
+        }));
+      }
 
-      visitor
-          .getFiltered(path -> new ClassFile(root, path))
-          .forEach(file -> classFiles.put(file.getCanonicalClassName(), file));
-    } catch (IOException exception) {
-      throw new RuntimeException(
-          String.join("Loading error of files by path: [", root.toString(), "]"),
-          exception
-      );
+      List<ClassFile> files = new ArrayList<>();
+      for (Future<Collection<ClassFile>> walk : walks) {
+        files.addAll(walk.get());
+      }
+
+      List<Future<Boolean>> reads = new ArrayList<>(files.size());
+      for (ClassFile file : files) {
+        reads.add(executor.submit(() -> {
+          try (Measurement ignored = metrics.track()) {
+            return readMetadata(file);
+          }
+        }));
+      }
+      for (Future<Boolean> read : reads) {
+        read.get();
+      }
+
+      for (ClassFile file : files) {
+        classFiles.put(file.getCanonicalClassName(), file);
+      }
+      metrics.add(FILES_COUNTER, files.size());
+      if (index != null) {
+        metrics.add(BYTES_COUNTER, index.getBytesRead() - indexRead);
+        index.save();
+      }
+    } catch (ExecutionException exception) {
+      throw new RuntimeException(exception.getCause());
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(exception);
+    } finally {
+      executor.shutdownNow();
     }
   }
 
@@ -118,4 +221,45 @@ public class ClassLoaderContext implements Iterable<ClassFile> {
         .values()
         .iterator();
   }
+
+  // Walks root directory and returns sorted class files
+  private static Collection<ClassFile> walk(Path root) {
+    try {
+      ExtFileVisitor visitor = new ExtFileVisitor(CLASS_FILE_EXT);
+      Files.walkFileTree(root, visitor);
+
+      return visitor.getFiltered(path -> new ClassFile(root, path));
+    } catch (IOException exception) {
+      throw new RuntimeException(
+          String.join("", "Loading error of files by path: [", root.toString(), "]"),
+          exception
+      );
+    }
+  }
+
+  // Reads and caches meta-information of the class, incorrect class data is checked after loading
+  private boolean readMetadata(ClassFile file) {
+    ClassScanEvent event = new ClassScanEvent();
+    event.begin();
+    try {
+      if (index != null) {
+        file.setMetadata(index.resolve(file));
+      } else {
+        byte[] classData = file.getClassData();
+        metrics.add(BYTES_COUNTER, classData.length);
+        file.setMetadata(ClassFileMetadata.read(classData));
+      }
+      return true;
+    } catch (RuntimeException exception) {
+      return false;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.setClassName(file.getCanonicalClassName());
+        event.setPath(file.getPath().toString());
+        event.setSize(file.getPath().toFile().length());
+        event.commit();
+      }
+    }
+  }
 }
@@ -0,0 +1,227 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.filesystem.classload;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent index of scanned class files. It stores size, modification time, content hash and
+ * meta-information of each class, so unchanged class files are not read and parsed again on the
+ * next build.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class ClassScanIndex {
+  private final Path file;
+  private final Map<String, Entry> previous;
+  private final Map<String, Entry> current;
+  private final LongAdder bytesRead;
+
+  private static final String HEADER = "entity2jooq-scan-index 1";
+  private static final String SEPARATOR = "\t";
+  private static final String LIST_SEPARATOR = ",";
+  private static final String EMPTY = "";
+  private static final int COLUMNS = 7;
+
+  /**
+   * Constructs new instance of {@link ClassScanIndex}.
+   *
+   * @param file     file of the index
+   * @param previous entries of the previous scan by paths of the class files
+   */
+  private ClassScanIndex(Path file, Map<String, Entry> previous) {
+    this.file = file;
+    this.previous = previous;
+    this.current = new ConcurrentHashMap<>();
+    this.bytesRead = new LongAdder();
+  }
+
+  /**
+   * Loads index from the file, incorrect or absent file gives empty index.
+   *
+   * @param file file of the index
+   * @return loaded index
+   */
+  public static ClassScanIndex load(Path file) {
+    Map<String, Entry> entries = new HashMap<>();
+    if (Files.isRegularFile(file)) {
+      try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+        if (HEADER.equals(reader.readLine())) {
+          String line = reader.readLine();
+          while (line != null) {
+            String[] columns = line.split(SEPARATOR, -1);
+            if (columns.length == COLUMNS) {
+              entries.put(columns[0], Entry.parse(columns));
+            }
+            line = reader.readLine();
+          }
+        }
+      } catch (Exception exception) {
+        entries.clear();
+      }
+    }
+    return new ClassScanIndex(file, entries);
+  }
+
+  /**
+   * Resolves meta-information of the class file. Meta-information is taken from the index when
+   * size and modification time or content of the class file are not changed.
+   *
+   * @param classFile class file
+   * @return meta-information of the class
+   * @throws RuntimeException when reading of the class file fails
+   */
+  public ClassFileMetadata resolve(ClassFile classFile) throws RuntimeException {
+    try {
+      Path path = classFile.getPath();
+      String key = path.toAbsolutePath().toString();
+      BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      long size = attributes.size();
+      long modified = attributes.lastModifiedTime().toMillis();
+
+      Entry entry = previous.get(key);
+      if (entry == null || entry.size != size || entry.modified != modified) {
+        byte[] classData = classFile.getClassData();
+        bytesRead.add(classData.length);
+        long hash = getHash(classData);
+        if (entry == null || entry.hash != hash) {
+          entry = new Entry(size, modified, hash, ClassFileMetadata.read(classData));
+        } else {
+          entry = new Entry(size, modified, hash, entry.metadata);
+        }
+      }
+      current.put(key, entry);
+      return entry.metadata;
+    } catch (IOException exception) {
+      throw new RuntimeException(exception);
+    }
+  }
+
+  /**
+   * Returns count of bytes read from changed class files by this instance.
+   *
+   * @return count of bytes read
+   */
+  public long getBytesRead() {
+    return bytesRead.sum();
+  }
+
+  /**
+   * Saves index to the file, only class files resolved by this instance are saved.
+   *
+   * @throws RuntimeException when writing of the file fails
+   */
+  public void save() throws RuntimeException {
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+
+      Path temp = Files.createTempFile(parent, file.getFileName().toString(), null);
+      try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+        writer.write(HEADER);
+        writer.newLine();
+        for (Map.Entry<String, Entry> element : new TreeMap<>(current).entrySet()) {
+          writer.write(element.getKey());
+          writer.write(SEPARATOR);
+          writer.write(element.getValue().format());
+          writer.newLine();
+        }
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException exception) {
+      throw new RuntimeException(
+          String.join("", "Writing error of index: [", file.toString(), "]"),
+          exception
+      );
+    }
+  }
+
+  // Returns hash of the class data
+  private static long getHash(byte[] classData) {
+    CRC32 hash = new CRC32();
+    hash.update(classData);
+    return hash.getValue();
+  }
+
+  /**
+   * Indexed information about the class file.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0.0
+   */
+  private static class Entry {
+    private final long size;
+    private final long modified;
+    private final long hash;
+    private final ClassFileMetadata metadata;
+
+    private Entry(long size, long modified, long hash, ClassFileMetadata metadata) {
+      this.size = size;
+      this.modified = modified;
+      this.hash = hash;
+      this.metadata = metadata;
+    }
+
+    // Parses entry from columns: path, size, modified, hash, class, superclass, annotations
+    private static Entry parse(String[] columns) {
+      Set<String> annotations = new HashSet<>();
+      if (!columns[6].isEmpty()) {
+        annotations.addAll(Arrays.asList(columns[6].split(LIST_SEPARATOR)));
+      }
+
+      String superClassName = columns[5].isEmpty() ? null : columns[5];
+      return new Entry(
+          Long.parseLong(columns[1]),
+          Long.parseLong(columns[2]),
+          Long.parseLong(columns[3]),
+          new ClassFileMetadata(columns[4], superClassName, annotations)
+      );
+    }
+
+    // Formats entry to columns: size, modified, hash, class, superclass, annotations
+    private String format() {
+      String superClassName = metadata.getSuperClassName();
+      return String.join(
+          SEPARATOR,
+          Long.toString(size),
+          Long.toString(modified),
+          Long.toString(hash),
+          metadata.getClassName(),
+          superClassName == null ? EMPTY : superClassName,
+          String.join(LIST_SEPARATOR, new TreeSet<>(metadata.getAnnotations()))
+      );
+    }
+  }
+}
@@ -16,8 +16,10 @@
 
 package io.github.devastool.entity2jooq.codegen.filesystem.classload;
 
+import io.github.devastool.entity2jooq.codegen.metrics.ClassLoadEvent;
 import java.net.URLClassLoader;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Classes loader by paths.
@@ -27,9 +29,14 @@ import java.util.Optional;
  */
 public class PathClassLoader extends URLClassLoader {
   private final ClassLoaderContext context;
+  private final LongAdder defined = new LongAdder();
 
   private static final int DEFINE_CLASS_OFFSET = 0;
 
+  static {
+    registerAsParallelCapable();
+  }
+
   /**
    * Constructs new instance of {@link PathClassLoader}.
    *
@@ -51,20 +58,33 @@ public class PathClassLoader extends URLClassLoader {
   public Class<?> loadClass(ClassFile element) throws ClassNotFoundException {
     String className = element.getCanonicalClassName();
 
-    Class<?> defined = findLoadedClass(className);
-    if (defined == null) {
-      try {
-        byte[] classData = element.getClassData();
-        defined = defineClass(className, classData, DEFINE_CLASS_OFFSET, classData.length);
-        resolveClass(defined);
-      } catch (Exception exception) {
-        throw new ClassNotFoundException(
-            String.join("", "Loading error of class [", className, "]"),
-            exception
-        );
+    // Classes can be loaded by several threads, the class is defined only once
+    synchronized (getClassLoadingLock(className)) {
+      Class<?> defined = findLoadedClass(className);
+      if (defined == null) {
+        ClassLoadEvent event = new ClassLoadEvent();
+        event.begin();
+        try {
+          byte[] classData = element.getClassData();
+          defined = defineClass(className, classData, DEFINE_CLASS_OFFSET, classData.length);
+          resolveClass(defined);
+          this.defined.increment();
+
+          event.end();
+          if (event.shouldCommit()) {
+            event.setClassName(className);
+            event.setSize(classData.length);
+            event.commit();
+          }
+        } catch (Exception exception) {
+          throw new ClassNotFoundException(
+              String.join("", "Loading error of class [", className, "]"),
+              exception
+          );
+        }
       }
+      return defined;
     }
-    return defined;
   }
 
   @Override
@@ -83,4 +103,13 @@ public class PathClassLoader extends URLClassLoader {
       );
     }
   }
+
+  /**
+   * Returns count of the classes defined by this loader.
+   *
+   * @return count of the defined classes
+   */
+  public long getDefinedCount() {
+    return defined.sum();
+  }
 }
@@ -18,12 +18,16 @@ package io.github.devastool.entity2jooq.codegen.generate;
 
 import io.github.devastool.entity2jooq.annotation.naming.NamingStrategy;
 import io.github.devastool.entity2jooq.annotation.naming.SnakeCaseStrategy;
+import io.github.devastool.entity2jooq.annotation.type.converter.EnumConverter;
 import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
 import io.github.devastool.entity2jooq.codegen.definition.type.ConverterDefinition;
 import io.github.devastool.entity2jooq.codegen.definition.type.EntityDataTypeDefinition;
 import io.github.devastool.entity2jooq.codegen.generate.code.CodeTarget;
 import io.github.devastool.entity2jooq.codegen.generate.code.FieldCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.InvokeMethodCodeGenerator;
 import io.github.devastool.entity2jooq.codegen.generate.code.operator.NewCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.OperatorCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarMemberCodeGenerator;
 import java.util.ArrayList;
 import java.util.Optional;
 import java.util.TreeSet;
@@ -38,6 +42,8 @@ import org.jooq.meta.ColumnDefinition;
 public class ConverterGenerateChainPart implements GenerateChainPart {
   private final NamingStrategy naming = new SnakeCaseStrategy(true);
 
+  private static final String SHARED_METHOD_NAME = "of";
+
   @Override
   public void generate(GenerateContext context) {
     EntityTableDefinition table = context.getTable();
@@ -62,11 +68,22 @@ public class ConverterGenerateChainPart implements GenerateChainPart {
           Class<?> type = toType.get();
           Class<?> converterType = converter.getConverterType();
 
-          NewCodeGenerator assignment = new NewCodeGenerator(
-              converterType,
-              codeTarget -> target.writeClass(type)
-          );
-          assignment.setGenericTypes(type);
+          OperatorCodeGenerator assignment;
+          if (EnumConverter.class.equals(converterType)) {
+            // Converter of the enum is shared by all tables
+            assignment = new VarMemberCodeGenerator(
+                converterType.getCanonicalName(),
+                new InvokeMethodCodeGenerator(
+                    SHARED_METHOD_NAME,
+                    codeTarget -> target.writeClass(type)
+                )
+            );
+          } else {
+            assignment = new NewCodeGenerator(
+                converterType,
+                codeTarget -> target.writeClass(type)
+            ).setGenericTypes(type);
+          }
 
           FieldCodeGenerator field = new FieldCodeGenerator(name, converterType, assignment);
           field.setGenericTypes(type);
@@ -0,0 +1,139 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.annotation.mapping.EntityMapperProvider;
+import io.github.devastool.entity2jooq.codegen.generate.code.CodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.CodeTarget;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.EndLineCodeOperator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.InvokeMethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.NewCodeGenerator;
+import java.util.Map;
+import org.jooq.Configuration;
+import org.jooq.impl.DefaultConfiguration;
+
+/**
+ * Generator of the class of entity mappers. The class extends {@link EntityMapperProvider} and
+ * registers 'toEntity' and 'toRecord' methods of the mapped tables by classes of the entities, so
+ * 'fetchInto', 'into' and 'newRecord' methods of Jooq use the generated mapping.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class EntityMappersCodeGenerator implements CodeGenerator {
+  private final String className;
+  private final Map<Class<?>, String> tables;
+
+  private static final String ACCESS_MODIFIER = "public";
+  private static final String CLASS_KEYWORD = "class";
+  private static final String EXTENDS_KEYWORD = "extends";
+  private static final String BODY_BEGIN = "{";
+  private static final String BODY_END = "}";
+  private static final String PARAMS_BEGIN = "(";
+  private static final String PARAMS_END = ")";
+  private static final String PARAM_NAME = "configuration";
+  private static final String THIS_KEYWORD = "this";
+  private static final String SUPER_KEYWORD = "super";
+  private static final String REGISTER_METHOD_NAME = "register";
+  private static final String TO_ENTITY_REFERENCE = "::toEntity";
+  private static final String TO_RECORD_REFERENCE = "::toRecord";
+
+  /**
+   * Constructs new instance of {@link EntityMappersCodeGenerator}.
+   *
+   * @param className simple name of the generated class
+   * @param tables    references to instances of the tables by classes of the entities
+   */
+  public EntityMappersCodeGenerator(String className, Map<Class<?>, String> tables) {
+    this.className = className;
+    this.tables = tables;
+  }
+
+  @Override
+  public void generate(CodeTarget target) {
+    target
+        .write(ACCESS_MODIFIER)
+        .space()
+        .write(CLASS_KEYWORD)
+        .space()
+        .write(className)
+        .space()
+        .write(EXTENDS_KEYWORD)
+        .space()
+        .write(EntityMapperProvider.class)
+        .space()
+        .writeln(BODY_BEGIN);
+
+    // Generates code: this(new DefaultConfiguration());
+    generateConstructorBegin(target, null);
+    target
+        .write(
+            new EndLineCodeOperator(
+                new InvokeMethodCodeGenerator(
+                    THIS_KEYWORD,
+                    new NewCodeGenerator(DefaultConfiguration.class)
+                )
+            )
+        )
+        .writeln(BODY_END)
+        .writeln();
+
+    // Generates code: super(configuration); register(...);
+    generateConstructorBegin(target, PARAM_NAME);
+    target.write(
+        new EndLineCodeOperator(
+            new InvokeMethodCodeGenerator(SUPER_KEYWORD, codeTarget -> codeTarget.write(PARAM_NAME))
+        )
+    );
+    for (Map.Entry<Class<?>, String> table : tables.entrySet()) {
+      String reference = table.getValue();
+      target.write(
+          new EndLineCodeOperator(
+              new InvokeMethodCodeGenerator(
+                  REGISTER_METHOD_NAME,
+                  codeTarget -> codeTarget.writeClass(table.getKey()),
+                  codeTarget -> codeTarget.write(reference),
+                  codeTarget -> codeTarget.write(reference.concat(TO_ENTITY_REFERENCE)),
+                  codeTarget -> codeTarget.write(reference.concat(TO_RECORD_REFERENCE))
+              )
+          )
+      );
+    }
+    target
+        .writeln(BODY_END)
+        .writeln(BODY_END);
+  }
+
+  // Generates declaration of the constructor with optional parameter of the configuration
+  private void generateConstructorBegin(CodeTarget target, String param) {
+    target
+        .write(ACCESS_MODIFIER)
+        .space()
+        .write(className)
+        .write(PARAMS_BEGIN);
+    if (param != null) {
+      target
+          .write(Configuration.class)
+          .space()
+          .write(param);
+    }
+    target
+        .write(PARAMS_END)
+        .space()
+        .writeln(BODY_BEGIN);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.annotation.access.FieldHandles;
+import io.github.devastool.entity2jooq.codegen.definition.EntityColumnDefinition;
+import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.definition.factory.FieldDetails;
+import io.github.devastool.entity2jooq.codegen.generate.access.FieldAccess;
+import io.github.devastool.entity2jooq.codegen.generate.code.FieldCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.InvokeMethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarMemberCodeGenerator;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.jooq.meta.ColumnDefinition;
+
+/**
+ * Implementation of {@link GenerateChainPart} for handle fields generating. Handles are generated
+ * for fields of the entity and its embedded objects without public getters, setters or public
+ * access, they are static final fields of the table. Names of the handles are unique in the table,
+ * a numeric postfix is added when different fields have the same handle name. Other parts of the
+ * generation resolve access to the fields by {@link #getAccess(GenerateContext, Field)}.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class FieldHandleGenerateChainPart implements GenerateChainPart {
+  private static final String FIND_METHOD_NAME = "find";
+  private static final String QUOTE = "\"";
+  private static final String SEPARATOR = "_";
+
+  @Override
+  public void generate(GenerateContext context) {
+    EntityTableDefinition table = context.getTable();
+    if (table.isMapping()) {
+      Map<Field, FieldAccess> handles = new LinkedHashMap<>();
+      Set<String> names = new HashSet<>();
+      for (ColumnDefinition column : new TreeSet<>(table.getColumns())) {
+        FieldDetails details = ((EntityColumnDefinition) column).getFieldDetails();
+        List<Field> fields = new ArrayList<>(details.getParentFields());
+        fields.add(details.getProcessedField());
+
+        for (Field field : fields) {
+          FieldAccess access = FieldAccess.of(field);
+          if (access.isHandle() && !handles.containsKey(field)) {
+            String name = access.getHandleName();
+            for (int postfix = 1; !names.add(name); postfix++) {
+              name = access.getHandleName().concat(SEPARATOR).concat(String.valueOf(postfix));
+            }
+            context.setVariable(field, name);
+            handles.put(field, access.withHandleName(name));
+          }
+        }
+      }
+
+      for (FieldAccess handle : handles.values()) {
+        Field field = handle.getField();
+        new FieldCodeGenerator(
+            handle.getHandleName(),
+            VarHandle.class,
+            new VarMemberCodeGenerator(
+                FieldHandles.class.getCanonicalName(),
+                new InvokeMethodCodeGenerator(
+                    FIND_METHOD_NAME,
+                    target -> target.writeClass(field.getDeclaringClass()),
+                    target -> target.write(QUOTE.concat(field.getName()).concat(QUOTE)),
+                    target -> target.writeClass(field.getType())
+                )
+            )
+        )
+            .setPrivate(true)
+            .setStatic(true)
+            .generate(context.getTarget());
+      }
+    }
+  }
+
+  /**
+   * Returns access to the field with the name of the handle generated for the table.
+   *
+   * @param context context of the generation
+   * @param field   field of the entity
+   * @return access to the field
+   */
+  public static FieldAccess getAccess(GenerateContext context, Field field) {
+    FieldAccess access = FieldAccess.of(field);
+    String name = context.getVariable(field, String.class);
+    if (name != null) {
+      return access.withHandleName(name);
+    }
+    return access;
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.generate.access.FieldAccess;
+import io.github.devastool.entity2jooq.codegen.generate.code.MethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.EndLineCodeOperator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.ForEachCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.InvokeMethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.NewCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.TypeCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarDefCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarMemberCodeGenerator;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.jooq.Cursor;
+import org.jooq.Record;
+import org.jooq.meta.ColumnDefinition;
+
+/**
+ * Implementation of {@link GenerateChainPart} for 'forEachEntity' method generating. Method
+ * 'forEachEntity' maps records of Jooq cursor one by one to the single entity instance and passes
+ * it to the action, so the action must not keep the instance. Indexes of the fields are resolved
+ * once for the cursor. Records and immutable classes are created for each Jooq record.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class ForEachEntityGenerateChainPart extends ToEntityGenerateChainPart {
+  private static final String METHOD_NAME = "forEachEntity";
+  private static final String CURSOR_PARAM_NAME = "cursor";
+  private static final String ACTION_PARAM_NAME = "action";
+  private static final String ELEMENT_NAME = "record";
+  private static final String ENTITY_NAME = "entity";
+  private static final String ACCEPT_METHOD_NAME = "accept";
+  private static final String SINGLE_ROW = "1";
+
+  @Override
+  public void generate(GenerateContext context) {
+    EntityTableDefinition table = context.getTable();
+    if (table.isMapping()) {
+      Class<?> type = table.getEntityType();
+      MethodCodeGenerator method = new MethodCodeGenerator(METHOD_NAME)
+          .setParam(
+              CURSOR_PARAM_NAME,
+              new TypeCodeGenerator(Cursor.class, TypeCodeGenerator.wildcard(Record.class))
+          )
+          .setParam(
+              ACTION_PARAM_NAME,
+              new TypeCodeGenerator(Consumer.class, TypeCodeGenerator.superWildcard(type))
+          );
+
+      Map<ColumnDefinition, String> indexes = generateIndexes(table, CURSOR_PARAM_NAME, method);
+      if (!FieldAccess.isConstructed(type)) {
+        method.setOperator(
+            new EndLineCodeOperator(
+                new VarDefCodeGenerator(
+                    ENTITY_NAME,
+                    new TypeCodeGenerator(type),
+                    new NewCodeGenerator(type)
+                )
+            )
+        );
+      }
+
+      ForEachCodeGenerator loop = new ForEachCodeGenerator(
+          new TypeCodeGenerator(Record.class),
+          ELEMENT_NAME,
+          target -> target.write(CURSOR_PARAM_NAME)
+      );
+      boolean metrics = MappingMetricsGenerateChainPart.isEnabled(context);
+      if (metrics) {
+        loop.setOperator(MappingMetricsGenerateChainPart.generateStart());
+      }
+      generateEntityValues(
+          context,
+          column -> getRecordSourceValueGetter(context, column, indexes.get(column))
+      )
+          .forEach(loop::setOperator);
+
+      // Time of the action is not a part of the mapping
+      if (metrics) {
+        loop.setOperator(
+            MappingMetricsGenerateChainPart.generateRecord(target -> target.write(SINGLE_ROW))
+        );
+      }
+      loop.setOperator(
+          new EndLineCodeOperator(
+              new VarMemberCodeGenerator(
+                  ACTION_PARAM_NAME,
+                  new InvokeMethodCodeGenerator(
+                      ACCEPT_METHOD_NAME,
+                      target -> target.write(ENTITY_NAME)
+                  )
+              )
+          )
+      );
+
+      method
+          .setOperator(loop)
+          .generate(context.getTarget());
+    }
+  }
+}
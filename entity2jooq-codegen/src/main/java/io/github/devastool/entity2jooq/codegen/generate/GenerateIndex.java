@@ -0,0 +1,211 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.codegen.definition.EntityColumnDefinition;
+import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.definition.factory.FieldDetails;
+import io.github.devastool.entity2jooq.codegen.definition.type.ConverterDefinition;
+import io.github.devastool.entity2jooq.codegen.definition.type.EntityDataTypeDefinition;
+import io.github.devastool.entity2jooq.codegen.generate.access.FieldAccess;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jooq.meta.ColumnDefinition;
+
+/**
+ * Persistent index of generated tables. It stores fingerprint of each generated table, the
+ * fingerprint covers the entity type, its columns, inherited and embedded fields, types,
+ * converters, dialect and signature of the generator. Unchanged tables are not generated again.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class GenerateIndex {
+  private final Path file;
+  private final Map<String, String> previous;
+  private final Map<String, String> current;
+
+  private static final String HEADER = "entity2jooq-generate-index 1";
+  private static final String SEPARATOR = "\t";
+  private static final String ELEMENT_SEPARATOR = "|";
+  private static final String EMPTY = "";
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final int HASH_RADIX = 16;
+  private static final int COLUMNS = 2;
+
+  /**
+   * Constructs new instance of {@link GenerateIndex}.
+   *
+   * @param file     file of the index
+   * @param previous fingerprints of the previous generation by names of the tables
+   */
+  private GenerateIndex(Path file, Map<String, String> previous) {
+    this.file = file;
+    this.previous = previous;
+    this.current = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Loads index from the file, incorrect or absent file gives empty index.
+   *
+   * @param file file of the index
+   * @return loaded index
+   */
+  public static GenerateIndex load(Path file) {
+    Map<String, String> fingerprints = new HashMap<>();
+    if (Files.isRegularFile(file)) {
+      try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+        if (HEADER.equals(reader.readLine())) {
+          String line = reader.readLine();
+          while (line != null) {
+            String[] columns = line.split(SEPARATOR, -1);
+            if (columns.length == COLUMNS) {
+              fingerprints.put(columns[0], columns[1]);
+            }
+            line = reader.readLine();
+          }
+        }
+      } catch (Exception exception) {
+        fingerprints.clear();
+      }
+    }
+    return new GenerateIndex(file, fingerprints);
+  }
+
+  /**
+   * Checks the table and remembers its fingerprint.
+   *
+   * @param table     table for checking
+   * @param signature signature of the generator, it includes settings of the generation
+   * @return true - when the table is changed since the previous generation, false - when the table
+   *         is not changed
+   */
+  public boolean isChanged(EntityTableDefinition table, String signature) {
+    String name = table.getQualifiedName();
+    String fingerprint = getFingerprint(table, signature);
+    current.put(name, fingerprint);
+    return !fingerprint.equals(previous.get(name));
+  }
+
+  /**
+   * Saves index to the file, only tables checked by this instance are saved.
+   *
+   * @throws RuntimeException when writing of the file fails
+   */
+  public void save() throws RuntimeException {
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+
+      Path temp = Files.createTempFile(parent, file.getFileName().toString(), null);
+      try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+        writer.write(HEADER);
+        writer.newLine();
+        for (Map.Entry<String, String> element : new TreeMap<>(current).entrySet()) {
+          writer.write(element.getKey());
+          writer.write(SEPARATOR);
+          writer.write(element.getValue());
+          writer.newLine();
+        }
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException exception) {
+      throw new RuntimeException(
+          String.join("", "Writing error of index: [", file.toString(), "]"),
+          exception
+      );
+    }
+  }
+
+  /**
+   * Returns fingerprint of the table.
+   *
+   * @param table     table for fingerprint
+   * @param signature signature of the generator, it includes settings of the generation
+   * @return fingerprint of the table
+   */
+  public static String getFingerprint(EntityTableDefinition table, String signature) {
+    StringBuilder builder = new StringBuilder(signature);
+    append(builder, table.getQualifiedName());
+    append(builder, table.getEntityType().getName());
+    append(builder, Boolean.toString(table.isMapping()));
+
+    for (ColumnDefinition column : table.getColumns()) {
+      append(builder, column.getName());
+
+      EntityDataTypeDefinition type = (EntityDataTypeDefinition) column.getType();
+      append(builder, type.getType());
+      append(builder, type.getJavaType());
+      append(builder, type.getJavaTypeReference());
+
+      ConverterDefinition converter = type.getConverterDefinition();
+      if (converter != null) {
+        append(builder, converter.getConverterType().getName());
+        append(builder, converter.getGenericToType().map(Class::getName).orElse(EMPTY));
+      }
+
+      FieldDetails details = ((EntityColumnDefinition) column).getFieldDetails();
+      for (Field parent : details.getParentFields()) {
+        append(builder, parent);
+      }
+      append(builder, details.getProcessedField());
+    }
+    return hash(builder.toString());
+  }
+
+  // Appends element of the fingerprint
+  private static void append(StringBuilder builder, String element) {
+    builder.append(ELEMENT_SEPARATOR).append(element);
+  }
+
+  // Appends field of the fingerprint: declaring class, type, name and access from generated code
+  private static void append(StringBuilder builder, Field field) {
+    append(builder, field.getDeclaringClass().getName());
+    append(builder, field.getType().getName());
+    append(builder, field.getName());
+
+    FieldAccess access = FieldAccess.of(field);
+    append(builder, access.getReadStyle().name());
+    append(builder, Objects.requireNonNullElse(access.getReadName(), EMPTY));
+    append(builder, access.getWriteStyle().name());
+    append(builder, Objects.requireNonNullElse(access.getWriteName(), EMPTY));
+  }
+
+  // Returns hash of the value
+  private static String hash(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+      byte[] hash = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+      return new BigInteger(1, hash).toString(HASH_RADIX);
+    } catch (Exception exception) {
+      throw new RuntimeException(exception);
+    }
+  }
+}
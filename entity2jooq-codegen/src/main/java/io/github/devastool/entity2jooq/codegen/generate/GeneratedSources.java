@@ -0,0 +1,122 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Generated source code in memory. Sources are registered by session, the session is opened by
+ * the caller of the generation (for example the maven plugin) and its identifier is passed to the
+ * generator by property.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class GeneratedSources {
+  private final Map<File, String> sources = new ConcurrentHashMap<>();
+  private final Set<File> written = ConcurrentHashMap.newKeySet();
+
+  private static final Map<String, GeneratedSources> SESSIONS = new ConcurrentHashMap<>();
+
+  /**
+   * Opens new session of generated sources.
+   *
+   * @param session identifier of the session
+   * @return sources of the session
+   */
+  public static GeneratedSources open(String session) {
+    GeneratedSources sources = new GeneratedSources();
+    SESSIONS.put(session, sources);
+    return sources;
+  }
+
+  /**
+   * Returns sources of the opened session.
+   *
+   * @param session identifier of the session
+   * @return sources of the session or empty container
+   */
+  public static Optional<GeneratedSources> find(String session) {
+    return Optional.ofNullable(SESSIONS.get(session));
+  }
+
+  /**
+   * Closes the session and releases its sources.
+   *
+   * @param session identifier of the session
+   */
+  public static void close(String session) {
+    SESSIONS.remove(session);
+  }
+
+  /**
+   * Adds generated source code.
+   *
+   * @param file   file of the source code
+   * @param source source code
+   */
+  public void put(File file, String source) {
+    sources.put(file.getAbsoluteFile(), source);
+  }
+
+  /**
+   * Returns size of the source code of the file in bytes, size of the file is returned for files
+   * without generated source code.
+   *
+   * @param file    file of the source code
+   * @param charset encoding of the source code
+   * @return size of the source code in bytes
+   */
+  public long getSize(File file, Charset charset) {
+    String source = sources.get(file.getAbsoluteFile());
+    return source != null ? source.getBytes(charset).length : file.length();
+  }
+
+  /**
+   * Returns generated source code, sorted by files.
+   *
+   * @return generated source code by files
+   */
+  public Map<File, String> getSources() {
+    return new TreeMap<>(sources);
+  }
+
+  /**
+   * Marks the file as written by the generation, files with unchanged source code are not written.
+   *
+   * @param file file of the source code
+   */
+  public void putWritten(File file) {
+    written.add(file.getAbsoluteFile());
+  }
+
+  /**
+   * Returns files written by the generation, sorted.
+   *
+   * @return written files
+   */
+  public Set<File> getWritten() {
+    return new TreeSet<>(written);
+  }
+}
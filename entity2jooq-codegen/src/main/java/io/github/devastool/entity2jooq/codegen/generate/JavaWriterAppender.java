@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import java.io.Writer;
+import org.jooq.codegen.JavaWriter;
+
+/**
+ * Implementation of {@link Writer}, it appends chars to {@link JavaWriter}. The source file is
+ * collected by {@link JavaWriter} before writing, because imports are added on closing.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class JavaWriterAppender extends Writer {
+  private final JavaWriter out;
+
+  /**
+   * Constructs new instance of {@link JavaWriterAppender}.
+   *
+   * @param out destination of the chars
+   */
+  public JavaWriterAppender(JavaWriter out) {
+    this.out = out;
+  }
+
+  @Override
+  public void write(char[] buffer, int offset, int length) {
+    out.print(new String(buffer, offset, length));
+  }
+
+  @Override
+  public void flush() {
+    // Chars are appended immediately
+  }
+
+  @Override
+  public void close() {
+    // Closing of the source file is managed by the generator
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.MAPPING_METRICS;
+
+import io.github.devastool.entity2jooq.annotation.mapping.MappingMetrics;
+import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.generate.code.FieldCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.EndLineCodeOperator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.InvokeMethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.OperatorCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.TypeCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarDefCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarMemberCodeGenerator;
+
+/**
+ * Implementation of {@link GenerateChainPart} for the field of the mapping metrics generating.
+ * The field is static final field of the table, it registers {@link MappingMetrics} of the table
+ * with count of the converted columns. Mapping methods measure themselves by the operators of this
+ * class when the mapping metrics are enabled.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class MappingMetricsGenerateChainPart implements GenerateChainPart {
+  private static final String FIELD_NAME = "MAPPING_METRICS";
+  private static final String START_VARIABLE_NAME = "mappingStart";
+  private static final String REGISTER_METHOD_NAME = "register";
+  private static final String RECORD_METHOD_NAME = "record";
+  private static final String NANO_TIME_METHOD_NAME = "nanoTime";
+  private static final String MINUS_OPERATOR = "-";
+  private static final String QUOTE = "\"";
+  private static final String ESCAPE = "\\";
+
+  @Override
+  public void generate(GenerateContext context) {
+    EntityTableDefinition table = context.getTable();
+    if (table.isMapping() && isEnabled(context)) {
+      String name = table
+          .getQualifiedName()
+          .replace(ESCAPE, ESCAPE.concat(ESCAPE))
+          .replace(QUOTE, ESCAPE.concat(QUOTE));
+      String count = Integer.toString(table.getConverterCount());
+      new FieldCodeGenerator(
+          FIELD_NAME,
+          MappingMetrics.class,
+          new VarMemberCodeGenerator(
+              MappingMetrics.class.getCanonicalName(),
+              new InvokeMethodCodeGenerator(
+                  REGISTER_METHOD_NAME,
+                  target -> target.write(QUOTE.concat(name).concat(QUOTE)),
+                  target -> target.write(count)
+              )
+          )
+      )
+          .setPrivate(true)
+          .setStatic(true)
+          .generate(context.getTarget());
+    }
+  }
+
+  /**
+   * Checks the mapping metrics of the generation.
+   *
+   * @param context context of the generation
+   * @return true if the mapping metrics are enabled, else false
+   */
+  public static boolean isEnabled(GenerateContext context) {
+    return Boolean.TRUE.equals(context.getVariable(MAPPING_METRICS, Boolean.class));
+  }
+
+  /**
+   * Generates start of the measurement, example: long mappingStart = System.nanoTime();
+   *
+   * @return operator of the measurement start
+   */
+  public static OperatorCodeGenerator generateStart() {
+    return new EndLineCodeOperator(
+        new VarDefCodeGenerator(
+            START_VARIABLE_NAME,
+            new TypeCodeGenerator(long.class),
+            new VarMemberCodeGenerator(
+                target -> target.write(System.class),
+                new InvokeMethodCodeGenerator(NANO_TIME_METHOD_NAME)
+            )
+        )
+    );
+  }
+
+  /**
+   * Generates end of the measurement, example:
+   * MAPPING_METRICS.record(rows, System.nanoTime() - mappingStart);
+   *
+   * @param rows operator of the count of the mapped rows
+   * @return operator of the measurement end
+   */
+  public static OperatorCodeGenerator generateRecord(OperatorCodeGenerator rows) {
+    return new EndLineCodeOperator(
+        new VarMemberCodeGenerator(
+            FIELD_NAME,
+            new InvokeMethodCodeGenerator(
+                RECORD_METHOD_NAME,
+                rows,
+                target -> target
+                    .write(
+                        new VarMemberCodeGenerator(
+                            codeTarget -> codeTarget.write(System.class),
+                            new InvokeMethodCodeGenerator(NANO_TIME_METHOD_NAME)
+                        )
+                    )
+                    .space()
+                    .write(MINUS_OPERATOR)
+                    .space()
+                    .write(START_VARIABLE_NAME)
+            )
+        )
+    );
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import org.jooq.codegen.Files;
+import org.jooq.codegen.JavaWriter;
+
+/**
+ * Implementation of {@link JavaWriter}, it passes complete source code to
+ * {@link GeneratedSources}. Writing to the file can be disabled. The file is not written when it
+ * contains the same source code, so its modification time is kept and it is not compiled again.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class SourceJavaWriter extends JavaWriter {
+  private final GeneratedSources sources;
+  private final boolean write;
+  private boolean unchanged;
+
+  private static final String EMPTY = "";
+
+  /**
+   * Constructs new instance of {@link SourceJavaWriter}.
+   *
+   * @param file                file of the source code
+   * @param fullyQualifiedTypes pattern of fully qualified types
+   * @param encoding            encoding of the file
+   * @param javadoc             enable/disable flag of javadoc generation
+   * @param files               cache of the directories
+   * @param sources             target for source code or null
+   * @param write               enable/disable flag of writing to the file
+   */
+  public SourceJavaWriter(
+      File file,
+      String fullyQualifiedTypes,
+      String encoding,
+      boolean javadoc,
+      Files files,
+      GeneratedSources sources,
+      boolean write
+  ) {
+    super(file, fullyQualifiedTypes, encoding, javadoc, files);
+    this.sources = sources;
+    this.write = write;
+  }
+
+  @Override
+  protected String beforeClose(String string) {
+    String source = super.beforeClose(string);
+    if (source.isBlank()) {
+      return source;
+    }
+
+    if (sources != null) {
+      sources.put(file(), source);
+    }
+    if (!write) {
+      return EMPTY;
+    }
+
+    // Blank result is not written, so the file with the same source code is kept as is
+    unchanged = isUnchanged(source.getBytes(Charset.forName(encoding())));
+    if (unchanged) {
+      return EMPTY;
+    }
+    if (sources != null) {
+      sources.putWritten(file());
+    }
+    return source;
+  }
+
+  @Override
+  public boolean close() {
+    // The unchanged file is a file of the generation, it must not be removed as outdated
+    return super.close() || unchanged;
+  }
+
+  // Checks that the file contains the same content, sizes are compared before contents
+  private boolean isUnchanged(byte[] content) {
+    File file = file();
+    if (file.length() != content.length) {
+      return false;
+    }
+
+    try {
+      return Arrays.equals(java.nio.file.Files.readAllBytes(file.toPath()), content);
+    } catch (IOException exception) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.CHANGED_RECORDS;
+
+import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.generate.code.MethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.EndLineCodeOperator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.InvokeMethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.OperatorCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.ReturnCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.TypeCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarDefCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarMemberCodeGenerator;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+import org.jooq.Record;
+import org.jooq.meta.ColumnDefinition;
+
+/**
+ * Implementation of {@link GenerateChainPart} for 'toChangedRecord' methods generating. Methods
+ * 'toChangedRecord' map entity instance to Jooq record where only changed fields are marked as
+ * changed, so store and update of the record write only these fields. Method with the entity
+ * marks fields with not null values, method with the entity and the original record marks fields
+ * with values differing from the original record. The methods are generated when changed records
+ * are enabled.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class ToChangedRecordGenerateChainPart implements GenerateChainPart {
+  private static final String METHOD_NAME = "toChangedRecord";
+  private static final String PARAM_NAME = "entity";
+  private static final String ORIGINAL_PARAM_NAME = "original";
+  private static final String VARIABLE_NAME = "record";
+  private static final String RECORD_METHOD_NAME = "toRecord";
+  private static final String CHANGED_METHOD_NAME = "changed";
+  private static final String GET_METHOD_NAME = "get";
+  private static final String EQUALS_METHOD_NAME = "equals";
+  private static final String NOT_OPERATOR = "!";
+  private static final String NOT_EQUALS_OPERATOR = "!=";
+  private static final String NULL_LITERAL = "null";
+
+  @Override
+  public void generate(GenerateContext context) {
+    EntityTableDefinition table = context.getTable();
+    Boolean enabled = context.getVariable(CHANGED_RECORDS, Boolean.class);
+    if (table.isMapping() && Boolean.TRUE.equals(enabled)) {
+      generateMethod(context, false, (value, field) -> target -> target
+          .write(value)
+          .space()
+          .write(NOT_EQUALS_OPERATOR)
+          .space()
+          .write(NULL_LITERAL)
+      );
+      generateMethod(context, true, (value, field) -> target -> target
+          .write(NOT_OPERATOR)
+          .write(
+              new VarMemberCodeGenerator(
+                  new TypeCodeGenerator(Objects.class),
+                  new InvokeMethodCodeGenerator(
+                      EQUALS_METHOD_NAME,
+                      value,
+                      new VarMemberCodeGenerator(
+                          ORIGINAL_PARAM_NAME,
+                          new InvokeMethodCodeGenerator(GET_METHOD_NAME, field)
+                      )
+                  )
+              )
+          )
+      );
+    }
+  }
+
+  // Generates code: Record record = toRecord(entity); record.changed(TABLE_NAME.VALUE, condition);
+  // values of the new record are read by positions of the table fields
+  private void generateMethod(
+      GenerateContext context,
+      boolean original,
+      BiFunction<OperatorCodeGenerator, OperatorCodeGenerator, OperatorCodeGenerator> conditions
+  ) {
+    EntityTableDefinition table = context.getTable();
+    MethodCodeGenerator method = new MethodCodeGenerator(METHOD_NAME)
+        .setReturnType(Record.class)
+        .setParam(PARAM_NAME, table.getEntityType());
+    if (original) {
+      method.setParam(ORIGINAL_PARAM_NAME, Record.class);
+    }
+
+    method.setOperator(
+        new EndLineCodeOperator(
+            new VarDefCodeGenerator(
+                VARIABLE_NAME,
+                new TypeCodeGenerator(Record.class),
+                new InvokeMethodCodeGenerator(
+                    RECORD_METHOD_NAME,
+                    target -> target.write(PARAM_NAME)
+                )
+            )
+        )
+    );
+
+    String tableName = table.getName().toUpperCase();
+    List<ColumnDefinition> columns = table.getColumns();
+    for (ColumnDefinition column : new TreeSet<>(columns)) {
+      String index = String.valueOf(columns.indexOf(column));
+      String columnName = column.getName().toUpperCase();
+      OperatorCodeGenerator field = new VarMemberCodeGenerator(
+          tableName,
+          target -> target.write(columnName)
+      );
+      OperatorCodeGenerator value = new VarMemberCodeGenerator(
+          VARIABLE_NAME,
+          new InvokeMethodCodeGenerator(GET_METHOD_NAME, target -> target.write(index))
+      );
+
+      method.setOperator(
+          new EndLineCodeOperator(
+              new VarMemberCodeGenerator(
+                  VARIABLE_NAME,
+                  new InvokeMethodCodeGenerator(
+                      CHANGED_METHOD_NAME,
+                      field,
+                      conditions.apply(value, field)
+                  )
+              )
+          )
+      );
+    }
+
+    method
+        .setOperator(new EndLineCodeOperator(new ReturnCodeGenerator(VARIABLE_NAME)))
+        .generate(context.getTarget());
+  }
+}
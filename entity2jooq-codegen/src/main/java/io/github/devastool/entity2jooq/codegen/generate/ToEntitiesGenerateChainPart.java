@@ -0,0 +1,124 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.generate.code.MethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.EndLineCodeOperator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.ForEachCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.InvokeMethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.NewCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.ReturnCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.TypeCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarDefCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarMemberCodeGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.meta.ColumnDefinition;
+
+/**
+ * Implementation of {@link GenerateChainPart} for 'toEntities' method generating. Method
+ * 'toEntities' maps Jooq result to list of entity instances, indexes of the fields are resolved
+ * once for the result.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class ToEntitiesGenerateChainPart extends ToEntityGenerateChainPart {
+  private static final String METHOD_NAME = "toEntities";
+  private static final String PARAM_NAME = "result";
+  private static final String VARIABLE_NAME = "entities";
+  private static final String ELEMENT_NAME = "record";
+  private static final String ENTITY_NAME = "entity";
+  private static final String SIZE_METHOD_NAME = "size";
+  private static final String ADD_METHOD_NAME = "add";
+
+  @Override
+  public void generate(GenerateContext context) {
+    EntityTableDefinition table = context.getTable();
+    if (table.isMapping()) {
+      Class<?> type = table.getEntityType();
+      MethodCodeGenerator method = new MethodCodeGenerator(METHOD_NAME)
+          .setReturnType(new TypeCodeGenerator(List.class, new TypeCodeGenerator(type)))
+          .setParam(
+              PARAM_NAME,
+              new TypeCodeGenerator(Result.class, TypeCodeGenerator.wildcard(Record.class))
+          );
+
+      boolean metrics = MappingMetricsGenerateChainPart.isEnabled(context);
+      if (metrics) {
+        method.setOperator(MappingMetricsGenerateChainPart.generateStart());
+      }
+      Map<ColumnDefinition, String> indexes = generateIndexes(table, PARAM_NAME, method);
+      method.setOperator(
+          new EndLineCodeOperator(
+              new VarDefCodeGenerator(
+                  VARIABLE_NAME,
+                  new TypeCodeGenerator(List.class, new TypeCodeGenerator(type)),
+                  new NewCodeGenerator(
+                      ArrayList.class,
+                      new VarMemberCodeGenerator(
+                          PARAM_NAME,
+                          new InvokeMethodCodeGenerator(SIZE_METHOD_NAME)
+                      )
+                  ).setGenericTypes()
+              )
+          )
+      );
+
+      ForEachCodeGenerator loop = new ForEachCodeGenerator(
+          new TypeCodeGenerator(Record.class),
+          ELEMENT_NAME,
+          target -> target.write(PARAM_NAME)
+      );
+      generateEntity(
+          context,
+          column -> getRecordSourceValueGetter(context, column, indexes.get(column))
+      )
+          .forEach(loop::setOperator);
+      loop.setOperator(
+          new EndLineCodeOperator(
+              new VarMemberCodeGenerator(
+                  VARIABLE_NAME,
+                  new InvokeMethodCodeGenerator(
+                      ADD_METHOD_NAME,
+                      target -> target.write(ENTITY_NAME)
+                  )
+              )
+          )
+      );
+
+      method.setOperator(loop);
+      if (metrics) {
+        method.setOperator(
+            MappingMetricsGenerateChainPart.generateRecord(
+                new VarMemberCodeGenerator(
+                    VARIABLE_NAME,
+                    new InvokeMethodCodeGenerator(SIZE_METHOD_NAME)
+                )
+            )
+        );
+      }
+      method
+          .setOperator(new EndLineCodeOperator(new ReturnCodeGenerator(VARIABLE_NAME)))
+          .generate(context.getTarget());
+    }
+  }
+}
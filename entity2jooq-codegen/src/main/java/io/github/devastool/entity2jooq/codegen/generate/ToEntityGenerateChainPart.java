@@ -16,14 +16,21 @@
 
 package io.github.devastool.entity2jooq.codegen.generate;
 
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.NULL_EMBEDDED;
+
 import io.github.devastool.entity2jooq.codegen.definition.EntityColumnDefinition;
 import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
 import io.github.devastool.entity2jooq.codegen.definition.factory.FieldDetails;
 import io.github.devastool.entity2jooq.codegen.definition.type.ConverterDefinition;
 import io.github.devastool.entity2jooq.codegen.definition.type.EntityDataTypeDefinition;
+import io.github.devastool.entity2jooq.codegen.generate.access.FieldAccess;
 import io.github.devastool.entity2jooq.codegen.generate.code.CodeTarget;
 import io.github.devastool.entity2jooq.codegen.generate.code.MethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.AssignCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.CastCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.ConditionalCodeGenerator;
 import io.github.devastool.entity2jooq.codegen.generate.code.operator.EndLineCodeOperator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.IfCodeGenerator;
 import io.github.devastool.entity2jooq.codegen.generate.code.operator.InvokeMethodCodeGenerator;
 import io.github.devastool.entity2jooq.codegen.generate.code.operator.NewCodeGenerator;
 import io.github.devastool.entity2jooq.codegen.generate.code.operator.OperatorCodeGenerator;
@@ -35,18 +42,24 @@ import io.github.devastool.entity2jooq.codegen.generate.params.CodeGeneratorAccu
 import io.github.devastool.entity2jooq.codegen.generate.params.EntityGenerationParams;
 import io.github.devastool.entity2jooq.codegen.generate.params.LinkPair;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Function;
 import org.jooq.Record;
 import org.jooq.meta.ColumnDefinition;
 import org.jooq.meta.DataTypeDefinition;
 
 /**
  * Implementation of {@link GenerateChainPart} for 'toEntity' method generating. Method 'toEntity'
- * maps Jooq record to entity instance.
+ * maps Jooq record to entity instance. Values are read by positions of the table fields, when
+ * the record has another field at the position the value is read by the field. Fields are written
+ * by {@link FieldAccess}, records and immutable classes are created by the constructor.
  *
  * @author Andrey_Yurzanov, Sergey_Konovalov
  * @since 1.0.0
@@ -56,89 +69,256 @@ public class ToEntityGenerateChainPart implements GenerateChainPart {
   private static final String VARIABLE_NAME = "entity";
   private static final String PARAM_NAME = "record";
   private static final String PARAM_METHOD_NAME = "get";
-  private static final String SETTER_PREFIX = "set";
-  private static final int FIRST_INDEX = 0;
-  private static final int SECOND_INDEX = 1;
+  private static final String FIELD_METHOD_NAME = "field";
+  private static final String CONVERTER_METHOD_NAME = "from";
+  private static final String INDEX_METHOD_NAME = "indexOf";
+  private static final String INDEX_PREFIX = "index";
+  private static final String DIRECT_PREFIX = "direct";
+  private static final String EQUALS_OPERATOR = "==";
+  private static final String NOT_EQUALS_OPERATOR = "!=";
+  private static final String OR_OPERATOR = "||";
+  private static final String NULL_LITERAL = "null";
   private static final int COUNTER_DEFAULT = 0;
   private static final int COUNTER_INCREMENT = 1;
   private static final String SEPARATOR = "_";
+  private static final String SINGLE_ROW = "1";
 
   @Override
   public void generate(GenerateContext context) {
     EntityTableDefinition table = context.getTable();
     if (table.isMapping()) {
-      Class<?> type = table.getEntityType();
-      EntityGenerationParams params = new EntityGenerationParams();
-      Map<Field, String> resolver = params.getNameResolver();
-      Set<LinkPair> entityLinks = params.getEntityLinks();
-
       MethodCodeGenerator generator = new MethodCodeGenerator(METHOD_NAME)
-          .setReturnType(type)
+          .setReturnType(table.getEntityType())
           .setParam(PARAM_NAME, Record.class);
 
-      for (ColumnDefinition column : new TreeSet<>(table.getColumns())) {
-        EntityColumnDefinition entityColumn = (EntityColumnDefinition) column;
+      boolean metrics = MappingMetricsGenerateChainPart.isEnabled(context);
+      if (metrics) {
+        generator.setOperator(MappingMetricsGenerateChainPart.generateStart());
+      }
+      generateEntity(context, column -> getRecordValueGetter(context, table, column))
+          .forEach(generator::setOperator);
+      if (metrics) {
+        generator.setOperator(
+            MappingMetricsGenerateChainPart.generateRecord(target -> target.write(SINGLE_ROW))
+        );
+      }
 
-        if (entityColumn.isEmbedded()) {
-          FieldDetails fieldDetails = entityColumn.getFieldDetails();
-          String columnName = column.getName();
-          String entityName = null;
-          Field parentField = null;
+      generator
+          .setOperator(
+              new EndLineCodeOperator(
+                  new ReturnCodeGenerator(VARIABLE_NAME)
+              )
+          )
+          .generate(context.getTarget());
+    }
+  }
 
-          for (Field field : fieldDetails.getParentFields()) {
-            getGeneratedEntity(field, params);
+  /**
+   * Returns operators of the entity creating. The operators create instance of the entity with
+   * name 'entity' and its embedded objects, values are taken from the record with name 'record'.
+   *
+   * @param context context of the generation
+   * @param getters generator of the record value getter by column
+   * @return operators of the entity creating
+   */
+  protected List<OperatorCodeGenerator> generateEntity(
+      GenerateContext context,
+      Function<EntityColumnDefinition, OperatorCodeGenerator> getters
+  ) {
+    return buildEntity(context, getters, true);
+  }
 
-            if (Objects.isNull(entityName)) {
-              entityName = resolver.get(fieldDetails.getLastParentField());
-            }
+  /**
+   * Returns operators of the entity filling. The operators fill existing instance of the entity
+   * with name 'entity' and create its embedded objects, values are taken from the record with
+   * name 'record'. Entity of the record type is created, because the record is immutable.
+   *
+   * @param context context of the generation
+   * @param getters generator of the record value getter by column
+   * @return operators of the entity filling
+   */
+  protected List<OperatorCodeGenerator> generateEntityValues(
+      GenerateContext context,
+      Function<EntityColumnDefinition, OperatorCodeGenerator> getters
+  ) {
+    return buildEntity(context, getters, false);
+  }
 
-            if (entityLinks.add(new LinkPair(entityName, columnName))) {
-              OperatorCodeGenerator getter = getRecordValueGetter(context, table, entityColumn);
-              getValueSetter(entityColumn, getter, params);
-            }
+  /**
+   * Generates variables with indexes of the table fields in the source, example:
+   * int index0 = source.indexOf(TABLE_NAME.COLUMN_NAME). Indexes are generated in order of the
+   * columns. For columns with converters the field at the index is checked once for the source,
+   * example: boolean direct0 = source.field(index0) == TABLE_NAME.COLUMN_NAME, see
+   * {@link #getRecordSourceValueGetter(GenerateContext, EntityColumnDefinition, String)}.
+   *
+   * @param table  table of the entity
+   * @param source name of the source of the fields: result or cursor
+   * @param method method for the variables
+   * @return names of the variables by columns
+   */
+  protected Map<ColumnDefinition, String> generateIndexes(
+      EntityTableDefinition table,
+      String source,
+      MethodCodeGenerator method
+  ) {
+    Map<ColumnDefinition, String> indexes = new HashMap<>();
+    for (ColumnDefinition column : new TreeSet<>(table.getColumns())) {
+      String index = INDEX_PREFIX + indexes.size();
+      indexes.put(column, index);
+      method.setOperator(
+          new EndLineCodeOperator(
+              new VarDefCodeGenerator(
+                  index,
+                  new TypeCodeGenerator(int.class),
+                  new VarMemberCodeGenerator(
+                      source,
+                      new InvokeMethodCodeGenerator(
+                          INDEX_METHOD_NAME,
+                          getTableField(table, (EntityColumnDefinition) column)
+                      )
+                  )
+              )
+          )
+      );
+
+      EntityDataTypeDefinition type = (EntityDataTypeDefinition) column.getType();
+      if (type.getConverterDefinition() != null) {
+        method.setOperator(
+            new EndLineCodeOperator(
+                new VarDefCodeGenerator(
+                    getDirectName(index),
+                    new TypeCodeGenerator(boolean.class),
+                    target -> target
+                        .write(
+                            new VarMemberCodeGenerator(
+                                source,
+                                new InvokeMethodCodeGenerator(
+                                    FIELD_METHOD_NAME,
+                                    indexTarget -> indexTarget.write(index)
+                                )
+                            )
+                        )
+                        .space()
+                        .write(EQUALS_OPERATOR)
+                        .space()
+                        .write(getTableField(table, (EntityColumnDefinition) column))
+                )
+            )
+        );
+      }
+    }
+    return indexes;
+  }
+
+  /**
+   * Returns getter of the record value by index variable of the source, the record has name
+   * 'record'. Value of the column with converter is converted directly when the field at the
+   * index is the table field, see {@link #generateIndexes(EntityTableDefinition, String,
+   * MethodCodeGenerator)}. Generated code: (Type) record.get(index0) or
+   * direct0 ? CONVERTER.from((FromType) record.get(index0)) : record.get(index0, CONVERTER).
+   *
+   * @param context context of the generation
+   * @param column  column of the value
+   * @param index   name of the index variable
+   * @return getter of the record value
+   */
+  protected OperatorCodeGenerator getRecordSourceValueGetter(
+      GenerateContext context,
+      EntityColumnDefinition column,
+      String index
+  ) {
+    EntityDataTypeDefinition type = (EntityDataTypeDefinition) column.getType();
+    if (type.getConverterDefinition() != null) {
+      return new ConditionalCodeGenerator(
+          target -> target.write(getDirectName(index)),
+          getRecordPositionValueGetter(context, column, index),
+          getRecordIndexValueGetter(context, column, index)
+      );
+    }
+    return getRecordIndexValueGetter(context, column, index);
+  }
 
-            getSetterLink(field, parentField, params);
-            parentField = field;
+  // Returns operators of the entity creating or filling, embedded objects with null values are not
+  // created when null embedded objects are enabled
+  private List<OperatorCodeGenerator> buildEntity(
+      GenerateContext context,
+      Function<EntityColumnDefinition, OperatorCodeGenerator> getters,
+      boolean create
+  ) {
+    EntityTableDefinition table = context.getTable();
+    Class<?> type = table.getEntityType();
+    EntityGenerationParams params = new EntityGenerationParams();
+    params.setEntityType(type);
+    params.setNullable(Boolean.TRUE.equals(context.getVariable(NULL_EMBEDDED, Boolean.class)));
+    Map<Field, String> resolver = params.getNameResolver();
+    Set<LinkPair> entityLinks = params.getEntityLinks();
+
+    for (ColumnDefinition column : new TreeSet<>(table.getColumns())) {
+      EntityColumnDefinition entityColumn = (EntityColumnDefinition) column;
+
+      if (entityColumn.isEmbedded()) {
+        FieldDetails fieldDetails = entityColumn.getFieldDetails();
+        String columnName = column.getName();
+        String entityName = null;
+        Field parentField = null;
+
+        for (Field field : fieldDetails.getParentFields()) {
+          getGeneratedEntity(field, params);
+
+          if (Objects.isNull(entityName)) {
+            entityName = resolver.get(fieldDetails.getLastParentField());
+          }
+
+          if (entityLinks.add(new LinkPair(entityName, columnName))) {
+            getValueSetter(context, entityColumn, getters.apply(entityColumn), params);
           }
-        } else {
-          OperatorCodeGenerator valueGetter = getRecordValueGetter(context, table, entityColumn);
-          getValueSetter(entityColumn, valueGetter, params);
+
+          getSetterLink(context, field, parentField, params);
+          parentField = field;
         }
+      } else {
+        getValueSetter(context, entityColumn, getters.apply(entityColumn), params);
       }
+    }
 
-      CodeGeneratorAccumulator accumulator = params.getCodeAccumulator();
-      for (String entityName : accumulator.getReversedKeys()) {
-        accumulator
-            .findByKey(entityName)
-            .forEach(generator::setOperator);
-        generator
-            .setOperator(CodeTarget::writeln);
+    List<OperatorCodeGenerator> operators = new ArrayList<>();
+    CodeGeneratorAccumulator accumulator = params.getCodeAccumulator();
+    List<String> entityNames = new ArrayList<>(params.getEntityTypes().keySet());
+    Collections.reverse(entityNames);
+    for (String entityName : entityNames) {
+      Class<?> entityType = params.getEntityTypes().get(entityName);
+      if (params.isNullable()) {
+        operators.addAll(getNullableEntity(entityName, params));
+      } else if (FieldAccess.isConstructed(entityType)) {
+        operators.add(new EndLineCodeOperator(
+            new VarDefCodeGenerator(
+                entityName,
+                new TypeCodeGenerator(entityType),
+                getNewEntity(entityName, entityType, params)
+            )
+        ));
+      } else {
+        operators.addAll(accumulator.findByKey(entityName));
       }
+      operators.add(CodeTarget::writeln);
+    }
 
-      generator.setOperator(new EndLineCodeOperator(
+    if (create || FieldAccess.isConstructed(type)) {
+      operators.add(new EndLineCodeOperator(
           new VarDefCodeGenerator(
               VARIABLE_NAME,
               new TypeCodeGenerator(type),
-              new NewCodeGenerator(type)
+              getNewEntity(VARIABLE_NAME, type, params)
           )
       ));
-
-      params
-          .getRootCodeAccumulator()
-          .forEach(generator::setOperator);
-
-      generator
-          .setOperator(
-              new EndLineCodeOperator(
-                  new ReturnCodeGenerator(VARIABLE_NAME)
-              )
-          )
-          .generate(context.getTarget());
     }
+    operators.addAll(params.getRootCodeAccumulator());
+    return operators;
   }
 
   // Generates code: tableName.setValue(recordValueGetter)
   private void getValueSetter(
+      GenerateContext context,
       EntityColumnDefinition column,
       OperatorCodeGenerator recordValueGetter,
       EntityGenerationParams params
@@ -149,39 +329,188 @@ public class ToEntityGenerateChainPart implements GenerateChainPart {
     if (fieldDetails.isEmbedded()) {
       String variableName = resolver.get(fieldDetails.getLastParentField());
       if (Objects.nonNull(variableName)) {
-        CodeGeneratorAccumulator accumulator = params.getCodeAccumulator();
-        accumulator.accumulate(
+        OperatorCodeGenerator value = recordValueGetter;
+        if (params.isNullable()) {
+          Field field = fieldDetails.getProcessedField();
+          String valueName = variableName.concat(SEPARATOR).concat(field.getName());
+          params.getValueAccumulator().accumulate(
+              variableName,
+              new EndLineCodeOperator(
+                  new VarDefCodeGenerator(
+                      valueName,
+                      new TypeCodeGenerator(field.getType()),
+                      recordValueGetter
+                  )
+              )
+          );
+          if (!field.getType().isPrimitive()) {
+            getNullChecks(variableName, params).add(valueName);
+          }
+          value = target -> target.write(valueName);
+        }
+
+        OperatorCodeGenerator setter = getFieldSetter(
+            context,
             variableName,
-            new EndLineCodeOperator(
-                new VarMemberCodeGenerator(
-                    variableName,
-                    new InvokeMethodCodeGenerator(column.getSetterName(), recordValueGetter)
-                )
-            )
+            fieldDetails.getProcessedField(),
+            value,
+            params
         );
+        if (setter != null) {
+          params.getCodeAccumulator().accumulate(variableName, new EndLineCodeOperator(setter));
+        }
       }
     } else {
-      List<OperatorCodeGenerator> accumulator = params.getRootCodeAccumulator();
-      accumulator.add(
-          new EndLineCodeOperator(
-              new VarMemberCodeGenerator(
-                  VARIABLE_NAME,
-                  new InvokeMethodCodeGenerator(column.getSetterName(), recordValueGetter)
-              )
+      OperatorCodeGenerator setter = getFieldSetter(
+          context,
+          VARIABLE_NAME,
+          fieldDetails.getProcessedField(),
+          recordValueGetter,
+          params
+      );
+      if (setter != null) {
+        params.getRootCodeAccumulator().add(new EndLineCodeOperator(setter));
+      }
+    }
+  }
+
+  // Generates code: entity.setValue(value), entity.value = value or HANDLE.set(entity, value),
+  // returns null when the value is passed to the constructor of the record or immutable class
+  private OperatorCodeGenerator getFieldSetter(
+      GenerateContext context,
+      String entityName,
+      Field field,
+      OperatorCodeGenerator value,
+      EntityGenerationParams params
+  ) {
+    Class<?> entityType = VARIABLE_NAME.equals(entityName)
+        ? params.getEntityType()
+        : params.getEntityTypes().get(entityName);
+    if (FieldAccess.isConstructed(entityType)) {
+      params
+          .getComponentValues()
+          .computeIfAbsent(entityName, key -> new HashMap<>())
+          .put(field.getName(), value);
+      return null;
+    }
+    return FieldHandleGenerateChainPart.getAccess(context, field).write(entityName, value);
+  }
+
+  // Generates code: new Entity() or new Entity(values) for records and immutable classes
+  private OperatorCodeGenerator getNewEntity(
+      String entityName,
+      Class<?> entityType,
+      EntityGenerationParams params
+  ) {
+    return FieldAccess.newInstance(
+        entityType,
+        params.getComponentValues().getOrDefault(entityName, Collections.emptyMap())
+    );
+  }
+
+  /**
+   * Returns getter of the record value by index of the field, the record has name 'record'.
+   * Generated code: (Type) record.get(index) or record.get(index, CONVERTER).
+   *
+   * @param context context of the generation
+   * @param column  column of the value
+   * @param index   index of the field, literal or name of the variable
+   * @return getter of the record value
+   */
+  protected OperatorCodeGenerator getRecordIndexValueGetter(
+      GenerateContext context,
+      EntityColumnDefinition column,
+      String index
+  ) {
+    EntityDataTypeDefinition type = (EntityDataTypeDefinition) column.getType();
+    ConverterDefinition converterDefinition = type.getConverterDefinition();
+    if (converterDefinition != null) {
+      String converterField = context.getVariable(converterDefinition, String.class);
+      return new VarMemberCodeGenerator(
+          PARAM_NAME,
+          new InvokeMethodCodeGenerator(
+              PARAM_METHOD_NAME,
+              target -> target.write(index),
+              target -> target.write(converterField)
           )
       );
     }
+
+    return new CastCodeGenerator(
+        type.getJavaType(),
+        new VarMemberCodeGenerator(
+            PARAM_NAME,
+            new InvokeMethodCodeGenerator(PARAM_METHOD_NAME, target -> target.write(index))
+        )
+    );
   }
 
-  // Generates code: record.get(TABLE_NAME.VALUE) or record.get(TABLE_NAME.VALUE, CONVERTER)
+  // Generates code: record.field(0) == TABLE_NAME.VALUE ? indexValueGetter : fieldValueGetter,
+  // position of the field is known when the record is selected from the table
   private OperatorCodeGenerator getRecordValueGetter(
       GenerateContext context,
       EntityTableDefinition table,
       EntityColumnDefinition column
   ) {
-    String tableName = table.getName();
-    String columnName = column.getName();
+    String index = String.valueOf(table.getColumns().indexOf(column));
+    OperatorCodeGenerator tableField = getTableField(table, column);
+    return new ConditionalCodeGenerator(
+        target -> target
+            .write(
+                new VarMemberCodeGenerator(
+                    PARAM_NAME,
+                    new InvokeMethodCodeGenerator(
+                        FIELD_METHOD_NAME,
+                        indexTarget -> indexTarget.write(index)
+                    )
+                )
+            )
+            .space()
+            .write(EQUALS_OPERATOR)
+            .space()
+            .write(tableField),
+        getRecordPositionValueGetter(context, column, index),
+        getRecordFieldValueGetter(context, column, tableField)
+    );
+  }
+
+  // Generates code: (Type) record.get(0) or CONVERTER.from((FromType) record.get(0)), the field
+  // at the position is the table field, so its value is converted directly without Jooq conversion
+  private OperatorCodeGenerator getRecordPositionValueGetter(
+      GenerateContext context,
+      EntityColumnDefinition column,
+      String index
+  ) {
+    EntityDataTypeDefinition type = (EntityDataTypeDefinition) column.getType();
+    ConverterDefinition converterDefinition = type.getConverterDefinition();
+    if (converterDefinition != null) {
+      String converterField = context.getVariable(converterDefinition, String.class);
+      return new VarMemberCodeGenerator(
+          converterField,
+          new InvokeMethodCodeGenerator(
+              CONVERTER_METHOD_NAME,
+              new CastCodeGenerator(
+                  converterDefinition.getConverter().fromType().getCanonicalName(),
+                  new VarMemberCodeGenerator(
+                      PARAM_NAME,
+                      new InvokeMethodCodeGenerator(
+                          PARAM_METHOD_NAME,
+                          target -> target.write(index)
+                      )
+                  )
+              )
+          )
+      );
+    }
+    return getRecordIndexValueGetter(context, column, index);
+  }
 
+  // Generates code: record.get(TABLE_NAME.VALUE) or record.get(TABLE_NAME.VALUE, CONVERTER)
+  private OperatorCodeGenerator getRecordFieldValueGetter(
+      GenerateContext context,
+      EntityColumnDefinition column,
+      OperatorCodeGenerator tableField
+  ) {
     DataTypeDefinition type = column.getType();
     EntityDataTypeDefinition entityType = (EntityDataTypeDefinition) type;
     ConverterDefinition converterDefinition = entityType.getConverterDefinition();
@@ -191,10 +520,7 @@ public class ToEntityGenerateChainPart implements GenerateChainPart {
           PARAM_NAME,
           new InvokeMethodCodeGenerator(
               PARAM_METHOD_NAME,
-              new VarMemberCodeGenerator(
-                  tableName.toUpperCase(),
-                  target -> target.write(columnName.toUpperCase())
-              ),
+              tableField,
               target -> target.write(converterField)
           )
       );
@@ -202,13 +528,25 @@ public class ToEntityGenerateChainPart implements GenerateChainPart {
 
     return new VarMemberCodeGenerator(
         PARAM_NAME,
-        new InvokeMethodCodeGenerator(
-            PARAM_METHOD_NAME,
-            new VarMemberCodeGenerator(
-                tableName.toUpperCase(),
-                target -> target.write(columnName.toUpperCase())
-            )
-        )
+        new InvokeMethodCodeGenerator(PARAM_METHOD_NAME, tableField)
+    );
+  }
+
+  // Returns name of the variable of the direct conversion by name of the index variable
+  private static String getDirectName(String index) {
+    return DIRECT_PREFIX.concat(index.substring(INDEX_PREFIX.length()));
+  }
+
+  // Generates code: TABLE_NAME.VALUE
+  private OperatorCodeGenerator getTableField(
+      EntityTableDefinition table,
+      EntityColumnDefinition column
+  ) {
+    String tableName = table.getName();
+    String columnName = column.getName();
+    return new VarMemberCodeGenerator(
+        tableName.toUpperCase(),
+        target -> target.write(columnName.toUpperCase())
     );
   }
 
@@ -229,6 +567,10 @@ public class ToEntityGenerateChainPart implements GenerateChainPart {
       entityName = entityName.concat(SEPARATOR).concat(postfix);
       Class<?> entityType = field.getType();
       resolver.put(field, entityName);
+      params.getEntityTypes().put(entityName, entityType);
+      if (params.isNullable() || FieldAccess.isConstructed(entityType)) {
+        return;
+      }
 
       CodeGeneratorAccumulator accumulator = params.getCodeAccumulator();
       accumulator.accumulate(
@@ -246,6 +588,7 @@ public class ToEntityGenerateChainPart implements GenerateChainPart {
 
   // Generates code: entity.setValue(value);
   private void getSetterLink(
+      GenerateContext context,
       Field field,
       Field parentField,
       EntityGenerationParams params
@@ -260,47 +603,106 @@ public class ToEntityGenerateChainPart implements GenerateChainPart {
       link = new LinkPair(parentEntityName, entityName);
 
       if (!entityLinks.contains(link)) {
-        CodeGeneratorAccumulator accumulator = params.getCodeAccumulator();
-        accumulator.accumulate(
+        getNullChecks(parentEntityName, params).add(entityName);
+        OperatorCodeGenerator setter = getFieldSetter(
+            context,
             parentEntityName,
-            new EndLineCodeOperator(
-                new VarMemberCodeGenerator(
-                    parentEntityName,
-                    new InvokeMethodCodeGenerator(
-                        getSetterName(field.getName()),
-                        target -> target.write(entityName)
-                    )
-                )
-            )
+            field,
+            target -> target.write(entityName),
+            params
         );
+        if (setter != null) {
+          params
+              .getCodeAccumulator()
+              .accumulate(parentEntityName, new EndLineCodeOperator(setter));
+        }
       }
     } else {
       link = new LinkPair(VARIABLE_NAME, entityName);
       if (!entityLinks.contains(link)) {
-        List<OperatorCodeGenerator> rootAccumulator = params.getRootCodeAccumulator();
-        rootAccumulator.add(
-            new EndLineCodeOperator(
-                new VarMemberCodeGenerator(
-                    VARIABLE_NAME,
-                    new InvokeMethodCodeGenerator(
-                        getSetterName(field.getName()),
-                        target -> target.write(entityName)
-                    )
-                )
-            )
+        OperatorCodeGenerator setter = getFieldSetter(
+            context,
+            VARIABLE_NAME,
+            field,
+            target -> target.write(entityName),
+            params
         );
+        if (setter != null) {
+          params.getRootCodeAccumulator().add(new EndLineCodeOperator(setter));
+        }
       }
     }
     entityLinks.add(link);
   }
 
-  // Constructs the setter method name from the provided name.
-  private String getSetterName(String name) {
-    name = name
-        .substring(FIRST_INDEX, SECOND_INDEX)
-        .toUpperCase()
-        .concat(name.substring(SECOND_INDEX));
-    return SETTER_PREFIX.concat(name);
+  // Generates code: Entity name = null; if (value != null || ...) { name = new Entity(); ... }
+  private List<OperatorCodeGenerator> getNullableEntity(
+      String entityName,
+      EntityGenerationParams params
+  ) {
+    Class<?> entityType = params.getEntityTypes().get(entityName);
+    List<OperatorCodeGenerator> values = params.getValueAccumulator().findByKey(entityName);
+    List<OperatorCodeGenerator> setters = params.getCodeAccumulator().findByKey(entityName);
+    List<String> checks = getNullChecks(entityName, params);
+
+    List<OperatorCodeGenerator> operators = new ArrayList<>();
+    if (values != null) {
+      operators.addAll(values);
+    }
+
+    if (checks.isEmpty()) {
+      // Primitive values can not be null, the embedded object is always created
+      operators.add(new EndLineCodeOperator(
+          new VarDefCodeGenerator(
+              entityName,
+              new TypeCodeGenerator(entityType),
+              getNewEntity(entityName, entityType, params)
+          )
+      ));
+      if (setters != null) {
+        operators.addAll(setters);
+      }
+      return operators;
+    }
+
+    operators.add(new EndLineCodeOperator(
+        new VarDefCodeGenerator(
+            entityName,
+            new TypeCodeGenerator(entityType),
+            target -> target.write(NULL_LITERAL)
+        )
+    ));
+
+    IfCodeGenerator block = new IfCodeGenerator(
+        target -> {
+          for (int i = 0; i < checks.size(); i++) {
+            if (i > 0) {
+              target.space().write(OR_OPERATOR).space();
+            }
+            target
+                .write(checks.get(i))
+                .space()
+                .write(NOT_EQUALS_OPERATOR)
+                .space()
+                .write(NULL_LITERAL);
+          }
+        }
+    );
+    block.setOperator(
+        new EndLineCodeOperator(
+            new AssignCodeGenerator(entityName, getNewEntity(entityName, entityType, params))
+        )
+    );
+    if (setters != null) {
+      setters.forEach(block::setOperator);
+    }
+    operators.add(block);
+    return operators;
+  }
+
+  // Returns names of the variables for null checking of the embedded object
+  private List<String> getNullChecks(String entityName, EntityGenerationParams params) {
+    return params.getNullChecks().computeIfAbsent(entityName, key -> new ArrayList<>());
   }
 
   // The increment method increases the value of counter or returning default if counter is null.
@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.generate.code.MethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.EndLineCodeOperator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.InvokeMethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.ReturnCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.TypeCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarMemberCodeGenerator;
+import java.util.stream.Stream;
+import org.jooq.Cursor;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+
+/**
+ * Implementation of {@link GenerateChainPart} for 'toEntityStream' methods generating. Methods
+ * 'toEntityStream' map records of Jooq cursor to entity instances lazily, records are fetched by
+ * the stream. Closing of the stream closes the cursor.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class ToEntityStreamGenerateChainPart implements GenerateChainPart {
+  private static final String METHOD_NAME = "toEntityStream";
+  private static final String CURSOR_PARAM_NAME = "cursor";
+  private static final String QUERY_PARAM_NAME = "query";
+  private static final String FETCH_SIZE_PARAM_NAME = "fetchSize";
+  private static final String STREAM_METHOD_NAME = "stream";
+  private static final String MAP_METHOD_NAME = "map";
+  private static final String FETCH_SIZE_METHOD_NAME = "fetchSize";
+  private static final String FETCH_LAZY_METHOD_NAME = "fetchLazy";
+  private static final String MAPPER = "this::toEntity";
+
+  @Override
+  public void generate(GenerateContext context) {
+    EntityTableDefinition table = context.getTable();
+    if (table.isMapping()) {
+      TypeCodeGenerator stream = new TypeCodeGenerator(
+          Stream.class,
+          new TypeCodeGenerator(table.getEntityType())
+      );
+
+      // Generates code: return cursor.stream().map(this::toEntity);
+      new MethodCodeGenerator(METHOD_NAME)
+          .setReturnType(stream)
+          .setParam(
+              CURSOR_PARAM_NAME,
+              new TypeCodeGenerator(Cursor.class, TypeCodeGenerator.wildcard(Record.class))
+          )
+          .setOperator(
+              new EndLineCodeOperator(
+                  new ReturnCodeGenerator(
+                      new VarMemberCodeGenerator(
+                          new VarMemberCodeGenerator(
+                              CURSOR_PARAM_NAME,
+                              new InvokeMethodCodeGenerator(STREAM_METHOD_NAME)
+                          ),
+                          new InvokeMethodCodeGenerator(
+                              MAP_METHOD_NAME,
+                              target -> target.write(MAPPER)
+                          )
+                      )
+                  )
+              )
+          )
+          .generate(context.getTarget());
+
+      // Generates code: return toEntityStream(query.fetchSize(fetchSize).fetchLazy());
+      new MethodCodeGenerator(METHOD_NAME)
+          .setReturnType(stream)
+          .setParam(
+              QUERY_PARAM_NAME,
+              new TypeCodeGenerator(ResultQuery.class, TypeCodeGenerator.wildcard(Record.class))
+          )
+          .setParam(FETCH_SIZE_PARAM_NAME, int.class)
+          .setOperator(
+              new EndLineCodeOperator(
+                  new ReturnCodeGenerator(
+                      new InvokeMethodCodeGenerator(
+                          METHOD_NAME,
+                          new VarMemberCodeGenerator(
+                              new VarMemberCodeGenerator(
+                                  QUERY_PARAM_NAME,
+                                  new InvokeMethodCodeGenerator(
+                                      FETCH_SIZE_METHOD_NAME,
+                                      target -> target.write(FETCH_SIZE_PARAM_NAME)
+                                  )
+                              ),
+                              new InvokeMethodCodeGenerator(FETCH_LAZY_METHOD_NAME)
+                          )
+                      )
+                  )
+              )
+          )
+          .generate(context.getTarget());
+    }
+  }
+}
@@ -18,9 +18,12 @@ package io.github.devastool.entity2jooq.codegen.generate;
 
 import io.github.devastool.entity2jooq.codegen.definition.EntityColumnDefinition;
 import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.definition.factory.FieldDetails;
 import io.github.devastool.entity2jooq.codegen.definition.type.ConverterDefinition;
 import io.github.devastool.entity2jooq.codegen.definition.type.EntityDataTypeDefinition;
+import io.github.devastool.entity2jooq.codegen.generate.access.FieldAccess;
 import io.github.devastool.entity2jooq.codegen.generate.code.MethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.ConditionalCodeGenerator;
 import io.github.devastool.entity2jooq.codegen.generate.code.operator.EndLineCodeOperator;
 import io.github.devastool.entity2jooq.codegen.generate.code.operator.InvokeMethodCodeGenerator;
 import io.github.devastool.entity2jooq.codegen.generate.code.operator.OperatorCodeGenerator;
@@ -28,13 +31,20 @@ import io.github.devastool.entity2jooq.codegen.generate.code.operator.ReturnCode
 import io.github.devastool.entity2jooq.codegen.generate.code.operator.TypeCodeGenerator;
 import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarDefCodeGenerator;
 import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarMemberCodeGenerator;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 import org.jooq.Record;
 import org.jooq.meta.ColumnDefinition;
 
 /**
  * Implementation of {@link GenerateChainPart} for 'toRecord' method generating. Method 'toRecord'
- * maps entity instance to Jooq record.
+ * maps entity instance to Jooq record. Embedded objects are read once into variables, values of
+ * the embedded columns are null when any object of the chain is null. Fields are read by
+ * {@link FieldAccess}.
  *
  * @author Andrey_Yurzanov
  * @since 1.0.0
@@ -45,6 +55,12 @@ public class ToRecordGenerateChainPart implements GenerateChainPart {
   private static final String VARIABLE_NAME = "record";
   private static final String NEW_VARIABLE_METHOD_NAME = "newRecord";
   private static final String VARIABLE_SET_VALUE_METHOD_NAME = "setValue";
+  private static final String NOT_EQUALS_OPERATOR = "!=";
+  private static final String NULL_LITERAL = "null";
+  private static final String SEPARATOR = "_";
+  private static final String SINGLE_ROW = "1";
+  private static final int FIRST_INDEX = 0;
+  private static final int SECOND_INDEX = 1;
 
   @Override
   public void generate(GenerateContext context) {
@@ -53,20 +69,34 @@ public class ToRecordGenerateChainPart implements GenerateChainPart {
       VarDefCodeGenerator record = generateRecordVariable(table);
       MethodCodeGenerator method = new MethodCodeGenerator(METHOD_NAME)
           .setReturnType(Record.class)
-          .setParam(PARAM_NAME, table.getEntityType())
-          .setOperator(new EndLineCodeOperator(record));
+          .setParam(PARAM_NAME, table.getEntityType());
 
+      boolean metrics = MappingMetricsGenerateChainPart.isEnabled(context);
+      if (metrics) {
+        method.setOperator(MappingMetricsGenerateChainPart.generateStart());
+      }
+      method.setOperator(new EndLineCodeOperator(record));
+
+      Map<List<Field>, String> embedded = new HashMap<>();
       for (ColumnDefinition column : new TreeSet<>(table.getColumns())) {
-        // TODO. Delete condition after: https://github.com/devastool/entity2jooq/issues/51
-        if (!((EntityColumnDefinition) column).isEmbedded()) {
-          method.setOperator(
-              new EndLineCodeOperator(
-                  generateSetValue(context, table, (EntityColumnDefinition) column)
-              )
-          );
-        }
+        EntityColumnDefinition entityColumn = (EntityColumnDefinition) column;
+        method.setOperator(
+            new EndLineCodeOperator(
+                generateSetValue(
+                    context,
+                    table,
+                    entityColumn,
+                    generateValueGetter(context, entityColumn, embedded, method)
+                )
+            )
+        );
       }
 
+      if (metrics) {
+        method.setOperator(
+            MappingMetricsGenerateChainPart.generateRecord(target -> target.write(SINGLE_ROW))
+        );
+      }
       method
           .setOperator(new EndLineCodeOperator(new ReturnCodeGenerator(VARIABLE_NAME)))
           .generate(context.getTarget());
@@ -86,16 +116,87 @@ public class ToRecordGenerateChainPart implements GenerateChainPart {
     );
   }
 
-  // Generates code: record.setValue(COLUMN_NAME, entity.getColumnName()) or
-  // record.setValue(COLUMN_NAME, entity.getColumnName(), CONVERTER)
+  // Generates code: entity.getColumnName() or embedded != null ? embedded.getColumnName() : null,
+  // variables of the embedded objects are generated when they are absent
+  private OperatorCodeGenerator generateValueGetter(
+      GenerateContext context,
+      EntityColumnDefinition column,
+      Map<List<Field>, String> embedded,
+      MethodCodeGenerator method
+  ) {
+    FieldDetails details = column.getFieldDetails();
+    FieldAccess access = FieldHandleGenerateChainPart.getAccess(
+        context,
+        details.getProcessedField()
+    );
+    if (!details.isEmbedded()) {
+      return access.read(PARAM_NAME);
+    }
+
+    String parent = generateEmbedded(context, details.getParentFields(), embedded, method);
+    return generateNullSafeGetter(parent, access.read(parent));
+  }
+
+  // Generates code: Embedded embedded_0 = entity.getEmbedded();
+  // Nested embedded_1 = embedded_0 != null ? embedded_0.getNested() : null;
+  // variables are keyed by path of the fields, returns name of the last variable
+  private String generateEmbedded(
+      GenerateContext context,
+      List<Field> fields,
+      Map<List<Field>, String> embedded,
+      MethodCodeGenerator method
+  ) {
+    String parent = null;
+    for (int i = 0; i < fields.size(); i++) {
+      List<Field> path = new ArrayList<>(fields.subList(FIRST_INDEX, i + SECOND_INDEX));
+      String name = embedded.get(path);
+      if (name == null) {
+        Field field = fields.get(i);
+        FieldAccess access = FieldHandleGenerateChainPart.getAccess(context, field);
+        name = field.getName().concat(SEPARATOR).concat(String.valueOf(embedded.size()));
+        embedded.put(path, name);
+
+        OperatorCodeGenerator value = parent == null
+            ? access.read(PARAM_NAME)
+            : generateNullSafeGetter(parent, access.read(parent));
+        method.setOperator(
+            new EndLineCodeOperator(
+                new VarDefCodeGenerator(name, new TypeCodeGenerator(field.getType()), value)
+            )
+        );
+      }
+      parent = name;
+    }
+    return parent;
+  }
+
+  // Generates code: variable != null ? variable.getValue() : null
+  private OperatorCodeGenerator generateNullSafeGetter(
+      String variable,
+      OperatorCodeGenerator getter
+  ) {
+    return new ConditionalCodeGenerator(
+        target -> target
+            .write(variable)
+            .space()
+            .write(NOT_EQUALS_OPERATOR)
+            .space()
+            .write(NULL_LITERAL),
+        getter,
+        target -> target.write(NULL_LITERAL)
+    );
+  }
+
+  // Generates code: record.setValue(COLUMN_NAME, value) or
+  // record.setValue(COLUMN_NAME, value, CONVERTER)
   private OperatorCodeGenerator generateSetValue(
       GenerateContext context,
       EntityTableDefinition table,
-      EntityColumnDefinition column
+      EntityColumnDefinition column,
+      OperatorCodeGenerator value
   ) {
     String tableName = table.getName();
     String columnName = column.getName();
-    String getterName = column.getGetterName();
 
     EntityDataTypeDefinition type = (EntityDataTypeDefinition) column.getType();
     ConverterDefinition converter = type.getConverterDefinition();
@@ -109,10 +210,7 @@ public class ToRecordGenerateChainPart implements GenerateChainPart {
                   tableName.toUpperCase(),
                   target -> target.write(columnName.toUpperCase())
               ),
-              new VarMemberCodeGenerator(
-                  PARAM_NAME,
-                  new InvokeMethodCodeGenerator(getterName)
-              ),
+              value,
               target -> target.write(field)
           )
       );
@@ -126,10 +224,7 @@ public class ToRecordGenerateChainPart implements GenerateChainPart {
                 tableName.toUpperCase(),
                 target -> target.write(columnName.toUpperCase())
             ),
-            new VarMemberCodeGenerator(
-                PARAM_NAME,
-                new InvokeMethodCodeGenerator(getterName)
-            )
+            value
         )
     );
   }
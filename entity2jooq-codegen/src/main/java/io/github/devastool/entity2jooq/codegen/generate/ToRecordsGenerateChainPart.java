@@ -0,0 +1,105 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.generate.code.MethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.EndLineCodeOperator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.ForEachCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.InvokeMethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.NewCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.ReturnCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.TypeCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarDefCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarMemberCodeGenerator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.jooq.Record;
+
+/**
+ * Implementation of {@link GenerateChainPart} for 'toRecords' method generating. Method
+ * 'toRecords' maps collection of entity instances to list of Jooq records, the list is presized.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class ToRecordsGenerateChainPart implements GenerateChainPart {
+  private static final String METHOD_NAME = "toRecords";
+  private static final String PARAM_NAME = "entities";
+  private static final String VARIABLE_NAME = "records";
+  private static final String ELEMENT_NAME = "entity";
+  private static final String SIZE_METHOD_NAME = "size";
+  private static final String ADD_METHOD_NAME = "add";
+  private static final String RECORD_METHOD_NAME = "toRecord";
+
+  @Override
+  public void generate(GenerateContext context) {
+    EntityTableDefinition table = context.getTable();
+    if (table.isMapping()) {
+      Class<?> type = table.getEntityType();
+      TypeCodeGenerator records = new TypeCodeGenerator(
+          List.class,
+          new TypeCodeGenerator(Record.class)
+      );
+
+      new MethodCodeGenerator(METHOD_NAME)
+          .setReturnType(records)
+          .setParam(
+              PARAM_NAME,
+              new TypeCodeGenerator(Collection.class, TypeCodeGenerator.wildcard(type))
+          )
+          .setOperator(
+              new EndLineCodeOperator(
+                  new VarDefCodeGenerator(
+                      VARIABLE_NAME,
+                      records,
+                      new NewCodeGenerator(
+                          ArrayList.class,
+                          new VarMemberCodeGenerator(
+                              PARAM_NAME,
+                              new InvokeMethodCodeGenerator(SIZE_METHOD_NAME)
+                          )
+                      ).setGenericTypes()
+                  )
+              )
+          )
+          .setOperator(
+              new ForEachCodeGenerator(
+                  new TypeCodeGenerator(type),
+                  ELEMENT_NAME,
+                  target -> target.write(PARAM_NAME)
+              ).setOperator(
+                  new EndLineCodeOperator(
+                      new VarMemberCodeGenerator(
+                          VARIABLE_NAME,
+                          new InvokeMethodCodeGenerator(
+                              ADD_METHOD_NAME,
+                              new InvokeMethodCodeGenerator(
+                                  RECORD_METHOD_NAME,
+                                  target -> target.write(ELEMENT_NAME)
+                              )
+                          )
+                      )
+                  )
+              )
+          )
+          .setOperator(new EndLineCodeOperator(new ReturnCodeGenerator(VARIABLE_NAME)))
+          .generate(context.getTarget());
+    }
+  }
+}
@@ -0,0 +1,472 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate.access;
+
+import io.github.devastool.entity2jooq.annotation.naming.NamingStrategy;
+import io.github.devastool.entity2jooq.annotation.naming.SnakeCaseStrategy;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.AssignCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.CastCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.InvokeMethodCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.NewCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.OperatorCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.VarMemberCodeGenerator;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Access to the field of the entity from the generated code. Style of the access is detected by
+ * the field and its class: public getter and setter, accessor of the record, public field or
+ * {@link java.lang.invoke.VarHandle} of the table for other fields. Records are created by the
+ * canonical constructor, immutable classes are created by the public constructor with values of
+ * all their fields.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class FieldAccess {
+  private final Field field;
+  private final Style readStyle;
+  private final String readName;
+  private final Style writeStyle;
+  private final String writeName;
+  private final String handleName;
+
+  private static final NamingStrategy NAMING = new SnakeCaseStrategy(true);
+  private static final String GETTER_PREFIX = "get";
+  private static final String SETTER_PREFIX = "set";
+  private static final String HANDLE_POSTFIX = "Handle";
+  private static final String HANDLE_GET_METHOD_NAME = "get";
+  private static final String HANDLE_SET_METHOD_NAME = "set";
+  private static final String RECORD_CLASS_NAME = "java.lang.Record";
+  private static final String COMPONENTS_METHOD_NAME = "getRecordComponents";
+  private static final String COMPONENT_NAME_METHOD_NAME = "getName";
+  private static final String MEMBER_SEPARATOR = ".";
+  private static final String NULL_LITERAL = "null";
+  private static final String FALSE_LITERAL = "false";
+  private static final String ZERO_LITERAL = "0";
+  private static final String CAST_BEGIN = "(";
+  private static final String CAST_END = ") ";
+  private static final int FIRST_INDEX = 0;
+  private static final int SECOND_INDEX = 1;
+
+  /**
+   * Style of the access to the field.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0.0
+   */
+  public enum Style {
+    /**
+     * Public method: getter, setter or accessor of the record.
+     */
+    METHOD,
+    /**
+     * Public field.
+     */
+    FIELD,
+    /**
+     * Handle of the field, it is a static final field of the table.
+     */
+    HANDLE,
+    /**
+     * Argument of the canonical constructor of the record or the constructor of the immutable
+     * class.
+     */
+    CONSTRUCTOR,
+    /**
+     * Final field without setter and constructor of the class, it can not be written.
+     */
+    NONE
+  }
+
+  /**
+   * Constructs new instance of {@link FieldAccess}.
+   *
+   * @param field      field for the access
+   * @param readStyle  style of the reading
+   * @param readName   name of the reading method
+   * @param writeStyle style of the writing
+   * @param writeName  name of the writing method
+   * @param handleName name of the handle field
+   */
+  private FieldAccess(
+      Field field,
+      Style readStyle,
+      String readName,
+      Style writeStyle,
+      String writeName,
+      String handleName
+  ) {
+    this.field = field;
+    this.readStyle = readStyle;
+    this.readName = readName;
+    this.writeStyle = writeStyle;
+    this.writeName = writeName;
+    this.handleName = handleName;
+  }
+
+  /**
+   * Detects access to the field.
+   *
+   * @param field field for the access
+   * @return access to the field
+   */
+  public static FieldAccess of(Field field) {
+    Class<?> owner = field.getDeclaringClass();
+    String postfix = getMethodNamePostfix(field.getName());
+    boolean publicField = Modifier.isPublic(field.getModifiers())
+        && Modifier.isPublic(owner.getModifiers());
+    boolean finalField = Modifier.isFinal(field.getModifiers());
+
+    Style readStyle = Style.HANDLE;
+    String readName = null;
+    if (findMethod(owner, GETTER_PREFIX.concat(postfix), field.getType()) != null) {
+      readStyle = Style.METHOD;
+      readName = GETTER_PREFIX.concat(postfix);
+    } else if (isRecord(owner) && findMethod(owner, field.getName(), field.getType()) != null) {
+      readStyle = Style.METHOD;
+      readName = field.getName();
+    } else if (publicField) {
+      readStyle = Style.FIELD;
+    }
+
+    Style writeStyle = Style.HANDLE;
+    String writeName = null;
+    if (isConstructed(owner)) {
+      writeStyle = Style.CONSTRUCTOR;
+    } else if (findMethod(owner, SETTER_PREFIX.concat(postfix), null, field.getType()) != null) {
+      writeStyle = Style.METHOD;
+      writeName = SETTER_PREFIX.concat(postfix);
+    } else if (finalField) {
+      writeStyle = Style.NONE;
+    } else if (publicField) {
+      writeStyle = Style.FIELD;
+    }
+    String handleName = NAMING.resolve(owner.getSimpleName(), field.getName(), HANDLE_POSTFIX);
+    return new FieldAccess(field, readStyle, readName, writeStyle, writeName, handleName);
+  }
+
+  /**
+   * Returns the field of the access.
+   *
+   * @return the field
+   */
+  public Field getField() {
+    return field;
+  }
+
+  /**
+   * Returns style of the reading.
+   *
+   * @return style of the reading
+   */
+  public Style getReadStyle() {
+    return readStyle;
+  }
+
+  /**
+   * Returns name of the reading method.
+   *
+   * @return name of the reading method or null when the field is not read by the method
+   */
+  public String getReadName() {
+    return readName;
+  }
+
+  /**
+   * Returns style of the writing.
+   *
+   * @return style of the writing
+   */
+  public Style getWriteStyle() {
+    return writeStyle;
+  }
+
+  /**
+   * Returns name of the writing method.
+   *
+   * @return name of the writing method or null when the field is not written by the method
+   */
+  public String getWriteName() {
+    return writeName;
+  }
+
+  /**
+   * Checks usage of the field handle.
+   *
+   * @return true - when the field is read or written by the handle
+   */
+  public boolean isHandle() {
+    return readStyle == Style.HANDLE || writeStyle == Style.HANDLE;
+  }
+
+  /**
+   * Returns name of the handle field of the table, example: ENTITY_FIELD_NAME_HANDLE.
+   *
+   * @return name of the handle field
+   */
+  public String getHandleName() {
+    return handleName;
+  }
+
+  /**
+   * Returns the same access with other name of the handle field, it is used when the default
+   * name is already taken by other field of the table.
+   *
+   * @param name name of the handle field
+   * @return access with the name of the handle field
+   */
+  public FieldAccess withHandleName(String name) {
+    return new FieldAccess(field, readStyle, readName, writeStyle, writeName, name);
+  }
+
+  /**
+   * Generates reading of the field. Generated code: variable.getName(), variable.name() or
+   * variable.name or (Type) HANDLE.get(variable).
+   *
+   * @param variable name of the variable
+   * @return reading of the field
+   */
+  public OperatorCodeGenerator read(String variable) {
+    switch (readStyle) {
+      case METHOD:
+        return new VarMemberCodeGenerator(variable, new InvokeMethodCodeGenerator(readName));
+      case FIELD:
+        return new VarMemberCodeGenerator(variable, target -> target.write(field.getName()));
+      default:
+        return new CastCodeGenerator(
+            field.getType().getCanonicalName(),
+            new VarMemberCodeGenerator(
+                getHandleName(),
+                new InvokeMethodCodeGenerator(
+                    HANDLE_GET_METHOD_NAME,
+                    target -> target.write(variable)
+                )
+            )
+        );
+    }
+  }
+
+  /**
+   * Generates writing of the field. Generated code: variable.setName(value) or
+   * variable.name = value or HANDLE.set(variable, value).
+   *
+   * @param variable name of the variable
+   * @param value    value of the field
+   * @return writing of the field
+   * @throws IllegalArgumentException when the field is final or written by the constructor
+   */
+  public OperatorCodeGenerator write(
+      String variable,
+      OperatorCodeGenerator value
+  ) throws IllegalArgumentException {
+    switch (writeStyle) {
+      case METHOD:
+        return new VarMemberCodeGenerator(
+            variable,
+            new InvokeMethodCodeGenerator(writeName, value)
+        );
+      case FIELD:
+        return new AssignCodeGenerator(
+            variable.concat(MEMBER_SEPARATOR).concat(field.getName()),
+            value
+        );
+      case HANDLE:
+        return new VarMemberCodeGenerator(
+            getHandleName(),
+            new InvokeMethodCodeGenerator(
+                HANDLE_SET_METHOD_NAME,
+                target -> target.write(variable),
+                value
+            )
+        );
+      default:
+        throw new IllegalArgumentException("Field is not writable: [" + field + "]");
+    }
+  }
+
+  /**
+   * Checks that the type is a record.
+   *
+   * @param type type for checking
+   * @return true - when the type is a record
+   */
+  public static boolean isRecord(Class<?> type) {
+    Class<?> parent = type.getSuperclass();
+    return parent != null && RECORD_CLASS_NAME.equals(parent.getName());
+  }
+
+  /**
+   * Checks that instances of the type are created by the constructor with values of the fields.
+   * It is true for records and immutable classes: classes with final fields without setters and
+   * the public constructor, parameters of the constructor are types of all instance fields in
+   * order of the declaration. Parents of the immutable classes are not supported.
+   *
+   * @param type type for checking
+   * @return true - when instances of the type are created by the constructor with values
+   */
+  public static boolean isConstructed(Class<?> type) {
+    return isRecord(type) || findFieldsConstructor(type) != null;
+  }
+
+  /**
+   * Generates creating of the instance. Generated code: new Type() or new Type(values) for
+   * records and immutable classes, values are passed in order of the record components or the
+   * fields, absent values are default.
+   *
+   * @param type   type of the instance
+   * @param values values of the record components or the fields by names
+   * @return creating of the instance
+   * @throws IllegalArgumentException when components of the record can not be resolved
+   */
+  public static OperatorCodeGenerator newInstance(
+      Class<?> type,
+      Map<String, OperatorCodeGenerator> values
+  ) throws IllegalArgumentException {
+    if (!isConstructed(type)) {
+      return new NewCodeGenerator(type);
+    }
+
+    List<OperatorCodeGenerator> args = new ArrayList<>();
+    try {
+      for (String name : getConstructorNames(type)) {
+        OperatorCodeGenerator value = values.get(name);
+        if (value == null) {
+          String literal = getDefaultValue(type.getDeclaredField(name).getType());
+          value = target -> target.write(literal);
+        }
+        args.add(value);
+      }
+    } catch (ReflectiveOperationException exception) {
+      throw new IllegalArgumentException(
+          "Components of the record can not be resolved: [" + type.getName() + "]",
+          exception
+      );
+    }
+    return new NewCodeGenerator(type, args.toArray(new OperatorCodeGenerator[]{}));
+  }
+
+  // Returns names of the constructor parameters: components of the record or fields of the class
+  private static List<String> getConstructorNames(
+      Class<?> type
+  ) throws ReflectiveOperationException {
+    List<String> names = new ArrayList<>();
+    if (isRecord(type)) {
+      Method components = Class.class.getMethod(COMPONENTS_METHOD_NAME);
+      for (Object component : (Object[]) components.invoke(type)) {
+        Method nameMethod = component.getClass().getMethod(COMPONENT_NAME_METHOD_NAME);
+        names.add((String) nameMethod.invoke(component));
+      }
+    } else {
+      for (Field field : getInstanceFields(type)) {
+        names.add(field.getName());
+      }
+    }
+    return names;
+  }
+
+  // Returns public constructor of the immutable class with values of all its fields,
+  // null - when the class is not immutable or the constructor is absent
+  private static Constructor<?> findFieldsConstructor(Class<?> type) {
+    if (!Object.class.equals(type.getSuperclass())) {
+      return null;
+    }
+
+    List<Field> fields = getInstanceFields(type);
+    boolean immutable = false;
+    for (Field field : fields) {
+      String setter = SETTER_PREFIX.concat(getMethodNamePostfix(field.getName()));
+      if (Modifier.isFinal(field.getModifiers())
+          && findMethod(type, setter, null, field.getType()) == null) {
+        immutable = true;
+      }
+    }
+    if (!immutable) {
+      return null;
+    }
+
+    Class<?>[] types = new Class<?>[fields.size()];
+    for (int i = 0; i < types.length; i++) {
+      types[i] = fields.get(i).getType();
+    }
+    try {
+      return type.getConstructor(types);
+    } catch (NoSuchMethodException exception) {
+      return null;
+    }
+  }
+
+  // Returns non-static fields of the class in order of the declaration
+  private static List<Field> getInstanceFields(Class<?> type) {
+    List<Field> fields = new ArrayList<>();
+    for (Field field : type.getDeclaredFields()) {
+      if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+        fields.add(field);
+      }
+    }
+    return fields;
+  }
+
+  // Returns literal of the default value of the type
+  private static String getDefaultValue(Class<?> type) {
+    if (!type.isPrimitive()) {
+      return NULL_LITERAL;
+    }
+    if (boolean.class.equals(type)) {
+      return FALSE_LITERAL;
+    }
+    return CAST_BEGIN.concat(type.getName()).concat(CAST_END).concat(ZERO_LITERAL);
+  }
+
+  // Returns public instance method by name, return type (null - any) and parameter types
+  private static Method findMethod(
+      Class<?> owner,
+      String name,
+      Class<?> returnType,
+      Class<?>... parameterTypes
+  ) {
+    try {
+      Method method = owner.getMethod(name, parameterTypes);
+      if (Modifier.isStatic(method.getModifiers())) {
+        return null;
+      }
+      if (returnType != null && !Objects.equals(returnType, method.getReturnType())) {
+        return null;
+      }
+      return method;
+    } catch (NoSuchMethodException exception) {
+      return null;
+    }
+  }
+
+  // Returns postfix of the getter or setter name, example: fieldName - FieldName
+  private static String getMethodNamePostfix(String name) {
+    if (name.length() > SECOND_INDEX) {
+      return name
+          .substring(FIRST_INDEX, SECOND_INDEX)
+          .toUpperCase()
+          .concat(name.substring(SECOND_INDEX));
+    }
+    return name.toUpperCase();
+  }
+}
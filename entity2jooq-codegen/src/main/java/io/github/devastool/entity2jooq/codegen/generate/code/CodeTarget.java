@@ -50,7 +50,7 @@ public interface CodeTarget {
    */
   default CodeTarget write(Class<?> type) {
     String name = type.getCanonicalName();
-    if (name.startsWith("java.lang")) {
+    if ("java.lang".equals(type.getPackageName())) {
       name = type.getSimpleName();
     }
 
@@ -116,7 +116,7 @@ public interface CodeTarget {
    */
   default CodeTarget writeClass(Class<?> type) {
     String name = type.getCanonicalName();
-    if (name.startsWith("java.lang")) {
+    if ("java.lang".equals(type.getPackageName())) {
       name = type.getSimpleName();
     }
 
@@ -21,7 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Generator of source code of public, final field.
+ * Generator of source code of final field, the field is public and not static by default.
  *
  * @author Andrey_Yurzanov
  * @since 1.0.0
@@ -31,8 +31,12 @@ public class FieldCodeGenerator implements CodeGenerator {
   private final String name;
   private final Class<?> type;
   private final OperatorCodeGenerator assignment;
+  private boolean privateField;
+  private boolean staticField;
 
   private static final String ACCESS_MODIFIER = "public";
+  private static final String PRIVATE_MODIFIER = "private";
+  private static final String STATIC_MODIFIER = "static";
   private static final String FINAL_MODIFIER = "final";
   private static final String ASSIGN_OPERATOR = "=";
   private static final String GENERICS_BEGIN = "<";
@@ -79,10 +83,35 @@ public class FieldCodeGenerator implements CodeGenerator {
     return this;
   }
 
+  /**
+   * Sets private access modifier of the field.
+   *
+   * @param privateField true - private field, false - public field
+   */
+  public FieldCodeGenerator setPrivate(boolean privateField) {
+    this.privateField = privateField;
+    return this;
+  }
+
+  /**
+   * Sets static modifier of the field.
+   *
+   * @param staticField true - static field, false - field of the instance
+   */
+  public FieldCodeGenerator setStatic(boolean staticField) {
+    this.staticField = staticField;
+    return this;
+  }
+
   @Override
   public void generate(CodeTarget target) {
+    target.write(privateField ? PRIVATE_MODIFIER : ACCESS_MODIFIER);
+    if (staticField) {
+      target
+          .space()
+          .write(STATIC_MODIFIER);
+    }
     target
-        .write(ACCESS_MODIFIER)
         .space()
         .write(FINAL_MODIFIER)
         .space()
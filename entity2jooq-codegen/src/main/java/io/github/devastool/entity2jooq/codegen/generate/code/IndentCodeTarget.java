@@ -53,9 +53,20 @@ public class IndentCodeTarget implements CodeTarget {
    * @param indentCount indents count
    */
   public IndentCodeTarget(CodeTarget target, int indentCount) {
+    this(target, indentCount, 1);
+  }
+
+  /**
+   * Constructs new instance of {@link IndentCodeTarget}.
+   *
+   * @param target      source code destination
+   * @param indentCount indents count
+   * @param level       initial level of the indention, 0 - top level of the source file
+   */
+  public IndentCodeTarget(CodeTarget target, int indentCount, int level) {
     this.target = target;
     this.indentCount = indentCount;
-    this.level = 1;
+    this.level = level;
     this.needIndent = true;
   }
 
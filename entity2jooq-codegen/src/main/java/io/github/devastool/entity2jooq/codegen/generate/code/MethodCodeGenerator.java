@@ -17,6 +17,7 @@
 package io.github.devastool.entity2jooq.codegen.generate.code;
 
 import io.github.devastool.entity2jooq.codegen.generate.code.operator.OperatorCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.TypeCodeGenerator;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -27,7 +28,7 @@ import java.util.List;
  * @since 1.0.0
  */
 public class MethodCodeGenerator implements CodeGenerator {
-  private Class<?> returnType;
+  private TypeCodeGenerator returnType;
   private List<CodeGenerator> params;
   private List<OperatorCodeGenerator> operators;
   private final String name;
@@ -55,6 +56,21 @@ public class MethodCodeGenerator implements CodeGenerator {
    * @return current instance
    */
   public MethodCodeGenerator setReturnType(Class<?> returnType) {
+    if (isVoid(returnType)) {
+      this.returnType = null;
+    } else {
+      this.returnType = new TypeCodeGenerator(returnType);
+    }
+    return this;
+  }
+
+  /**
+   * Sets type of the method return, the type can contain generics.
+   *
+   * @param returnType type of the method return
+   * @return current instance
+   */
+  public MethodCodeGenerator setReturnType(TypeCodeGenerator returnType) {
     this.returnType = returnType;
     return this;
   }
@@ -67,6 +83,17 @@ public class MethodCodeGenerator implements CodeGenerator {
    * @return current instance
    */
   public MethodCodeGenerator setParam(String name, Class<?> type) {
+    return setParam(name, new TypeCodeGenerator(type));
+  }
+
+  /**
+   * Append parameter of the method, the type can contain generics.
+   *
+   * @param name name of the parameter
+   * @param type type of the parameter
+   * @return current instance
+   */
+  public MethodCodeGenerator setParam(String name, TypeCodeGenerator type) {
     if (this.params == null) {
       this.params = new ArrayList<>();
     }
@@ -101,7 +128,7 @@ public class MethodCodeGenerator implements CodeGenerator {
         .write(ACCESS_KEYWORD)
         .space();
 
-    if (isVoid(returnType)) {
+    if (returnType == null) {
       target.write(void.class.getSimpleName());
     } else {
       target.write(returnType);
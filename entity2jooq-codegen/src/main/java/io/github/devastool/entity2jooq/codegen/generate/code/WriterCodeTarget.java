@@ -0,0 +1,147 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate.code;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * Implementation of {@link CodeTarget} for source code writing to {@link Writer}. Strings are
+ * copied to the char buffer and the buffer is written to the writer when it is full, so source
+ * code is not collected to intermediate strings. Buffers are reused by the threads, the buffer is
+ * returned on closing. Closing does not close the writer.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class WriterCodeTarget implements CodeTarget, Flushable, Closeable {
+  private final Writer writer;
+  private char[] buffer;
+  private int position;
+
+  private static final ThreadLocal<char[]> BUFFERS = new ThreadLocal<>();
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  /**
+   * Size of the char buffer.
+   */
+  public static final int BUFFER_SIZE = 8192;
+
+  /**
+   * Constructs new instance of {@link WriterCodeTarget}.
+   *
+   * @param writer destination of the source code
+   */
+  public WriterCodeTarget(Writer writer) {
+    this.writer = writer;
+    this.buffer = BUFFERS.get();
+    if (buffer == null) {
+      buffer = new char[BUFFER_SIZE];
+    } else {
+      // The buffer is taken, nested targets of the thread allocate own buffers
+      BUFFERS.remove();
+    }
+  }
+
+  /**
+   * Constructs new instance of {@link WriterCodeTarget}, source code is encoded to the channel.
+   *
+   * @param channel destination of the source code
+   * @param charset charset of the source code
+   */
+  public WriterCodeTarget(WritableByteChannel channel, Charset charset) {
+    this(Channels.newWriter(channel, charset));
+  }
+
+  @Override
+  public CodeTarget rawWrite(String value) {
+    int length = value.length();
+    int offset = 0;
+    while (offset < length) {
+      if (position == buffer.length) {
+        writeBuffer();
+      }
+
+      int count = Math.min(length - offset, buffer.length - position);
+      value.getChars(offset, offset + count, buffer, position);
+      position += count;
+      offset += count;
+    }
+    return this;
+  }
+
+  @Override
+  public CodeTarget write(String value) {
+    return rawWrite(value);
+  }
+
+  @Override
+  public CodeTarget writeln(String value) {
+    write(value);
+    rawWrite(LINE_SEPARATOR);
+    return this;
+  }
+
+  /**
+   * Writes the buffer to the writer and flushes the writer.
+   *
+   * @throws RuntimeException when writing fails
+   */
+  @Override
+  public void flush() throws RuntimeException {
+    writeBuffer();
+    try {
+      writer.flush();
+    } catch (IOException exception) {
+      throw new RuntimeException(exception);
+    }
+  }
+
+  /**
+   * Flushes the target and returns the buffer for reuse, the writer is not closed.
+   *
+   * @throws RuntimeException when writing fails
+   */
+  @Override
+  public void close() throws RuntimeException {
+    if (buffer != null) {
+      try {
+        flush();
+      } finally {
+        BUFFERS.set(buffer);
+        buffer = null;
+      }
+    }
+  }
+
+  // Writes content of the buffer to the writer, the buffer becomes empty
+  private void writeBuffer() {
+    if (position > 0) {
+      try {
+        writer.write(buffer, 0, position);
+        position = 0;
+      } catch (IOException exception) {
+        throw new RuntimeException(exception);
+      }
+    }
+  }
+}
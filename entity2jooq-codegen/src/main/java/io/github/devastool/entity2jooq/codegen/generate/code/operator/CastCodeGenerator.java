@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate.code.operator;
+
+import io.github.devastool.entity2jooq.codegen.generate.code.CodeTarget;
+
+/**
+ * Implementation of {@link OperatorCodeGenerator} to generate type cast, in the format:
+ * (Integer) value.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class CastCodeGenerator implements OperatorCodeGenerator {
+  private final String type;
+  private final OperatorCodeGenerator value;
+
+  private static final String CAST_BEGIN = "(";
+  private static final String CAST_END = ")";
+
+  /**
+   * Constructs new instance of {@link CastCodeGenerator}.
+   *
+   * @param type  name of the type
+   * @param value value for casting
+   */
+  public CastCodeGenerator(String type, OperatorCodeGenerator value) {
+    this.type = type;
+    this.value = value;
+  }
+
+  @Override
+  public void generate(CodeTarget target) {
+    target
+        .write(CAST_BEGIN)
+        .write(type)
+        .write(CAST_END)
+        .space()
+        .write(value);
+  }
+}
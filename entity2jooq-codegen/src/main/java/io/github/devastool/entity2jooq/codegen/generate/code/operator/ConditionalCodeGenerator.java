@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate.code.operator;
+
+import io.github.devastool.entity2jooq.codegen.generate.code.CodeTarget;
+
+/**
+ * Implementation of {@link OperatorCodeGenerator} to generate conditional operator, in the format:
+ * condition ? value : otherValue.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class ConditionalCodeGenerator implements OperatorCodeGenerator {
+  private final OperatorCodeGenerator condition;
+  private final OperatorCodeGenerator value;
+  private final OperatorCodeGenerator otherValue;
+
+  private static final String THEN_OPERATOR = "?";
+  private static final String ELSE_OPERATOR = ":";
+
+  /**
+   * Constructs new instance of {@link ConditionalCodeGenerator}.
+   *
+   * @param condition  condition of the operator
+   * @param value      value when the condition is true
+   * @param otherValue value when the condition is false
+   */
+  public ConditionalCodeGenerator(
+      OperatorCodeGenerator condition,
+      OperatorCodeGenerator value,
+      OperatorCodeGenerator otherValue
+  ) {
+    this.condition = condition;
+    this.value = value;
+    this.otherValue = otherValue;
+  }
+
+  @Override
+  public void generate(CodeTarget target) {
+    target
+        .write(condition)
+        .space()
+        .write(THEN_OPERATOR)
+        .space()
+        .write(value)
+        .space()
+        .write(ELSE_OPERATOR)
+        .space()
+        .write(otherValue);
+  }
+}
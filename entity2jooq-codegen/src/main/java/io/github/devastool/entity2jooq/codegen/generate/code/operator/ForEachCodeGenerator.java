@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate.code.operator;
+
+import io.github.devastool.entity2jooq.codegen.generate.code.CodeTarget;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of {@link OperatorCodeGenerator} to generate loop over elements, in the format:
+ * for (Record record : result) { ... }.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class ForEachCodeGenerator implements OperatorCodeGenerator {
+  private final TypeCodeGenerator type;
+  private final String name;
+  private final OperatorCodeGenerator elements;
+  private final List<OperatorCodeGenerator> operators;
+
+  private static final String FOR_KEYWORD = "for";
+  private static final String HEADER_BEGIN = "(";
+  private static final String HEADER_END = ")";
+  private static final String HEADER_SEPARATOR = ":";
+  private static final String BODY_BEGIN = "{";
+  private static final String BODY_END = "}";
+
+  /**
+   * Constructs new instance of {@link ForEachCodeGenerator}.
+   *
+   * @param type     type of the element
+   * @param name     name of the element variable
+   * @param elements elements for iteration
+   */
+  public ForEachCodeGenerator(TypeCodeGenerator type, String name, OperatorCodeGenerator elements) {
+    this.type = type;
+    this.name = name;
+    this.elements = elements;
+    this.operators = new ArrayList<>();
+  }
+
+  /**
+   * Append operator of loop's body.
+   *
+   * @param operator operator of loop's body
+   * @return current instance
+   */
+  public ForEachCodeGenerator setOperator(OperatorCodeGenerator operator) {
+    this.operators.add(operator);
+    return this;
+  }
+
+  @Override
+  public void generate(CodeTarget target) {
+    target
+        .write(FOR_KEYWORD)
+        .space()
+        .write(HEADER_BEGIN)
+        .write(type)
+        .space()
+        .write(name)
+        .space()
+        .write(HEADER_SEPARATOR)
+        .space()
+        .write(elements)
+        .write(HEADER_END)
+        .space()
+        .writeln(BODY_BEGIN)
+        .writeAll(operators, null)
+        .writeln(BODY_END);
+  }
+}
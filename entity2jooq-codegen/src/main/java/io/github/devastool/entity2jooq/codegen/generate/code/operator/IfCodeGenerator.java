@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate.code.operator;
+
+import io.github.devastool.entity2jooq.codegen.generate.code.CodeTarget;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of {@link OperatorCodeGenerator} to generate conditional block, in the format:
+ * if (condition) { ... }.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class IfCodeGenerator implements OperatorCodeGenerator {
+  private final OperatorCodeGenerator condition;
+  private final List<OperatorCodeGenerator> operators;
+
+  private static final String IF_KEYWORD = "if";
+  private static final String CONDITION_BEGIN = "(";
+  private static final String CONDITION_END = ")";
+  private static final String BODY_BEGIN = "{";
+  private static final String BODY_END = "}";
+
+  /**
+   * Constructs new instance of {@link IfCodeGenerator}.
+   *
+   * @param condition condition of the block
+   */
+  public IfCodeGenerator(OperatorCodeGenerator condition) {
+    this.condition = condition;
+    this.operators = new ArrayList<>();
+  }
+
+  /**
+   * Append operator of block's body.
+   *
+   * @param operator operator of block's body
+   * @return current instance
+   */
+  public IfCodeGenerator setOperator(OperatorCodeGenerator operator) {
+    this.operators.add(operator);
+    return this;
+  }
+
+  @Override
+  public void generate(CodeTarget target) {
+    target
+        .write(IF_KEYWORD)
+        .space()
+        .write(CONDITION_BEGIN)
+        .write(condition)
+        .write(CONDITION_END)
+        .space()
+        .writeln(BODY_BEGIN)
+        .writeAll(operators, null)
+        .writeln(BODY_END);
+  }
+}
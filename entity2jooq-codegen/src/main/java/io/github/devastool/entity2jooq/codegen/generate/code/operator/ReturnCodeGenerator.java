@@ -25,7 +25,7 @@ import io.github.devastool.entity2jooq.codegen.generate.code.CodeTarget;
  * @since 1.0.0
  */
 public class ReturnCodeGenerator implements OperatorCodeGenerator {
-  private final String returnValue;
+  private final OperatorCodeGenerator returnValue;
 
   private static final String RETURN_KEYWORD = "return";
 
@@ -35,6 +35,15 @@ public class ReturnCodeGenerator implements OperatorCodeGenerator {
    * @param returnValue value to return
    */
   public ReturnCodeGenerator(String returnValue) {
+    this(target -> target.write(returnValue));
+  }
+
+  /**
+   * Constructs new instance of {@link ReturnCodeGenerator}.
+   *
+   * @param returnValue expression to return
+   */
+  public ReturnCodeGenerator(OperatorCodeGenerator returnValue) {
     this.returnValue = returnValue;
   }
 
@@ -29,10 +29,14 @@ import java.util.Collection;
  */
 public class TypeCodeGenerator implements OperatorCodeGenerator {
   private Collection<TypeCodeGenerator> genericTypes;
+  private String bound;
   private final Class<?> type;
 
   private static final String GENERICS_BEGIN = "<";
   private static final String GENERICS_END = ">";
+  private static final String WILDCARD = "?";
+  private static final String EXTENDS_KEYWORD = "extends";
+  private static final String SUPER_KEYWORD = "super";
   private static final OperatorCodeGenerator GENERICS_SEPARATOR = target -> target.write(", ");
 
   /**
@@ -49,8 +53,41 @@ public class TypeCodeGenerator implements OperatorCodeGenerator {
     }
   }
 
+  /**
+   * Returns generator of wildcard type, in the format: ? extends Number.
+   *
+   * @param type         upper bound of the wildcard
+   * @param genericTypes generics types of the upper bound
+   * @return generator of wildcard type
+   */
+  public static TypeCodeGenerator wildcard(Class<?> type, TypeCodeGenerator... genericTypes) {
+    TypeCodeGenerator generator = new TypeCodeGenerator(type, genericTypes);
+    generator.bound = EXTENDS_KEYWORD;
+    return generator;
+  }
+
+  /**
+   * Returns generator of wildcard type with lower bound, in the format: ? super Number.
+   *
+   * @param type         lower bound of the wildcard
+   * @param genericTypes generics types of the lower bound
+   * @return generator of wildcard type
+   */
+  public static TypeCodeGenerator superWildcard(Class<?> type, TypeCodeGenerator... genericTypes) {
+    TypeCodeGenerator generator = new TypeCodeGenerator(type, genericTypes);
+    generator.bound = SUPER_KEYWORD;
+    return generator;
+  }
+
   @Override
   public void generate(CodeTarget target) {
+    if (bound != null) {
+      target
+          .write(WILDCARD)
+          .space()
+          .write(bound)
+          .space();
+    }
     target.write(type);
 
     if (genericTypes != null) {
@@ -25,7 +25,7 @@ import io.github.devastool.entity2jooq.codegen.generate.code.CodeTarget;
  * @since 1.0.0
  */
 public class VarMemberCodeGenerator implements OperatorCodeGenerator {
-  private final String variableName;
+  private final OperatorCodeGenerator variable;
   private final OperatorCodeGenerator member;
 
   private static final String RESOLVE_MEMBER_OPERATOR = ".";
@@ -37,14 +37,25 @@ public class VarMemberCodeGenerator implements OperatorCodeGenerator {
    * @param member       member of variable
    */
   public VarMemberCodeGenerator(String variableName, OperatorCodeGenerator member) {
-    this.variableName = variableName;
+    this(target -> target.write(variableName), member);
+  }
+
+  /**
+   * Constructs new instance of {@link VarMemberCodeGenerator}, the variable is an expression, for
+   * example result of the method invoking: stream().map(mapper).
+   *
+   * @param variable expression of the variable
+   * @param member   member of the expression
+   */
+  public VarMemberCodeGenerator(OperatorCodeGenerator variable, OperatorCodeGenerator member) {
+    this.variable = variable;
     this.member = member;
   }
 
   @Override
   public void generate(CodeTarget target) {
     target
-        .write(variableName)
+        .write(variable)
         .write(RESOLVE_MEMBER_OPERATOR)
         .write(member);
   }
@@ -21,6 +21,7 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -37,6 +38,12 @@ public class EntityGenerationParams {
   private final Set<LinkPair> entityLinks = new HashSet<>();
   private final CodeGeneratorAccumulator codeAccumulator = new CodeGeneratorAccumulator();
   private final List<OperatorCodeGenerator> rootCodeAccumulator = new ArrayList<>();
+  private final CodeGeneratorAccumulator valueAccumulator = new CodeGeneratorAccumulator();
+  private final Map<String, List<String>> nullChecks = new HashMap<>();
+  private final Map<String, Class<?>> entityTypes = new LinkedHashMap<>();
+  private final Map<String, Map<String, OperatorCodeGenerator>> componentValues = new HashMap<>();
+  private Class<?> entityType;
+  private boolean nullable;
 
   /**
    * Returns a map that counts the uniqueness of names.
@@ -82,4 +89,79 @@ public class EntityGenerationParams {
   public CodeGeneratorAccumulator getCodeAccumulator() {
     return codeAccumulator;
   }
+
+  /**
+   * Retrieves the map of accumulators of the embedded values, values are read to variables before
+   * creating of the embedded object.
+   *
+   * @return map of code generator
+   */
+  public CodeGeneratorAccumulator getValueAccumulator() {
+    return valueAccumulator;
+  }
+
+  /**
+   * Returns a map of variables by names of the embedded objects, the embedded object is created
+   * when at least one of its variables is not null.
+   *
+   * @return a map of variable names
+   */
+  public Map<String, List<String>> getNullChecks() {
+    return nullChecks;
+  }
+
+  /**
+   * Returns a map of types by names of the embedded objects in order of creating.
+   *
+   * @return a map of types
+   */
+  public Map<String, Class<?>> getEntityTypes() {
+    return entityTypes;
+  }
+
+  /**
+   * Returns a map of component values by names of the records or immutable classes, values are
+   * passed to the constructor by names of the components or the fields.
+   *
+   * @return a map of component values
+   */
+  public Map<String, Map<String, OperatorCodeGenerator>> getComponentValues() {
+    return componentValues;
+  }
+
+  /**
+   * Returns type of the root entity.
+   *
+   * @return type of the root entity
+   */
+  public Class<?> getEntityType() {
+    return entityType;
+  }
+
+  /**
+   * Sets type of the root entity.
+   *
+   * @param entityType type of the root entity
+   */
+  public void setEntityType(Class<?> entityType) {
+    this.entityType = entityType;
+  }
+
+  /**
+   * Returns enable/disable flag of null embedded objects.
+   *
+   * @return true - embedded object is not created when all its values are null
+   */
+  public boolean isNullable() {
+    return nullable;
+  }
+
+  /**
+   * Sets enable/disable flag of null embedded objects.
+   *
+   * @param nullable true - embedded object is not created when all its values are null
+   */
+  public void setNullable(boolean nullable) {
+    this.nullable = nullable;
+  }
 }
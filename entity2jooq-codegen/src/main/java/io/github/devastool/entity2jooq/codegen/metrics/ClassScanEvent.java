@@ -0,0 +1,76 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the class file scanning, it is committed for each scanned class file.
+ * Duration of the event is time of the reading of the class meta-information.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+@Name("io.github.devastool.entity2jooq.ClassScan")
+@Label("Class Scan")
+@Category({"entity2jooq", "Codegen"})
+@Description("Reading of meta-information of the class file")
+@StackTrace(false)
+public class ClassScanEvent extends Event {
+  @Label("Class Name")
+  private String className;
+
+  @Label("Path")
+  private String path;
+
+  @Label("Size")
+  @DataAmount
+  private long size;
+
+  /**
+   * Sets full name of the class.
+   *
+   * @param className full name of the class
+   */
+  public void setClassName(String className) {
+    this.className = className;
+  }
+
+  /**
+   * Sets path of the class file.
+   *
+   * @param path path of the class file
+   */
+  public void setPath(String path) {
+    this.path = path;
+  }
+
+  /**
+   * Sets size of the class file.
+   *
+   * @param size size of the class file in bytes
+   */
+  public void setSize(long size) {
+    this.size = size;
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metrics of the generation by phases. Metrics are registered by session like
+ * {@link io.github.devastool.entity2jooq.codegen.generate.GeneratedSources}, the session is opened
+ * by the caller of the generation (for example the maven plugin) and its identifier is passed to
+ * the generator by property.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class CodegenMetrics {
+  private final Map<String, PhaseMetrics> phases = new LinkedHashMap<>();
+
+  private static final Map<String, CodegenMetrics> SESSIONS = new ConcurrentHashMap<>();
+  private static final String JSON_SEPARATOR = ",";
+
+  /**
+   * Phase of the class files scanning, counters: files, bytes.
+   */
+  public static final String SCAN = "scan";
+
+  /**
+   * Phase of the classes loading, counters: classes, entities.
+   */
+  public static final String LOAD = "load";
+
+  /**
+   * Phase of the definitions building, counters: tables, columns, converters.
+   */
+  public static final String DEFINITION = "definition";
+
+  /**
+   * Phase of the source code generation, counters: tables, skipped, written, bytes.
+   */
+  public static final String GENERATION = "generation";
+
+  /**
+   * Phase of the source code compilation, counters: sources, javacTime.
+   */
+  public static final String COMPILATION = "compilation";
+
+  /**
+   * Opens new session of metrics.
+   *
+   * @param session identifier of the session
+   * @return metrics of the session
+   */
+  public static CodegenMetrics open(String session) {
+    CodegenMetrics metrics = new CodegenMetrics();
+    SESSIONS.put(session, metrics);
+    return metrics;
+  }
+
+  /**
+   * Returns metrics of the opened session.
+   *
+   * @param session identifier of the session
+   * @return metrics of the session or empty container
+   */
+  public static Optional<CodegenMetrics> find(String session) {
+    return Optional.ofNullable(session).map(SESSIONS::get);
+  }
+
+  /**
+   * Closes the session and releases its metrics.
+   *
+   * @param session identifier of the session
+   */
+  public static void close(String session) {
+    SESSIONS.remove(session);
+  }
+
+  /**
+   * Returns metrics of the phase, metrics are created on first access.
+   *
+   * @param name name of the phase
+   * @return metrics of the phase
+   */
+  public PhaseMetrics getPhase(String name) {
+    synchronized (phases) {
+      return phases.computeIfAbsent(name, PhaseMetrics::new);
+    }
+  }
+
+  /**
+   * Returns metrics of the phases in order of first access.
+   *
+   * @return metrics of the phases
+   */
+  public List<PhaseMetrics> getPhases() {
+    synchronized (phases) {
+      return new ArrayList<>(phases.values());
+    }
+  }
+
+  /**
+   * Returns metrics in JSON format.
+   *
+   * @return metrics in JSON format
+   */
+  public String toJson() {
+    List<String> values = new ArrayList<>();
+    for (PhaseMetrics phase : getPhases()) {
+      List<String> counters = new ArrayList<>();
+      phase.getCounters().forEach(
+          (counter, value) -> counters.add(toJson(counter) + ":" + value)
+      );
+      values.add(String.join(
+          "",
+          "{\"name\":", toJson(phase.getName()),
+          ",\"time\":", Long.toString(phase.getTime()),
+          ",\"allocated\":", Long.toString(phase.getAllocated()),
+          ",\"counters\":{", String.join(JSON_SEPARATOR, counters), "}}"
+      ));
+    }
+    return "{\"phases\":[" + String.join(JSON_SEPARATOR, values) + "]}";
+  }
+
+  // Returns JSON string, names of the phases and counters are escaped
+  private static String toJson(String value) {
+    return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+}
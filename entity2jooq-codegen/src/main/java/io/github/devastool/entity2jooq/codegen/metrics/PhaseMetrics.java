@@ -0,0 +1,204 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Metrics of the phase of the generation: wall time, allocated bytes and counters of the phase.
+ * Allocation is measured by threads, tasks of the phase on other threads are tracked separately.
+ * Nested measurements on the same thread are not counted twice, so measurements of different
+ * phases should not be nested.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+public class PhaseMetrics {
+  private final String name;
+  private final LongAdder time = new LongAdder();
+  private final LongAdder allocated = new LongAdder();
+  private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+  private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+  private static final long UNSUPPORTED = -1;
+
+  /**
+   * Constructs new instance of {@link PhaseMetrics}.
+   *
+   * @param name name of the phase
+   */
+  public PhaseMetrics(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Returns name of the phase.
+   *
+   * @return name of the phase
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Starts measurement of wall time and allocation of the current thread.
+   *
+   * @return measurement, it is stopped by closing
+   */
+  public Measurement start() {
+    return new Measurement(true);
+  }
+
+  /**
+   * Starts measurement of allocation of the task, time of the task is a part of the phase time.
+   *
+   * @return measurement, it is stopped by closing
+   */
+  public Measurement track() {
+    return new Measurement(false);
+  }
+
+  /**
+   * Wraps the function of the task, allocation of each call is tracked.
+   *
+   * @param function function of the task
+   * @param <T>      type of the argument
+   * @param <R>      type of the result
+   * @return tracked function
+   */
+  public <T, R> Function<T, R> track(Function<T, R> function) {
+    return value -> {
+      try (Measurement ignored = track()) {
+        return function.apply(value);
+      }
+    };
+  }
+
+  /**
+   * Adds value to the counter.
+   *
+   * @param counter name of the counter
+   * @param value   value for adding
+   */
+  public void add(String counter, long value) {
+    counters.computeIfAbsent(counter, key -> new LongAdder()).add(value);
+  }
+
+  /**
+   * Returns value of the counter.
+   *
+   * @param counter name of the counter
+   * @return value of the counter, 0 when the counter is absent
+   */
+  public long get(String counter) {
+    LongAdder value = counters.get(counter);
+    return value == null ? 0 : value.sum();
+  }
+
+  /**
+   * Returns values of the counters, sorted by names.
+   *
+   * @return values of the counters
+   */
+  public Map<String, Long> getCounters() {
+    Map<String, Long> values = new TreeMap<>();
+    counters.forEach((counter, value) -> values.put(counter, value.sum()));
+    return values;
+  }
+
+  /**
+   * Returns wall time of the phase.
+   *
+   * @return wall time in nanoseconds
+   */
+  public long getTime() {
+    return time.sum();
+  }
+
+  /**
+   * Returns allocated bytes of the phase, allocation is not measured when JVM does not support it.
+   *
+   * @return allocated bytes
+   */
+  public long getAllocated() {
+    return allocated.sum();
+  }
+
+  // Returns allocated bytes of the current thread or -1 when measurement is not supported
+  private static long getThreadAllocated() {
+    if (THREADS instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+      if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+    return UNSUPPORTED;
+  }
+
+  /**
+   * Measurement of the phase, it is started on creation and stopped by closing on the same thread.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0.0
+   */
+  public class Measurement implements AutoCloseable {
+    private final boolean wall;
+    private final boolean outer;
+    private final long startTime;
+    private final long startAllocated;
+    private boolean closed;
+
+    /**
+     * Constructs new instance of {@link Measurement}.
+     *
+     * @param wall enable/disable flag of wall time measurement
+     */
+    private Measurement(boolean wall) {
+      int[] depth = DEPTH.get();
+      this.wall = wall;
+      this.outer = depth[0]++ == 0;
+      this.startTime = System.nanoTime();
+      this.startAllocated = outer ? getThreadAllocated() : UNSUPPORTED;
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        DEPTH.get()[0]--;
+        if (wall) {
+          time.add(System.nanoTime() - startTime);
+        }
+
+        // Allocation of the nested measurement is a part of the outer measurement
+        if (outer && startAllocated != UNSUPPORTED) {
+          long current = getThreadAllocated();
+          if (current != UNSUPPORTED) {
+            allocated.add(current - startAllocated);
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the table definition building, it is committed for each built table.
+ * Duration of the event is time of the building of the schema, columns and types of the table.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+@Name("io.github.devastool.entity2jooq.TableBuild")
+@Label("Table Build")
+@Category({"entity2jooq", "Codegen"})
+@Description("Building of the table definition by the entity")
+@StackTrace(false)
+public class TableBuildEvent extends Event {
+  @Label("Entity")
+  private Class<?> entity;
+
+  @Label("Table")
+  private String table;
+
+  @Label("Columns")
+  private int columns;
+
+  @Label("Converters")
+  private int converters;
+
+  /**
+   * Sets class of the entity.
+   *
+   * @param entity class of the entity
+   */
+  public void setEntity(Class<?> entity) {
+    this.entity = entity;
+  }
+
+  /**
+   * Sets qualified name of the table.
+   *
+   * @param table qualified name of the table
+   */
+  public void setTable(String table) {
+    this.table = table;
+  }
+
+  /**
+   * Sets count of the columns of the table.
+   *
+   * @param columns count of the columns
+   */
+  public void setColumns(int columns) {
+    this.columns = columns;
+  }
+
+  /**
+   * Sets count of the columns with converters.
+   *
+   * @param converters count of the columns with converters
+   */
+  public void setConverters(int converters) {
+    this.converters = converters;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the table source code generation, it is committed for each table of
+ * the schema. Duration of the event is time of the generation and writing of the table class.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+@Name("io.github.devastool.entity2jooq.TableGenerate")
+@Label("Table Generate")
+@Category({"entity2jooq", "Codegen"})
+@Description("Generation of the source code of the table class")
+@StackTrace(false)
+public class TableGenerateEvent extends Event {
+  @Label("Table")
+  private String table;
+
+  @Label("Skipped")
+  @Description("The table is not changed, its source code is not generated again")
+  private boolean skipped;
+
+  @Label("Size")
+  @DataAmount
+  private long size;
+
+  /**
+   * Sets qualified name of the table.
+   *
+   * @param table qualified name of the table
+   */
+  public void setTable(String table) {
+    this.table = table;
+  }
+
+  /**
+   * Sets skipping flag of the table.
+   *
+   * @param skipped true - unchanged table is skipped, false - table is generated
+   */
+  public void setSkipped(boolean skipped) {
+    this.skipped = skipped;
+  }
+
+  /**
+   * Sets size of the source code of the table.
+   *
+   * @param size size of the source code in bytes
+   */
+  public void setSize(long size) {
+    this.size = size;
+  }
+}
@@ -18,6 +18,8 @@ package io.github.devastool.entity2jooq.codegen.properties;
 
 import io.github.devastool.entity2jooq.codegen.definition.EntitySchemaDefinition;
 import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.generate.GeneratedSources;
+import io.github.devastool.entity2jooq.codegen.metrics.CodegenMetrics;
 import org.jooq.meta.Database;
 
 /**
@@ -49,6 +51,64 @@ public class CodegenProperty<T> {
   public static final CodegenProperty<String> TEST_CLASSES =
       new CodegenProperty<>("testClasses", String.class);
 
+  /**
+   * Property of the scan index file, unchanged class files are not scanned again.
+   */
+  public static final CodegenProperty<String> SCAN_INDEX =
+      new CodegenProperty<>("scanIndex", String.class);
+
+  /**
+   * Property of the generate index file, unchanged tables are not generated again.
+   */
+  public static final CodegenProperty<String> GENERATE_INDEX =
+      new CodegenProperty<>("generateIndex", String.class);
+
+  /**
+   * Property of the session identifier of {@link GeneratedSources}, generated source code is
+   * passed to the session.
+   */
+  public static final CodegenProperty<String> GENERATED_SOURCES =
+      new CodegenProperty<>("generatedSources", String.class);
+
+  /**
+   * Property of the session identifier of {@link CodegenMetrics}, metrics of the generation phases
+   * are passed to the session.
+   */
+  public static final CodegenProperty<String> METRICS =
+      new CodegenProperty<>("metrics", String.class);
+
+  /**
+   * Property of enable/disable flag of writing generated source code to files.
+   */
+  public static final CodegenProperty<String> WRITE_SOURCES =
+      new CodegenProperty<>("writeSources", String.class);
+
+  /**
+   * Property of parallelism of the generation, value 1 gives serial generation.
+   */
+  public static final CodegenProperty<String> PARALLELISM =
+      new CodegenProperty<>("parallelism", String.class);
+
+  /**
+   * Property of null embedded objects, embedded object is not created when all its columns are
+   * null.
+   */
+  public static final CodegenProperty<String> NULL_EMBEDDED =
+      new CodegenProperty<>("nullEmbedded", String.class);
+
+  /**
+   * Property of changed records, methods 'toChangedRecord' are generated for partial updates.
+   */
+  public static final CodegenProperty<String> CHANGED_RECORDS =
+      new CodegenProperty<>("changedRecords", String.class);
+
+  /**
+   * Property of mapping metrics, generated mapping methods record mapped rows and time of the
+   * mapping to {@link io.github.devastool.entity2jooq.annotation.mapping.MappingMetrics}.
+   */
+  public static final CodegenProperty<String> MAPPING_METRICS =
+      new CodegenProperty<>("mappingMetrics", String.class);
+
   /**
    * Property of SQL dialect.
    */
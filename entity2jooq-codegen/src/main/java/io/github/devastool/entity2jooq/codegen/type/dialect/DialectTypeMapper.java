@@ -19,18 +19,32 @@ package io.github.devastool.entity2jooq.codegen.type.dialect;
 import io.github.devastool.entity2jooq.annotation.type.NoSuchTypeException;
 import io.github.devastool.entity2jooq.annotation.type.TypeMapper;
 import io.github.devastool.entity2jooq.codegen.type.TypePair;
-import java.util.Objects;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
- * Implementation of {@link TypeMapper} for mapping type of concrete SQL dialect.
+ * Implementation of {@link TypeMapper} for mapping type of concrete SQL dialect. Types are
+ * resolved by the lookup table, subtypes are resolved by the nearest mapped superclass or
+ * interface, for example enums are resolved by {@link Enum}. Resolved types are cached.
  *
  * @author Andrey_Yurzanov
  * @since 1.0.0
  */
 public abstract class DialectTypeMapper implements TypeMapper {
   private final String dialect;
-  private final Set<TypePair> types;
+  private final Map<Class<?>, String> types;
+  private final ClassValue<Optional<String>> resolved = new ClassValue<>() {
+    @Override
+    protected Optional<String> computeValue(Class<?> type) {
+      return Optional.ofNullable(resolve(type));
+    }
+  };
 
   /**
    * Constructs new instance of {@link DialectTypeMapper}.
@@ -40,24 +54,19 @@ public abstract class DialectTypeMapper implements TypeMapper {
    */
   public DialectTypeMapper(String dialect, Set<TypePair> types) {
     this.dialect = dialect;
-    this.types = types;
+
+    Map<Class<?>, String> lookup = new HashMap<>();
+    for (TypePair pair : types) {
+      lookup.putIfAbsent(pair.getType(), pair.getSqlType());
+    }
+    this.types = Collections.unmodifiableMap(lookup);
   }
 
   @Override
   public String getSqlType(String dialect, Class<?> type) throws NoSuchTypeException {
-    Class<?> targetType;
-    if (Enum.class.isAssignableFrom(type)) {
-      targetType = Enum.class;
-    } else {
-      targetType = type;
-    }
-
-    return types
-        .stream()
-        .filter(data -> Objects.equals(data.getType(), targetType))
-        .findFirst()
-        .orElseThrow(() -> new NoSuchTypeException(dialect, targetType))
-        .getSqlType();
+    return resolved
+        .get(type)
+        .orElseThrow(() -> new NoSuchTypeException(dialect, type));
   }
 
   /**
@@ -68,4 +77,27 @@ public abstract class DialectTypeMapper implements TypeMapper {
   public String getDialect() {
     return dialect;
   }
-}
\ No newline at end of file
+
+  // Resolves SQL type by the type or its nearest superclass or interface (breadth-first)
+  private String resolve(Class<?> type) {
+    Set<Class<?>> visited = new HashSet<>();
+    Deque<Class<?>> queue = new ArrayDeque<>();
+    queue.add(type);
+    while (!queue.isEmpty()) {
+      Class<?> current = queue.poll();
+      if (visited.add(current)) {
+        String sqlType = types.get(current);
+        if (sqlType != null) {
+          return sqlType;
+        }
+
+        Class<?> superclass = current.getSuperclass();
+        if (superclass != null) {
+          queue.add(superclass);
+        }
+        Collections.addAll(queue, current.getInterfaces());
+      }
+    }
+    return null;
+  }
+}
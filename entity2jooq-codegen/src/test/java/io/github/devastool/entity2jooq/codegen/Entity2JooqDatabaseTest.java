@@ -19,13 +19,21 @@ package io.github.devastool.entity2jooq.codegen;
 import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.CLASSES;
 import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.CLASSPATH;
 import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.DIALECT;
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.METRICS;
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.PARALLELISM;
 import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.TEST_CLASSES;
 
+import io.github.devastool.entity2jooq.codegen.metrics.CodegenMetrics;
+import io.github.devastool.entity2jooq.codegen.metrics.PhaseMetrics;
 import java.nio.file.Paths;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Properties;
+import java.util.stream.Collectors;
 import org.jooq.SQLDialect;
 import org.jooq.meta.DefaultRelations;
+import org.jooq.meta.Definition;
+import org.jooq.meta.TableDefinition;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -35,6 +43,7 @@ import org.junit.jupiter.api.Test;
  * @author Evgeniy_Gerasimov
  */
 class Entity2JooqDatabaseTest {
+  private static final String SESSION = "database-test";
   private final String classes = Paths.get("").toAbsolutePath() + "/target/test-classes";
   private final Entity2JooqDatabase db = new Entity2JooqDatabase();
 
@@ -133,4 +142,51 @@ class Entity2JooqDatabaseTest {
     Assertions.assertDoesNotThrow(db::getTables0);
     Assertions.assertDoesNotThrow(db::getTables0);
   }
-}
\ No newline at end of file
+
+  @Test
+  void getTables0ParallelTest() throws SQLException {
+    Assertions.assertEquals(getTableNames("1"), getTableNames("4"));
+  }
+
+  @Test
+  void getTables0MetricsTest() throws SQLException {
+    var properties = new Properties();
+    properties.put(CLASSPATH.getName(), "testClassPath");
+    properties.put(CLASSES.getName(), classes);
+    properties.put(TEST_CLASSES.getName(), "testClasses");
+    properties.put(DIALECT.getName(), SQLDialect.POSTGRES.getName());
+    properties.put(METRICS.getName(), SESSION);
+    db.setProperties(properties);
+
+    PhaseMetrics definition = CodegenMetrics.open(SESSION).getPhase(CodegenMetrics.DEFINITION);
+    try {
+      db.getSchemata0();
+      List<TableDefinition> tables = db.getTables0();
+      Assertions.assertEquals(tables, db.getTables0());
+
+      int columns = tables.stream().mapToInt(table -> table.getColumns().size()).sum();
+      Assertions.assertEquals(tables.size(), definition.get("tables"));
+      Assertions.assertEquals(columns, definition.get("columns"));
+    } finally {
+      CodegenMetrics.close(SESSION);
+    }
+  }
+
+  // Returns names of the tables built with the parallelism
+  private List<String> getTableNames(String parallelism) throws SQLException {
+    var properties = new Properties();
+    properties.put(CLASSPATH.getName(), "testClassPath");
+    properties.put(CLASSES.getName(), classes);
+    properties.put(TEST_CLASSES.getName(), "testClasses");
+    properties.put(DIALECT.getName(), SQLDialect.POSTGRES.getName());
+    properties.put(PARALLELISM.getName(), parallelism);
+
+    Entity2JooqDatabase database = new Entity2JooqDatabase();
+    database.setProperties(properties);
+    return database
+        .getTables0()
+        .stream()
+        .map(Definition::getQualifiedName)
+        .collect(Collectors.toList());
+  }
+}
@@ -20,13 +20,38 @@ import io.github.devastool.entity2jooq.codegen.definition.EntitySchemaDefinition
 import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
 import io.github.devastool.entity2jooq.codegen.definition.type.EntityDataTypeDefinition;
 import io.github.devastool.entity2jooq.codegen.generate.code.BufferedCodeTarget;
+import io.github.devastool.entity2jooq.codegen.model.TestEmbeddable;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityConverter;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityImmutable;
+import io.github.devastool.entity2jooq.codegen.properties.CodegenProperty;
 import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.jooq.Record;
 import org.jooq.SQLDialect;
+import org.jooq.codegen.GenerationTool;
 import org.jooq.codegen.GeneratorStrategy.Mode;
 import org.jooq.codegen.JavaWriter;
 import org.jooq.meta.AbstractTableDefinition;
 import org.jooq.meta.DefaultDataTypeDefinition;
+import org.jooq.meta.jaxb.Configuration;
+import org.jooq.meta.jaxb.Database;
+import org.jooq.meta.jaxb.Generator;
+import org.jooq.meta.jaxb.Logging;
+import org.jooq.meta.jaxb.Property;
+import org.jooq.meta.jaxb.Target;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -40,6 +65,13 @@ class Entity2JooqJavaGeneratorTest {
   private final Entity2JooqJavaGenerator generator = new Entity2JooqJavaGenerator();
 
   private static final String FILE_NAME = "Test.java";
+  private static final String CLASS_FILE_EXT = ".class";
+  private static final String SOURCE_FILE_EXT = ".java";
+  private static final String IMMUTABLE_TABLE_FIELD = "TEST_ENTITY_IMMUTABLE";
+  private static final Path TEST_CLASSES = Paths
+      .get("")
+      .toAbsolutePath()
+      .resolve("target/test-classes");
 
   @Test
   void generateRecordsTest() {
@@ -91,6 +123,80 @@ class Entity2JooqJavaGeneratorTest {
     );
   }
 
+  @Test
+  void getSignatureDialectTest(@TempDir Path directory) throws Exception {
+    Path classes = copyEntity(directory, TestEntityConverter.class);
+    SignatureGenerator.SIGNATURES.clear();
+    GenerationTool.generate(getConfiguration(classes, directory, SQLDialect.MYSQL));
+    GenerationTool.generate(getConfiguration(classes, directory, SQLDialect.MYSQL));
+    GenerationTool.generate(getConfiguration(classes, directory, SQLDialect.MARIADB));
+
+    List<String> signatures = SignatureGenerator.SIGNATURES;
+    Assertions.assertEquals(3, signatures.size());
+    Assertions.assertEquals(signatures.get(0), signatures.get(1));
+    Assertions.assertNotEquals(signatures.get(1), signatures.get(2));
+  }
+
+  @Test
+  void generateImmutableEntityTest(@TempDir Path directory) throws Exception {
+    Path classes = copyEntity(directory, TestEntityImmutable.class);
+    GenerationTool.generate(getConfiguration(classes, directory, SQLDialect.POSTGRES));
+
+    Path generated = directory.resolve("generated");
+    Path compiled = directory.resolve("compiled");
+    List<String> args = new ArrayList<>(List.of(
+        "-classpath",
+        System.getProperty("java.class.path"),
+        "-d",
+        compiled.toString()
+    ));
+    List<Path> sources;
+    try (Stream<Path> files = Files.walk(generated)) {
+      sources = files
+          .filter(file -> file.toString().endsWith(SOURCE_FILE_EXT))
+          .collect(Collectors.toList());
+    }
+    sources.forEach(file -> args.add(file.toString()));
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    Assertions.assertEquals(0, compiler.run(null, null, null, args.toArray(new String[]{})));
+
+    try (URLClassLoader loader = new URLClassLoader(
+        new URL[]{compiled.toUri().toURL()},
+        getClass().getClassLoader()
+    )) {
+      Path source = sources
+          .stream()
+          .filter(file -> file.endsWith(Paths.get("tables", "TestEntityImmutable.java")))
+          .findFirst()
+          .orElseThrow();
+      String tableName = generated.relativize(source).toString();
+      Class<?> tableType = loader.loadClass(
+          tableName
+              .substring(0, tableName.length() - SOURCE_FILE_EXT.length())
+              .replace(File.separatorChar, '.')
+      );
+      Object table = tableType.getField(IMMUTABLE_TABLE_FIELD).get(null);
+      Method toRecord = tableType.getMethod("toRecord", TestEntityImmutable.class);
+      Method toEntity = tableType.getMethod("toEntity", Record.class);
+
+      TestEmbeddable embeddable = new TestEmbeddable();
+      embeddable.setIntField(2);
+      embeddable.setStringField("embedded");
+      TestEntityImmutable entity = new TestEntityImmutable(1L, "immutable", embeddable);
+      TestEntityImmutable mapped = (TestEntityImmutable) toEntity.invoke(
+          table,
+          toRecord.invoke(table, entity)
+      );
+      Assertions.assertEquals(entity.getId(), mapped.getId());
+      Assertions.assertEquals(entity.getName(), mapped.getName());
+      Assertions.assertEquals(embeddable.getIntField(), mapped.getEmbeddable().getIntField());
+      Assertions.assertEquals(
+          embeddable.getStringField(),
+          mapped.getEmbeddable().getStringField()
+      );
+    }
+  }
+
   @Test
   void generateTableClassFooterTest(@TempDir File root) {
     EntityTableDefinition table = new EntityTableDefinition(
@@ -138,4 +244,63 @@ class Entity2JooqJavaGeneratorTest {
 
     Assertions.assertTrue(target.getBuffer().isEmpty());
   }
-}
\ No newline at end of file
+
+  // Copies class of the entity to the classes directory, other entities of the tests are not
+  // generated
+  private static Path copyEntity(Path directory, Class<?> entity) throws IOException {
+    String name = entity.getName().replace('.', '/') + CLASS_FILE_EXT;
+    Path classes = directory.resolve("classes");
+    Files.createDirectories(classes.resolve(name).getParent());
+    Files.copy(TEST_CLASSES.resolve(name), classes.resolve(name));
+    return classes;
+  }
+
+  // Returns configuration of the generation with the index and the dialect
+  private static Configuration getConfiguration(Path classes, Path root, SQLDialect dialect) {
+    Database database = new Database();
+    database.setName(Entity2JooqDatabase.class.getCanonicalName());
+    database.setProperties(List.of(
+        getProperty(CodegenProperty.CLASSES, classes),
+        getProperty(CodegenProperty.TEST_CLASSES, root.resolve("test-classes")),
+        getProperty(CodegenProperty.CLASSPATH, classes),
+        getProperty(CodegenProperty.DIALECT, dialect.getName()),
+        getProperty(CodegenProperty.GENERATE_INDEX, root.resolve("generate-index"))
+    ));
+
+    Target target = new Target();
+    target.setDirectory(root.resolve("generated").toString());
+    target.setPackageName("test.generated");
+
+    Generator generator = new Generator();
+    generator.setName(SignatureGenerator.class.getName());
+    generator.setDatabase(database);
+    generator.setTarget(target);
+
+    Configuration configuration = new Configuration();
+    configuration.setLogging(Logging.WARN);
+    configuration.setGenerator(generator);
+    return configuration;
+  }
+
+  // Returns property of the database by the property of the generation
+  private static Property getProperty(CodegenProperty<?> key, Object value) {
+    Property property = new Property();
+    property.setKey(key.getName());
+    property.setValue(value.toString());
+    return property;
+  }
+
+  /**
+   * Generator which keeps signatures of the generations.
+   */
+  public static class SignatureGenerator extends Entity2JooqJavaGenerator {
+    private static final List<String> SIGNATURES = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected String getSignature() {
+      String signature = super.getSignature();
+      SIGNATURES.add(signature);
+      return signature;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ParallelTasks}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class ParallelTasksTest {
+  private static final int COUNT = 1000;
+  private static final int PARALLELISM = 4;
+
+  @Test
+  void mapTest() {
+    List<Integer> elements = IntStream.range(0, COUNT).boxed().collect(Collectors.toList());
+    Assertions.assertEquals(
+        ParallelTasks.map(elements, String::valueOf, 1),
+        ParallelTasks.map(elements, String::valueOf, PARALLELISM)
+    );
+  }
+
+  @Test
+  void mapFailureTest() {
+    List<Integer> elements = List.of(1, 2, 3);
+    Assertions.assertThrows(IllegalStateException.class, () -> ParallelTasks.map(
+        elements,
+        value -> {
+          throw new IllegalStateException();
+        },
+        PARALLELISM
+    ));
+  }
+}
@@ -17,6 +17,9 @@
 package io.github.devastool.entity2jooq.codegen.definition.factory;
 
 import io.github.devastool.entity2jooq.annotation.naming.SnakeCaseStrategy;
+import io.github.devastool.entity2jooq.annotation.type.converter.EnumConverter;
+import io.github.devastool.entity2jooq.codegen.model.TestEnum;
+import java.time.DayOfWeek;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -53,4 +56,24 @@ class FactoryContextTest {
         IllegalArgumentException.class, () -> factoryContext.getInstance(null)
     );
   }
-}
\ No newline at end of file
+
+  @Test
+  void getInstanceByArgsTest() {
+    var type = EnumConverter.class;
+    var testEnum = factoryContext.getInstance(type, TestEnum.class);
+    var dayOfWeek = factoryContext.getInstance(type, DayOfWeek.class);
+
+    Assertions.assertEquals(TestEnum.class, testEnum.toType());
+    Assertions.assertEquals(DayOfWeek.class, dayOfWeek.toType());
+    Assertions.assertSame(testEnum, factoryContext.getInstance(type, TestEnum.class));
+  }
+
+  @Test
+  void clearTest() {
+    var type = SnakeCaseStrategy.class;
+    var instance = factoryContext.getInstance(type);
+
+    factoryContext.clear();
+    Assertions.assertNotSame(instance, factoryContext.getInstance(type));
+  }
+}
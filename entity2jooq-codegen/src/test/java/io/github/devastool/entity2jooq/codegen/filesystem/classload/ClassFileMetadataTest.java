@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.filesystem.classload;
+
+import io.github.devastool.entity2jooq.annotation.Table;
+import io.github.devastool.entity2jooq.codegen.model.TestEntity;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityEnabledInheritance;
+import io.github.devastool.entity2jooq.codegen.model.TestEnum;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ClassFileMetadata}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class ClassFileMetadataTest {
+  @Test
+  void readAnnotatedTest() throws IOException {
+    ClassFileMetadata metadata = ClassFileMetadata.read(getClassData(TestEntity.class));
+
+    Assertions.assertEquals(TestEntity.class.getName(), metadata.getClassName());
+    Assertions.assertEquals(Object.class.getName(), metadata.getSuperClassName());
+    Assertions.assertTrue(metadata.isAnnotated(Table.class));
+  }
+
+  @Test
+  void readInheritedTest() throws IOException {
+    ClassFileMetadata metadata = ClassFileMetadata.read(
+        getClassData(TestEntityEnabledInheritance.class)
+    );
+
+    Assertions.assertEquals(TestEntity.class.getName(), metadata.getSuperClassName());
+    Assertions.assertTrue(metadata.isAnnotated(Table.class));
+  }
+
+  @Test
+  void readNotAnnotatedTest() throws IOException {
+    ClassFileMetadata metadata = ClassFileMetadata.read(getClassData(TestEnum.class));
+
+    Assertions.assertEquals(Enum.class.getName(), metadata.getSuperClassName());
+    Assertions.assertFalse(metadata.isAnnotated(Table.class));
+  }
+
+  @Test
+  void readFailureTest() {
+    Assertions.assertThrows(RuntimeException.class, () -> ClassFileMetadata.read(new byte[]{1}));
+  }
+
+  // Returns data of the class from the classpath
+  private static byte[] getClassData(Class<?> type) throws IOException {
+    String resource = type.getSimpleName() + ".class";
+    try (InputStream input = type.getResourceAsStream(resource)) {
+      return input.readAllBytes();
+    }
+  }
+}
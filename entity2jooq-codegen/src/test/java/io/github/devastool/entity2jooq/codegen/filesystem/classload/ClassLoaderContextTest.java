@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.filesystem.classload;
+
+import io.github.devastool.entity2jooq.annotation.Table;
+import io.github.devastool.entity2jooq.codegen.model.TestEntity;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ClassLoaderContext}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class ClassLoaderContextTest {
+  private final Path classes = Paths.get("").toAbsolutePath().resolve("target/test-classes");
+
+  @Test
+  void addRootsTest() {
+    ClassLoaderContext context = new ClassLoaderContext(4);
+    context.addRoots(List.of(classes, Paths.get("notExists")));
+
+    ClassFile classFile = context.getClassFile(TestEntity.class.getName()).orElseThrow();
+    Assertions.assertTrue(classFile.getMetadata().isAnnotated(Table.class));
+  }
+
+  @Test
+  void addRootsOrderTest() {
+    ClassLoaderContext parallel = new ClassLoaderContext(4);
+    parallel.addRoots(List.of(classes));
+
+    ClassLoaderContext serial = new ClassLoaderContext(1);
+    serial.addRoot(classes);
+
+    Assertions.assertEquals(getClassNames(serial), getClassNames(parallel));
+  }
+
+  // Returns names of the classes in order of iteration
+  private static List<String> getClassNames(ClassLoaderContext context) {
+    List<String> names = new ArrayList<>();
+    for (ClassFile classFile : context) {
+      names.add(classFile.getCanonicalClassName());
+    }
+    return names;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.filesystem.classload;
+
+import io.github.devastool.entity2jooq.annotation.Table;
+import io.github.devastool.entity2jooq.codegen.model.TestEntity;
+import io.github.devastool.entity2jooq.codegen.model.TestEnum;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of {@link ClassScanIndex}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class ClassScanIndexTest {
+  private static final String INDEX_FILE = "index/scan-index";
+  private static final String CLASS_FILE = "TestEntity.class";
+
+  @Test
+  void saveAndLoadTest(@TempDir File root) throws IOException {
+    Path classPath = copyClass(root, TestEntity.class);
+    Path indexPath = root.toPath().resolve(INDEX_FILE);
+
+    ClassScanIndex index = ClassScanIndex.load(indexPath);
+    ClassFileMetadata metadata = index.resolve(new ClassFile(root.toPath(), classPath));
+    Assertions.assertTrue(metadata.isAnnotated(Table.class));
+    index.save();
+
+    // Content is replaced, but size and modification time are the same
+    FileTime modified = Files.getLastModifiedTime(classPath);
+    Files.write(classPath, new byte[(int) Files.size(classPath)]);
+    Files.setLastModifiedTime(classPath, modified);
+
+    ClassScanIndex loaded = ClassScanIndex.load(indexPath);
+    ClassFileMetadata indexed = loaded.resolve(new ClassFile(root.toPath(), classPath));
+    Assertions.assertEquals(metadata.getClassName(), indexed.getClassName());
+    Assertions.assertEquals(metadata.getSuperClassName(), indexed.getSuperClassName());
+    Assertions.assertEquals(metadata.getAnnotations(), indexed.getAnnotations());
+  }
+
+  @Test
+  void resolveChangedTest(@TempDir File root) throws IOException {
+    Path classPath = copyClass(root, TestEntity.class);
+    Path indexPath = root.toPath().resolve(INDEX_FILE);
+
+    ClassScanIndex index = ClassScanIndex.load(indexPath);
+    index.resolve(new ClassFile(root.toPath(), classPath));
+    index.save();
+
+    try (InputStream input = TestEnum.class.getResourceAsStream("TestEnum.class")) {
+      Files.write(classPath, input.readAllBytes());
+    }
+    Files.setLastModifiedTime(classPath, FileTime.fromMillis(0));
+
+    ClassScanIndex loaded = ClassScanIndex.load(indexPath);
+    ClassFileMetadata metadata = loaded.resolve(new ClassFile(root.toPath(), classPath));
+    Assertions.assertEquals(TestEnum.class.getName(), metadata.getClassName());
+    Assertions.assertFalse(metadata.isAnnotated(Table.class));
+  }
+
+  @Test
+  void loadIncorrectTest(@TempDir File root) throws IOException {
+    Path indexPath = root.toPath().resolve(INDEX_FILE);
+    Files.createDirectories(indexPath.getParent());
+    Files.writeString(indexPath, "incorrect");
+
+    Path classPath = copyClass(root, TestEntity.class);
+    ClassScanIndex index = ClassScanIndex.load(indexPath);
+    ClassFileMetadata metadata = index.resolve(new ClassFile(root.toPath(), classPath));
+    Assertions.assertTrue(metadata.isAnnotated(Table.class));
+  }
+
+  // Copies class file to the directory
+  private static Path copyClass(File root, Class<?> type) throws IOException {
+    Path classPath = root.toPath().resolve(CLASS_FILE);
+    try (InputStream input = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+      Files.write(classPath, input.readAllBytes());
+    }
+    return classPath;
+  }
+}
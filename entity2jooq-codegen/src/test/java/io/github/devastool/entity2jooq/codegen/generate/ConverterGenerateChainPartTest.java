@@ -43,7 +43,7 @@ class ConverterGenerateChainPartTest extends CommonFactoryTest {
   );
   private static final String GENERICS_EXPECTED = String.join(
       "",
-      "    public final io.github.devastool.entity2jooq.annotation.type.converter.EnumConverter<io.github.devastool.entity2jooq.codegen.model.TestEnum> TEST_ENUM_ENUM_CONVERTER = new io.github.devastool.entity2jooq.annotation.type.converter.EnumConverter<io.github.devastool.entity2jooq.codegen.model.TestEnum>(io.github.devastool.entity2jooq.codegen.model.TestEnum.class);",
+      "    public final io.github.devastool.entity2jooq.annotation.type.converter.EnumConverter<io.github.devastool.entity2jooq.codegen.model.TestEnum> TEST_ENUM_ENUM_CONVERTER = io.github.devastool.entity2jooq.annotation.type.converter.EnumConverter.of(io.github.devastool.entity2jooq.codegen.model.TestEnum.class);",
       System.lineSeparator()
   );
 
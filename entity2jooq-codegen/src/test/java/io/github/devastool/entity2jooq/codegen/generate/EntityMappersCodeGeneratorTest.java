@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.codegen.generate.code.BufferedCodeTarget;
+import io.github.devastool.entity2jooq.codegen.generate.code.IndentCodeTarget;
+import io.github.devastool.entity2jooq.codegen.model.TestEntity;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link EntityMappersCodeGenerator}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class EntityMappersCodeGeneratorTest {
+  private static final String CLASS_NAME = "EntityMappers";
+  private static final String TABLE_REFERENCE = "org.jooq.generated.tables.TestEntity.TEST_ENTITY";
+  private static final String EXPECTED = String.join(
+      "",
+      "public class EntityMappers extends io.github.devastool.entity2jooq.annotation.mapping.EntityMapperProvider {",
+      System.lineSeparator(),
+      "    public EntityMappers() {",
+      System.lineSeparator(),
+      "        this(new org.jooq.impl.DefaultConfiguration());",
+      System.lineSeparator(),
+      "    }",
+      System.lineSeparator(),
+      "    ",
+      System.lineSeparator(),
+      "    public EntityMappers(org.jooq.Configuration configuration) {",
+      System.lineSeparator(),
+      "        super(configuration);",
+      System.lineSeparator(),
+      "        register(io.github.devastool.entity2jooq.codegen.model.TestEntity.class, org.jooq.generated.tables.TestEntity.TEST_ENTITY, org.jooq.generated.tables.TestEntity.TEST_ENTITY::toEntity, org.jooq.generated.tables.TestEntity.TEST_ENTITY::toRecord);",
+      System.lineSeparator(),
+      "    }",
+      System.lineSeparator(),
+      "}",
+      System.lineSeparator()
+  );
+
+  @Test
+  void generateTest() {
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    new EntityMappersCodeGenerator(CLASS_NAME, Map.of(TestEntity.class, TABLE_REFERENCE))
+        .generate(new IndentCodeTarget(target, IndentCodeTarget.DEFAULT_INDENT, 0));
+
+    Assertions.assertEquals(EXPECTED, target.getBuffer());
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.codegen.definition.factory.CommonFactoryTest;
+import io.github.devastool.entity2jooq.codegen.definition.factory.EntityTableDefinitionFactory;
+import io.github.devastool.entity2jooq.codegen.generate.code.BufferedCodeTarget;
+import io.github.devastool.entity2jooq.codegen.generate.code.IndentCodeTarget;
+import io.github.devastool.entity2jooq.codegen.model.TestEntity;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityAccess;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityHandleClash;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link FieldHandleGenerateChainPart}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class FieldHandleGenerateChainPartTest extends CommonFactoryTest {
+  private static final String EXPECTED = String.join(
+      "",
+      "    private static final java.lang.invoke.VarHandle TEST_ENTITY_ACCESS_EMBEDDABLE_HANDLE = io.github.devastool.entity2jooq.annotation.access.FieldHandles.find(io.github.devastool.entity2jooq.codegen.model.TestEntityAccess.class, \"embeddable\", io.github.devastool.entity2jooq.codegen.model.TestEmbeddable.class);",
+      System.lineSeparator(),
+      "    private static final java.lang.invoke.VarHandle TEST_ENTITY_ACCESS_PRIVATE_FIELD_HANDLE = io.github.devastool.entity2jooq.annotation.access.FieldHandles.find(io.github.devastool.entity2jooq.codegen.model.TestEntityAccess.class, \"privateField\", Long.class);",
+      System.lineSeparator()
+  );
+
+  private static final List<String> CLASH_HANDLES = List.of(
+      "TEST_ENTITY_HANDLE_CLASH_FOO_BAR_HANDLE",
+      "TEST_ENTITY_HANDLE_CLASH_FOO_BAR_HANDLE_1",
+      "ORDER_ADDRESS_HANDLE",
+      "CUSTOMER_ADDRESS_HANDLE",
+      "ADDRESS_CITY_HANDLE",
+      "ADDRESS_CITY_HANDLE_1"
+  );
+
+  @Test
+  void generateTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    new FieldHandleGenerateChainPart().generate(
+        new GenerateContext(
+            factory.build(TestEntityAccess.class, getProperties()),
+            new IndentCodeTarget(target)
+        )
+    );
+
+    Assertions.assertEquals(EXPECTED, target.getBuffer());
+  }
+
+  @Test
+  void generateWithoutHandlesTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    new FieldHandleGenerateChainPart().generate(
+        new GenerateContext(
+            factory.build(TestEntity.class, getProperties()),
+            new IndentCodeTarget(target)
+        )
+    );
+
+    Assertions.assertEquals("", target.getBuffer());
+  }
+
+  @Test
+  void generateHandleClashTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    GenerateContext context = new GenerateContext(
+        factory.build(TestEntityHandleClash.class, getProperties()),
+        new IndentCodeTarget(target)
+    );
+    new FieldHandleGenerateChainPart().generate(context);
+    new ToRecordGenerateChainPart().generate(context);
+
+    String code = target.getBuffer();
+    for (String name : CLASH_HANDLES) {
+      Assertions.assertTrue(code.contains("VarHandle ".concat(name).concat(" = ")), name);
+      Assertions.assertTrue(code.contains(" ".concat(name).concat(".get(")), name);
+    }
+  }
+}
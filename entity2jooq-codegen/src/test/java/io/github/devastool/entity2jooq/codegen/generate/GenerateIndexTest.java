@@ -0,0 +1,139 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.annotation.Table;
+import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.definition.factory.CommonFactoryTest;
+import io.github.devastool.entity2jooq.codegen.definition.factory.EntityTableDefinitionFactory;
+import io.github.devastool.entity2jooq.codegen.model.TestEntity;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityEnabledInheritance;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of {@link GenerateIndex}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class GenerateIndexTest extends CommonFactoryTest {
+  private static final String INDEX_FILE = "index/generate-index";
+  private static final String SIGNATURE = "signature";
+  private static final String ENTITY_NAME = "test.Entity";
+
+  @Test
+  void isChangedTest(@TempDir File root) {
+    Path file = root.toPath().resolve(INDEX_FILE);
+    EntityTableDefinitionFactory factory = getTableFactory();
+    EntityTableDefinition table = factory.build(TestEntity.class, getProperties());
+
+    GenerateIndex index = GenerateIndex.load(file);
+    Assertions.assertTrue(index.isChanged(table, SIGNATURE));
+    index.save();
+
+    GenerateIndex loaded = GenerateIndex.load(file);
+    Assertions.assertFalse(loaded.isChanged(table, SIGNATURE));
+    Assertions.assertTrue(loaded.isChanged(table, SIGNATURE + SIGNATURE));
+  }
+
+  @Test
+  void getFingerprintTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+    String entity = GenerateIndex.getFingerprint(
+        factory.build(TestEntity.class, getProperties()),
+        SIGNATURE
+    );
+
+    Assertions.assertEquals(
+        entity,
+        GenerateIndex.getFingerprint(factory.build(TestEntity.class, getProperties()), SIGNATURE)
+    );
+    Assertions.assertNotEquals(
+        entity,
+        GenerateIndex.getFingerprint(
+            factory.build(TestEntityEnabledInheritance.class, getProperties()),
+            SIGNATURE
+        )
+    );
+    Assertions.assertNotEquals(
+        entity,
+        GenerateIndex.getFingerprint(
+            factory.build(TestEntityEmbedded.class, getProperties()),
+            SIGNATURE
+        )
+    );
+  }
+
+  @Test
+  void getFingerprintAccessTest(@TempDir Path root) throws Exception {
+    String fields = "private String name; public String getName() { return name; } ";
+    String setter = "public void setName(String name) { this.name = name; } ";
+
+    try (
+        URLClassLoader withSetter = compile(root.resolve("setter"), fields + setter);
+        URLClassLoader withoutSetter = compile(root.resolve("handle"), fields)
+    ) {
+      EntityTableDefinitionFactory factory = getTableFactory();
+      Assertions.assertNotEquals(
+          GenerateIndex.getFingerprint(
+              factory.build(withSetter.loadClass(ENTITY_NAME), getProperties()),
+              SIGNATURE
+          ),
+          GenerateIndex.getFingerprint(
+              factory.build(withoutSetter.loadClass(ENTITY_NAME), getProperties()),
+              SIGNATURE
+          )
+      );
+    }
+  }
+
+  // Compiles the entity with the body and returns loader of the compiled class
+  private static URLClassLoader compile(Path directory, String body) throws Exception {
+    Path source = directory.resolve(ENTITY_NAME.replace('.', '/') + ".java");
+    Files.createDirectories(source.getParent());
+    Files.writeString(
+        source,
+        "package test; @" + Table.class.getName() + " public class Entity { " + body + "}"
+    );
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    int result = compiler.run(
+        null,
+        null,
+        null,
+        "-classpath",
+        System.getProperty("java.class.path"),
+        "-d",
+        directory.toString(),
+        source.toString()
+    );
+    Assertions.assertEquals(0, result);
+    return new URLClassLoader(
+        new URL[]{directory.toUri().toURL()},
+        GenerateIndexTest.class.getClassLoader()
+    );
+  }
+}
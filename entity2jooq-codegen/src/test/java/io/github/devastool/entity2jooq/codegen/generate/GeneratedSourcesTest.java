@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link GeneratedSources}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class GeneratedSourcesTest {
+  private static final String SESSION = "session";
+  private static final String SOURCE = "class Test {}";
+  private static final File FILE = new File("Test.java");
+
+  @Test
+  void sessionTest() {
+    GeneratedSources sources = GeneratedSources.open(SESSION);
+    Assertions.assertSame(sources, GeneratedSources.find(SESSION).orElseThrow());
+
+    sources.put(FILE, SOURCE);
+    Map<File, String> generated = sources.getSources();
+    Assertions.assertEquals(SOURCE, generated.get(FILE.getAbsoluteFile()));
+
+    Assertions.assertTrue(sources.getWritten().isEmpty());
+    sources.putWritten(FILE);
+    Assertions.assertEquals(Set.of(FILE.getAbsoluteFile()), sources.getWritten());
+
+    GeneratedSources.close(SESSION);
+    Assertions.assertTrue(GeneratedSources.find(SESSION).isEmpty());
+  }
+
+  @Test
+  void getSizeTest() {
+    GeneratedSources sources = new GeneratedSources();
+    Assertions.assertEquals(0, sources.getSize(FILE, StandardCharsets.UTF_8));
+
+    // Size is in bytes of the encoded source code, not in chars
+    String source = "class Test { String value = \"\u00e9\"; }";
+    sources.put(FILE, source);
+    Assertions.assertEquals(source.length() + 1, sources.getSize(FILE, StandardCharsets.UTF_8));
+    Assertions.assertEquals(source.length(), sources.getSize(FILE, StandardCharsets.ISO_8859_1));
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.codegen.generate.code.WriterCodeTarget;
+import java.io.File;
+import org.jooq.codegen.Files;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of {@link JavaWriterAppender}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class JavaWriterAppenderTest {
+  private static final String FILE = "Test.java";
+  private static final String ENCODING = "UTF-8";
+  private static final String SOURCE = "class Test {}";
+
+  @Test
+  void writeTest(@TempDir File root) {
+    File file = new File(root, FILE);
+    GeneratedSources sources = new GeneratedSources();
+    SourceJavaWriter out = new SourceJavaWriter(
+        file,
+        null,
+        ENCODING,
+        false,
+        new Files(),
+        sources,
+        false
+    );
+    try (WriterCodeTarget target = new WriterCodeTarget(new JavaWriterAppender(out))) {
+      target.writeln(SOURCE);
+    }
+    out.close();
+
+    Assertions.assertTrue(sources.getSources().get(file.getAbsoluteFile()).contains(SOURCE));
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import static io.github.devastool.entity2jooq.codegen.properties.CodegenProperty.MAPPING_METRICS;
+
+import io.github.devastool.entity2jooq.codegen.definition.factory.CommonFactoryTest;
+import io.github.devastool.entity2jooq.codegen.definition.factory.EntityTableDefinitionFactory;
+import io.github.devastool.entity2jooq.codegen.generate.code.BufferedCodeTarget;
+import io.github.devastool.entity2jooq.codegen.generate.code.IndentCodeTarget;
+import io.github.devastool.entity2jooq.codegen.model.TestEntity;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityConverter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link MappingMetricsGenerateChainPart}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class MappingMetricsGenerateChainPartTest extends CommonFactoryTest {
+  private static final String EXPECTED = String.join(
+      "",
+      "    private static final io.github.devastool.entity2jooq.annotation.mapping.MappingMetrics",
+      " MAPPING_METRICS = io.github.devastool.entity2jooq.annotation.mapping.MappingMetrics",
+      ".register(\"model.test_entity_converter\", 1);",
+      System.lineSeparator()
+  );
+
+  private static final String EXPECTED_TO_RECORD = String.join(
+      "",
+      "    public org.jooq.Record toRecord(io.github.devastool.entity2jooq.codegen.model.TestEntityConverter entity) {",
+      System.lineSeparator(),
+      "        long mappingStart = System.nanoTime();",
+      System.lineSeparator(),
+      "        org.jooq.Record record = TEST_ENTITY_CONVERTER.newRecord();",
+      System.lineSeparator(),
+      "        record.setValue(TEST_ENTITY_CONVERTER.INT_FIELD, entity.getIntField(), null);",
+      System.lineSeparator(),
+      "        MAPPING_METRICS.record(1, System.nanoTime() - mappingStart);",
+      System.lineSeparator(),
+      "        return record;",
+      System.lineSeparator(),
+      "    }",
+      System.lineSeparator()
+  );
+
+  @Test
+  void generateTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    GenerateContext context = new GenerateContext(
+        factory.build(TestEntityConverter.class, getProperties()),
+        new IndentCodeTarget(target)
+    );
+    context.setVariable(MAPPING_METRICS, true);
+    new MappingMetricsGenerateChainPart().generate(context);
+    Assertions.assertEquals(EXPECTED, target.getBuffer());
+
+    BufferedCodeTarget methods = new BufferedCodeTarget();
+    context = new GenerateContext(
+        factory.build(TestEntityConverter.class, getProperties()),
+        new IndentCodeTarget(methods)
+    );
+    context.setVariable(MAPPING_METRICS, true);
+    new ToRecordGenerateChainPart().generate(context);
+    Assertions.assertEquals(EXPECTED_TO_RECORD, methods.getBuffer());
+  }
+
+  @Test
+  void generateDisabledTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    new MappingMetricsGenerateChainPart().generate(
+        new GenerateContext(
+            factory.build(TestEntity.class, getProperties()),
+            new IndentCodeTarget(target)
+        )
+    );
+    Assertions.assertEquals("", target.getBuffer());
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import java.io.File;
+import java.util.Set;
+import org.jooq.codegen.Files;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of {@link SourceJavaWriter}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class SourceJavaWriterTest {
+  private static final String FILE = "Test.java";
+  private static final String ENCODING = "UTF-8";
+  private static final String SOURCE = "class Test {}";
+  private static final long MODIFIED = 1_000_000_000L;
+
+  @Test
+  void closeTest(@TempDir File root) {
+    File file = new File(root, FILE);
+    GeneratedSources sources = new GeneratedSources();
+    SourceJavaWriter writer = new SourceJavaWriter(
+        file,
+        null,
+        ENCODING,
+        false,
+        new Files(),
+        sources,
+        true
+    );
+    writer.println(SOURCE);
+    writer.close();
+
+    Assertions.assertTrue(file.exists());
+    Assertions.assertTrue(sources.getSources().get(file.getAbsoluteFile()).contains(SOURCE));
+  }
+
+  @Test
+  void closeWithoutWriteTest(@TempDir File root) {
+    File file = new File(root, FILE);
+    GeneratedSources sources = new GeneratedSources();
+    SourceJavaWriter writer = new SourceJavaWriter(
+        file,
+        null,
+        ENCODING,
+        false,
+        new Files(),
+        sources,
+        false
+    );
+    writer.println(SOURCE);
+    writer.close();
+
+    Assertions.assertFalse(file.exists());
+    Assertions.assertTrue(sources.getSources().get(file.getAbsoluteFile()).contains(SOURCE));
+  }
+
+  @Test
+  void closeUnchangedTest(@TempDir File root) {
+    File file = new File(root, FILE);
+    GeneratedSources sources = new GeneratedSources();
+    SourceJavaWriter writer = newWriter(file, sources);
+    writer.println(SOURCE);
+    Assertions.assertTrue(writer.close());
+    Assertions.assertEquals(Set.of(file.getAbsoluteFile()), sources.getWritten());
+
+    Assertions.assertTrue(file.setLastModified(MODIFIED));
+    GeneratedSources unchanged = new GeneratedSources();
+    writer = newWriter(file, unchanged);
+    writer.println(SOURCE);
+    Assertions.assertTrue(writer.close());
+    Assertions.assertEquals(MODIFIED, file.lastModified());
+    Assertions.assertTrue(unchanged.getWritten().isEmpty());
+    Assertions.assertTrue(unchanged.getSources().get(file.getAbsoluteFile()).contains(SOURCE));
+
+    GeneratedSources changed = new GeneratedSources();
+    writer = newWriter(file, changed);
+    writer.println(SOURCE.replace("Test", "Tests"));
+    Assertions.assertTrue(writer.close());
+    Assertions.assertNotEquals(MODIFIED, file.lastModified());
+    Assertions.assertEquals(Set.of(file.getAbsoluteFile()), changed.getWritten());
+  }
+
+  // Returns new writer of the file, the file is written
+  private static SourceJavaWriter newWriter(File file, GeneratedSources sources) {
+    return new SourceJavaWriter(file, null, ENCODING, false, new Files(), sources, true);
+  }
+}
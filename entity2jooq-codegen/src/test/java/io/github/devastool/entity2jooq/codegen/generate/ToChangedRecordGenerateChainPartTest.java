@@ -0,0 +1,115 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.codegen.definition.factory.CommonFactoryTest;
+import io.github.devastool.entity2jooq.codegen.definition.factory.EntityTableDefinitionFactory;
+import io.github.devastool.entity2jooq.codegen.generate.code.BufferedCodeTarget;
+import io.github.devastool.entity2jooq.codegen.generate.code.IndentCodeTarget;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityDisabledMapping;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded;
+import io.github.devastool.entity2jooq.codegen.properties.CodegenProperty;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ToChangedRecordGenerateChainPart}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class ToChangedRecordGenerateChainPartTest extends CommonFactoryTest {
+  private static final String EXPECTED = String.join(
+      "",
+      "    public org.jooq.Record toChangedRecord(io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded entity) {",
+      System.lineSeparator(),
+      "        org.jooq.Record record = toRecord(entity);",
+      System.lineSeparator(),
+      "        record.changed(TEST_ENTITY_EMBEDDED.EMBEDDABLE_INT_FIELD, record.get(3) != null);",
+      System.lineSeparator(),
+      "        record.changed(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_INT_FIELD, record.get(0) != null);",
+      System.lineSeparator(),
+      "        record.changed(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_STRING_FIELD, record.get(1) != null);",
+      System.lineSeparator(),
+      "        record.changed(TEST_ENTITY_EMBEDDED.EMBEDDABLE_STRING_FIELD, record.get(2) != null);",
+      System.lineSeparator(),
+      "        return record;",
+      System.lineSeparator(),
+      "    }",
+      System.lineSeparator(),
+      "    public org.jooq.Record toChangedRecord(io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded entity, org.jooq.Record original) {",
+      System.lineSeparator(),
+      "        org.jooq.Record record = toRecord(entity);",
+      System.lineSeparator(),
+      "        record.changed(TEST_ENTITY_EMBEDDED.EMBEDDABLE_INT_FIELD, !java.util.Objects.equals(record.get(3), original.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_INT_FIELD)));",
+      System.lineSeparator(),
+      "        record.changed(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_INT_FIELD, !java.util.Objects.equals(record.get(0), original.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_INT_FIELD)));",
+      System.lineSeparator(),
+      "        record.changed(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_STRING_FIELD, !java.util.Objects.equals(record.get(1), original.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_STRING_FIELD)));",
+      System.lineSeparator(),
+      "        record.changed(TEST_ENTITY_EMBEDDED.EMBEDDABLE_STRING_FIELD, !java.util.Objects.equals(record.get(2), original.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_STRING_FIELD)));",
+      System.lineSeparator(),
+      "        return record;",
+      System.lineSeparator(),
+      "    }",
+      System.lineSeparator()
+  );
+
+  @Test
+  void generateTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    GenerateContext context = new GenerateContext(
+        factory.build(TestEntityEmbedded.class, getProperties()),
+        new IndentCodeTarget(target)
+    );
+    context.setVariable(CodegenProperty.CHANGED_RECORDS, true);
+
+    new ToChangedRecordGenerateChainPart().generate(context);
+    Assertions.assertEquals(EXPECTED, target.getBuffer());
+  }
+
+  @Test
+  void generateWithDisabledChangedRecordsTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    new ToChangedRecordGenerateChainPart().generate(
+        new GenerateContext(
+            factory.build(TestEntityEmbedded.class, getProperties()),
+            new IndentCodeTarget(target)
+        )
+    );
+
+    Assertions.assertEquals("", target.getBuffer());
+  }
+
+  @Test
+  void generateWithDisabledMappingTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    GenerateContext context = new GenerateContext(
+        factory.build(TestEntityDisabledMapping.class, getProperties()),
+        new IndentCodeTarget(target)
+    );
+    context.setVariable(CodegenProperty.CHANGED_RECORDS, true);
+
+    new ToChangedRecordGenerateChainPart().generate(context);
+    Assertions.assertEquals("", target.getBuffer());
+  }
+}
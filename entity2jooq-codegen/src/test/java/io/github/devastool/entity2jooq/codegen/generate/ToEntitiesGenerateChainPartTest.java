@@ -0,0 +1,163 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.annotation.naming.SnakeCaseStrategy;
+import io.github.devastool.entity2jooq.codegen.definition.EntityTableDefinition;
+import io.github.devastool.entity2jooq.codegen.definition.factory.CommonFactoryTest;
+import io.github.devastool.entity2jooq.codegen.definition.factory.EntityTableDefinitionFactory;
+import io.github.devastool.entity2jooq.codegen.definition.type.ConverterDefinition;
+import io.github.devastool.entity2jooq.codegen.definition.type.EntityDataTypeDefinition;
+import io.github.devastool.entity2jooq.codegen.generate.code.BufferedCodeTarget;
+import io.github.devastool.entity2jooq.codegen.generate.code.IndentCodeTarget;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityConverter;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityDisabledMapping;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded;
+import org.jooq.meta.ColumnDefinition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ToEntitiesGenerateChainPart}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class ToEntitiesGenerateChainPartTest extends CommonFactoryTest {
+  private static final String WITH_CONVERTERS_EXPECTED = String.join(
+      "",
+      "    public java.util.List<io.github.devastool.entity2jooq.codegen.model.TestEntityConverter> toEntities(org.jooq.Result<? extends org.jooq.Record> result) {",
+      System.lineSeparator(),
+      "        int index0 = result.indexOf(TEST_ENTITY_CONVERTER.INT_FIELD);",
+      System.lineSeparator(),
+      "        boolean direct0 = result.field(index0) == TEST_ENTITY_CONVERTER.INT_FIELD;",
+      System.lineSeparator(),
+      "        java.util.List<io.github.devastool.entity2jooq.codegen.model.TestEntityConverter> entities = new java.util.ArrayList<>(result.size());",
+      System.lineSeparator(),
+      "        for (org.jooq.Record record : result) {",
+      System.lineSeparator(),
+      "            io.github.devastool.entity2jooq.codegen.model.TestEntityConverter entity = new io.github.devastool.entity2jooq.codegen.model.TestEntityConverter();",
+      System.lineSeparator(),
+      "            entity.setIntField(direct0 ? STRING_TO_INTEGER_CONVERTER.from((java.lang.String) record.get(index0)) : record.get(index0, STRING_TO_INTEGER_CONVERTER));",
+      System.lineSeparator(),
+      "            entities.add(entity);",
+      System.lineSeparator(),
+      "        }",
+      System.lineSeparator(),
+      "        return entities;",
+      System.lineSeparator(),
+      "    }",
+      System.lineSeparator()
+  );
+
+  private static final String WITH_EMBEDDED_EXPECTED = String.join(
+      "",
+      "    public java.util.List<io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded> toEntities(org.jooq.Result<? extends org.jooq.Record> result) {",
+      System.lineSeparator(),
+      "        int index0 = result.indexOf(TEST_ENTITY_EMBEDDED.EMBEDDABLE_INT_FIELD);",
+      System.lineSeparator(),
+      "        int index1 = result.indexOf(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_INT_FIELD);",
+      System.lineSeparator(),
+      "        int index2 = result.indexOf(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_STRING_FIELD);",
+      System.lineSeparator(),
+      "        int index3 = result.indexOf(TEST_ENTITY_EMBEDDED.EMBEDDABLE_STRING_FIELD);",
+      System.lineSeparator(),
+      "        java.util.List<io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded> entities = new java.util.ArrayList<>(result.size());",
+      System.lineSeparator(),
+      "        for (org.jooq.Record record : result) {",
+      System.lineSeparator(),
+      "            io.github.devastool.entity2jooq.codegen.model.TestSecondEmbeddable secondEmbeddable_0 = new io.github.devastool.entity2jooq.codegen.model.TestSecondEmbeddable();",
+      System.lineSeparator(),
+      "            secondEmbeddable_0.setSecondIntField((java.lang.Integer) record.get(index1));",
+      System.lineSeparator(),
+      "            secondEmbeddable_0.setSecondStringField((java.lang.String) record.get(index2));",
+      System.lineSeparator(),
+      "            ",
+      System.lineSeparator(),
+      "            io.github.devastool.entity2jooq.codegen.model.TestEmbeddable embeddable_0 = new io.github.devastool.entity2jooq.codegen.model.TestEmbeddable();",
+      System.lineSeparator(),
+      "            embeddable_0.setIntField((java.lang.Integer) record.get(index0));",
+      System.lineSeparator(),
+      "            embeddable_0.setSecondEmbeddable(secondEmbeddable_0);",
+      System.lineSeparator(),
+      "            embeddable_0.setStringField((java.lang.String) record.get(index3));",
+      System.lineSeparator(),
+      "            ",
+      System.lineSeparator(),
+      "            io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded entity = new io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded();",
+      System.lineSeparator(),
+      "            entity.setEmbeddable(embeddable_0);",
+      System.lineSeparator(),
+      "            entities.add(entity);",
+      System.lineSeparator(),
+      "        }",
+      System.lineSeparator(),
+      "        return entities;",
+      System.lineSeparator(),
+      "    }",
+      System.lineSeparator()
+  );
+
+  @Test
+  void generateWithDisabledMappingTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    new ToEntitiesGenerateChainPart().generate(
+        new GenerateContext(
+            factory.build(TestEntityDisabledMapping.class, getProperties()),
+            new IndentCodeTarget(target)
+        )
+    );
+
+    Assertions.assertEquals("", target.getBuffer());
+  }
+
+  @Test
+  void generateWithConvertersTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+    SnakeCaseStrategy naming = new SnakeCaseStrategy(true);
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    EntityTableDefinition definition = factory.build(TestEntityConverter.class, getProperties());
+
+    GenerateContext context = new GenerateContext(definition, new IndentCodeTarget(target));
+    for (ColumnDefinition column : definition.getColumns()) {
+      EntityDataTypeDefinition type = (EntityDataTypeDefinition) column.getType();
+      ConverterDefinition converterDefinition = type.getConverterDefinition();
+      Class<?> converterType = converterDefinition.getConverterType();
+      context.setVariable(converterDefinition, naming.resolve(converterType.getSimpleName()));
+    }
+
+    new ToEntitiesGenerateChainPart().generate(context);
+    Assertions.assertEquals(WITH_CONVERTERS_EXPECTED, target.getBuffer());
+  }
+
+  @Test
+  void generateWithEmbeddedTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    new ToEntitiesGenerateChainPart().generate(
+        new GenerateContext(
+            factory.build(TestEntityEmbedded.class, getProperties()),
+            new IndentCodeTarget(target)
+        )
+    );
+
+    Assertions.assertEquals(WITH_EMBEDDED_EXPECTED, target.getBuffer());
+  }
+}
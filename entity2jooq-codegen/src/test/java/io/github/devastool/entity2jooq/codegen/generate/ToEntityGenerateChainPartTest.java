@@ -25,9 +25,11 @@ import io.github.devastool.entity2jooq.codegen.definition.type.EntityDataTypeDef
 import io.github.devastool.entity2jooq.codegen.generate.code.BufferedCodeTarget;
 import io.github.devastool.entity2jooq.codegen.generate.code.IndentCodeTarget;
 import io.github.devastool.entity2jooq.codegen.model.TestEntity;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityAccess;
 import io.github.devastool.entity2jooq.codegen.model.TestEntityConverter;
 import io.github.devastool.entity2jooq.codegen.model.TestEntityDisabledMapping;
 import io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded;
+import io.github.devastool.entity2jooq.codegen.properties.CodegenProperty;
 import org.jooq.meta.ColumnDefinition;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -44,41 +46,41 @@ class ToEntityGenerateChainPartTest extends CommonFactoryTest {
       System.lineSeparator(),
       "        io.github.devastool.entity2jooq.codegen.model.TestEntity entity = new io.github.devastool.entity2jooq.codegen.model.TestEntity();",
       System.lineSeparator(),
-      "        entity.setBigDecimalField(record.get(TEST_ENTITY.BIG_DECIMAL_FIELD));",
+      "        entity.setBigDecimalField(record.field(3) == TEST_ENTITY.BIG_DECIMAL_FIELD ? (java.math.BigDecimal) record.get(3) : record.get(TEST_ENTITY.BIG_DECIMAL_FIELD));",
       System.lineSeparator(),
-      "        entity.setBooleanField(record.get(TEST_ENTITY.BOOLEAN_FIELD));",
+      "        entity.setBooleanField(record.field(16) == TEST_ENTITY.BOOLEAN_FIELD ? (java.lang.Boolean) record.get(16) : record.get(TEST_ENTITY.BOOLEAN_FIELD));",
       System.lineSeparator(),
-      "        entity.setDateField(record.get(TEST_ENTITY.DATE_FIELD));",
+      "        entity.setDateField(record.field(8) == TEST_ENTITY.DATE_FIELD ? (java.util.Date) record.get(8) : record.get(TEST_ENTITY.DATE_FIELD));",
       System.lineSeparator(),
-      "        entity.setDoubleField(record.get(TEST_ENTITY.DOUBLE_FIELD));",
+      "        entity.setDoubleField(record.field(5) == TEST_ENTITY.DOUBLE_FIELD ? (java.lang.Double) record.get(5) : record.get(TEST_ENTITY.DOUBLE_FIELD));",
       System.lineSeparator(),
-      "        entity.setStringField(record.get(TEST_ENTITY.ENTITY_NAME));",
+      "        entity.setStringField(record.field(6) == TEST_ENTITY.ENTITY_NAME ? (java.lang.String) record.get(6) : record.get(TEST_ENTITY.ENTITY_NAME));",
       System.lineSeparator(),
-      "        entity.setFloatField(record.get(TEST_ENTITY.FLOAT_FIELD));",
+      "        entity.setFloatField(record.field(4) == TEST_ENTITY.FLOAT_FIELD ? (java.lang.Float) record.get(4) : record.get(TEST_ENTITY.FLOAT_FIELD));",
       System.lineSeparator(),
-      "        entity.setIntField(record.get(TEST_ENTITY.INT_FIELD));",
+      "        entity.setIntField(record.field(1) == TEST_ENTITY.INT_FIELD ? (java.lang.Integer) record.get(1) : record.get(TEST_ENTITY.INT_FIELD));",
       System.lineSeparator(),
-      "        entity.setLocalDateField(record.get(TEST_ENTITY.LOCAL_DATE_FIELD));",
+      "        entity.setLocalDateField(record.field(7) == TEST_ENTITY.LOCAL_DATE_FIELD ? (java.time.LocalDate) record.get(7) : record.get(TEST_ENTITY.LOCAL_DATE_FIELD));",
       System.lineSeparator(),
-      "        entity.setLocalDateTimeField(record.get(TEST_ENTITY.LOCAL_DATE_TIME_FIELD));",
+      "        entity.setLocalDateTimeField(record.field(13) == TEST_ENTITY.LOCAL_DATE_TIME_FIELD ? (java.time.LocalDateTime) record.get(13) : record.get(TEST_ENTITY.LOCAL_DATE_TIME_FIELD));",
       System.lineSeparator(),
-      "        entity.setLocalTimeField(record.get(TEST_ENTITY.LOCAL_TIME_FIELD));",
+      "        entity.setLocalTimeField(record.field(10) == TEST_ENTITY.LOCAL_TIME_FIELD ? (java.time.LocalTime) record.get(10) : record.get(TEST_ENTITY.LOCAL_TIME_FIELD));",
       System.lineSeparator(),
-      "        entity.setLongField(record.get(TEST_ENTITY.LONG_FIELD));",
+      "        entity.setLongField(record.field(2) == TEST_ENTITY.LONG_FIELD ? (java.lang.Long) record.get(2) : record.get(TEST_ENTITY.LONG_FIELD));",
       System.lineSeparator(),
-      "        entity.setOffsetDateTimeField(record.get(TEST_ENTITY.OFFSET_DATE_TIME_FIELD));",
+      "        entity.setOffsetDateTimeField(record.field(15) == TEST_ENTITY.OFFSET_DATE_TIME_FIELD ? (java.time.OffsetDateTime) record.get(15) : record.get(TEST_ENTITY.OFFSET_DATE_TIME_FIELD));",
       System.lineSeparator(),
-      "        entity.setOffsetTimeField(record.get(TEST_ENTITY.OFFSET_TIME_FIELD));",
+      "        entity.setOffsetTimeField(record.field(12) == TEST_ENTITY.OFFSET_TIME_FIELD ? (java.time.OffsetTime) record.get(12) : record.get(TEST_ENTITY.OFFSET_TIME_FIELD));",
       System.lineSeparator(),
-      "        entity.setShortField(record.get(TEST_ENTITY.SHORT_FIELD));",
+      "        entity.setShortField(record.field(0) == TEST_ENTITY.SHORT_FIELD ? (java.lang.Short) record.get(0) : record.get(TEST_ENTITY.SHORT_FIELD));",
       System.lineSeparator(),
-      "        entity.setSqlDateField(record.get(TEST_ENTITY.SQL_DATE_FIELD));",
+      "        entity.setSqlDateField(record.field(9) == TEST_ENTITY.SQL_DATE_FIELD ? (java.sql.Date) record.get(9) : record.get(TEST_ENTITY.SQL_DATE_FIELD));",
       System.lineSeparator(),
-      "        entity.setTimeField(record.get(TEST_ENTITY.TIME_FIELD));",
+      "        entity.setTimeField(record.field(11) == TEST_ENTITY.TIME_FIELD ? (java.sql.Time) record.get(11) : record.get(TEST_ENTITY.TIME_FIELD));",
       System.lineSeparator(),
-      "        entity.setTimestampField(record.get(TEST_ENTITY.TIMESTAMP_FIELD));",
+      "        entity.setTimestampField(record.field(14) == TEST_ENTITY.TIMESTAMP_FIELD ? (java.sql.Timestamp) record.get(14) : record.get(TEST_ENTITY.TIMESTAMP_FIELD));",
       System.lineSeparator(),
-      "        entity.setUuidField(record.get(TEST_ENTITY.UUID_FIELD));",
+      "        entity.setUuidField(record.field(17) == TEST_ENTITY.UUID_FIELD ? (java.util.UUID) record.get(17) : record.get(TEST_ENTITY.UUID_FIELD));",
       System.lineSeparator(),
       "        return entity;",
       System.lineSeparator(),
@@ -92,7 +94,7 @@ class ToEntityGenerateChainPartTest extends CommonFactoryTest {
       System.lineSeparator(),
       "        io.github.devastool.entity2jooq.codegen.model.TestEntityConverter entity = new io.github.devastool.entity2jooq.codegen.model.TestEntityConverter();",
       System.lineSeparator(),
-      "        entity.setIntField(record.get(TEST_ENTITY_CONVERTER.INT_FIELD, STRING_TO_INTEGER_CONVERTER));",
+      "        entity.setIntField(record.field(0) == TEST_ENTITY_CONVERTER.INT_FIELD ? STRING_TO_INTEGER_CONVERTER.from((java.lang.String) record.get(0)) : record.get(TEST_ENTITY_CONVERTER.INT_FIELD, STRING_TO_INTEGER_CONVERTER));",
       System.lineSeparator(),
       "        return entity;",
       System.lineSeparator(),
@@ -106,19 +108,19 @@ class ToEntityGenerateChainPartTest extends CommonFactoryTest {
       System.lineSeparator(),
       "        io.github.devastool.entity2jooq.codegen.model.TestSecondEmbeddable secondEmbeddable_0 = new io.github.devastool.entity2jooq.codegen.model.TestSecondEmbeddable();",
       System.lineSeparator(),
-      "        secondEmbeddable_0.setSecondIntField(record.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_INT_FIELD));",
+      "        secondEmbeddable_0.setSecondIntField(record.field(0) == TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_INT_FIELD ? (java.lang.Integer) record.get(0) : record.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_INT_FIELD));",
       System.lineSeparator(),
-      "        secondEmbeddable_0.setSecondStringField(record.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_STRING_FIELD));",
+      "        secondEmbeddable_0.setSecondStringField(record.field(1) == TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_STRING_FIELD ? (java.lang.String) record.get(1) : record.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_STRING_FIELD));",
       System.lineSeparator(),
       "        ",
       System.lineSeparator(),
       "        io.github.devastool.entity2jooq.codegen.model.TestEmbeddable embeddable_0 = new io.github.devastool.entity2jooq.codegen.model.TestEmbeddable();",
       System.lineSeparator(),
-      "        embeddable_0.setIntField(record.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_INT_FIELD));",
+      "        embeddable_0.setIntField(record.field(3) == TEST_ENTITY_EMBEDDED.EMBEDDABLE_INT_FIELD ? (java.lang.Integer) record.get(3) : record.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_INT_FIELD));",
       System.lineSeparator(),
       "        embeddable_0.setSecondEmbeddable(secondEmbeddable_0);",
       System.lineSeparator(),
-      "        embeddable_0.setStringField(record.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_STRING_FIELD));",
+      "        embeddable_0.setStringField(record.field(2) == TEST_ENTITY_EMBEDDED.EMBEDDABLE_STRING_FIELD ? (java.lang.String) record.get(2) : record.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_STRING_FIELD));",
       System.lineSeparator(),
       "        ",
       System.lineSeparator(),
@@ -132,6 +134,94 @@ class ToEntityGenerateChainPartTest extends CommonFactoryTest {
       System.lineSeparator()
   );
 
+  private static final String WITH_NULL_EMBEDDED_EXPECTED = String.join(
+      "",
+      "    public io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded toEntity(org.jooq.Record record) {",
+      System.lineSeparator(),
+      "        Integer secondEmbeddable_0_secondIntField = record.field(0) == TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_INT_FIELD ? (java.lang.Integer) record.get(0) : record.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_INT_FIELD);",
+      System.lineSeparator(),
+      "        String secondEmbeddable_0_secondStringField = record.field(1) == TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_STRING_FIELD ? (java.lang.String) record.get(1) : record.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_STRING_FIELD);",
+      System.lineSeparator(),
+      "        io.github.devastool.entity2jooq.codegen.model.TestSecondEmbeddable secondEmbeddable_0 = null;",
+      System.lineSeparator(),
+      "        if (secondEmbeddable_0_secondIntField != null || secondEmbeddable_0_secondStringField != null) {",
+      System.lineSeparator(),
+      "            secondEmbeddable_0 = new io.github.devastool.entity2jooq.codegen.model.TestSecondEmbeddable();",
+      System.lineSeparator(),
+      "            secondEmbeddable_0.setSecondIntField(secondEmbeddable_0_secondIntField);",
+      System.lineSeparator(),
+      "            secondEmbeddable_0.setSecondStringField(secondEmbeddable_0_secondStringField);",
+      System.lineSeparator(),
+      "        }",
+      System.lineSeparator(),
+      "        ",
+      System.lineSeparator(),
+      "        Integer embeddable_0_intField = record.field(3) == TEST_ENTITY_EMBEDDED.EMBEDDABLE_INT_FIELD ? (java.lang.Integer) record.get(3) : record.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_INT_FIELD);",
+      System.lineSeparator(),
+      "        String embeddable_0_stringField = record.field(2) == TEST_ENTITY_EMBEDDED.EMBEDDABLE_STRING_FIELD ? (java.lang.String) record.get(2) : record.get(TEST_ENTITY_EMBEDDED.EMBEDDABLE_STRING_FIELD);",
+      System.lineSeparator(),
+      "        io.github.devastool.entity2jooq.codegen.model.TestEmbeddable embeddable_0 = null;",
+      System.lineSeparator(),
+      "        if (embeddable_0_intField != null || secondEmbeddable_0 != null || embeddable_0_stringField != null) {",
+      System.lineSeparator(),
+      "            embeddable_0 = new io.github.devastool.entity2jooq.codegen.model.TestEmbeddable();",
+      System.lineSeparator(),
+      "            embeddable_0.setIntField(embeddable_0_intField);",
+      System.lineSeparator(),
+      "            embeddable_0.setSecondEmbeddable(secondEmbeddable_0);",
+      System.lineSeparator(),
+      "            embeddable_0.setStringField(embeddable_0_stringField);",
+      System.lineSeparator(),
+      "        }",
+      System.lineSeparator(),
+      "        ",
+      System.lineSeparator(),
+      "        io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded entity = new io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded();",
+      System.lineSeparator(),
+      "        entity.setEmbeddable(embeddable_0);",
+      System.lineSeparator(),
+      "        return entity;",
+      System.lineSeparator(),
+      "    }",
+      System.lineSeparator()
+  );
+
+  private static final String WITH_FIELD_ACCESS_EXPECTED = String.join(
+      "",
+      "    public io.github.devastool.entity2jooq.codegen.model.TestEntityAccess toEntity(org.jooq.Record record) {",
+      System.lineSeparator(),
+      "        io.github.devastool.entity2jooq.codegen.model.TestSecondEmbeddable secondEmbeddable_0 = new io.github.devastool.entity2jooq.codegen.model.TestSecondEmbeddable();",
+      System.lineSeparator(),
+      "        secondEmbeddable_0.setSecondIntField(record.field(2) == TEST_ENTITY_ACCESS.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_INT_FIELD ? (java.lang.Integer) record.get(2) : record.get(TEST_ENTITY_ACCESS.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_INT_FIELD));",
+      System.lineSeparator(),
+      "        secondEmbeddable_0.setSecondStringField(record.field(3) == TEST_ENTITY_ACCESS.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_STRING_FIELD ? (java.lang.String) record.get(3) : record.get(TEST_ENTITY_ACCESS.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_STRING_FIELD));",
+      System.lineSeparator(),
+      "        ",
+      System.lineSeparator(),
+      "        io.github.devastool.entity2jooq.codegen.model.TestEmbeddable embeddable_0 = new io.github.devastool.entity2jooq.codegen.model.TestEmbeddable();",
+      System.lineSeparator(),
+      "        embeddable_0.setIntField(record.field(5) == TEST_ENTITY_ACCESS.EMBEDDABLE_INT_FIELD ? (java.lang.Integer) record.get(5) : record.get(TEST_ENTITY_ACCESS.EMBEDDABLE_INT_FIELD));",
+      System.lineSeparator(),
+      "        embeddable_0.setSecondEmbeddable(secondEmbeddable_0);",
+      System.lineSeparator(),
+      "        embeddable_0.setStringField(record.field(4) == TEST_ENTITY_ACCESS.EMBEDDABLE_STRING_FIELD ? (java.lang.String) record.get(4) : record.get(TEST_ENTITY_ACCESS.EMBEDDABLE_STRING_FIELD));",
+      System.lineSeparator(),
+      "        ",
+      System.lineSeparator(),
+      "        io.github.devastool.entity2jooq.codegen.model.TestEntityAccess entity = new io.github.devastool.entity2jooq.codegen.model.TestEntityAccess();",
+      System.lineSeparator(),
+      "        TEST_ENTITY_ACCESS_EMBEDDABLE_HANDLE.set(entity, embeddable_0);",
+      System.lineSeparator(),
+      "        TEST_ENTITY_ACCESS_PRIVATE_FIELD_HANDLE.set(entity, record.field(1) == TEST_ENTITY_ACCESS.PRIVATE_FIELD ? (java.lang.Long) record.get(1) : record.get(TEST_ENTITY_ACCESS.PRIVATE_FIELD));",
+      System.lineSeparator(),
+      "        entity.publicField = record.field(0) == TEST_ENTITY_ACCESS.PUBLIC_FIELD ? (java.lang.String) record.get(0) : record.get(TEST_ENTITY_ACCESS.PUBLIC_FIELD);",
+      System.lineSeparator(),
+      "        return entity;",
+      System.lineSeparator(),
+      "    }",
+      System.lineSeparator()
+  );
+
   @Test
   void generateTest() {
     EntityTableDefinitionFactory factory = getTableFactory();
@@ -199,4 +289,34 @@ class ToEntityGenerateChainPartTest extends CommonFactoryTest {
 
     Assertions.assertEquals(WITH_EMBEDDED_EXPECTED, target.getBuffer());
   }
-}
\ No newline at end of file
+
+  @Test
+  void generateWithNullEmbeddedTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    GenerateContext context = new GenerateContext(
+        factory.build(TestEntityEmbedded.class, getProperties()),
+        new IndentCodeTarget(target)
+    );
+    context.setVariable(CodegenProperty.NULL_EMBEDDED, true);
+
+    new ToEntityGenerateChainPart().generate(context);
+    Assertions.assertEquals(WITH_NULL_EMBEDDED_EXPECTED, target.getBuffer());
+  }
+
+  @Test
+  void generateWithFieldAccessTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    new ToEntityGenerateChainPart().generate(
+        new GenerateContext(
+            factory.build(TestEntityAccess.class, getProperties()),
+            new IndentCodeTarget(target)
+        )
+    );
+
+    Assertions.assertEquals(WITH_FIELD_ACCESS_EXPECTED, target.getBuffer());
+  }
+}
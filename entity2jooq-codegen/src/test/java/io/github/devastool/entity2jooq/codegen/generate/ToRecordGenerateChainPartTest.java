@@ -25,8 +25,10 @@ import io.github.devastool.entity2jooq.codegen.definition.type.EntityDataTypeDef
 import io.github.devastool.entity2jooq.codegen.generate.code.BufferedCodeTarget;
 import io.github.devastool.entity2jooq.codegen.generate.code.IndentCodeTarget;
 import io.github.devastool.entity2jooq.codegen.model.TestEntity;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityAccess;
 import io.github.devastool.entity2jooq.codegen.model.TestEntityConverter;
 import io.github.devastool.entity2jooq.codegen.model.TestEntityDisabledMapping;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded;
 import org.jooq.meta.ColumnDefinition;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -99,6 +101,58 @@ class ToRecordGenerateChainPartTest extends CommonFactoryTest {
       System.lineSeparator()
   );
 
+  private static final String EXPECTED_WITH_EMBEDDED = String.join(
+      "",
+      "    public org.jooq.Record toRecord(io.github.devastool.entity2jooq.codegen.model.TestEntityEmbedded entity) {",
+      System.lineSeparator(),
+      "        org.jooq.Record record = TEST_ENTITY_EMBEDDED.newRecord();",
+      System.lineSeparator(),
+      "        io.github.devastool.entity2jooq.codegen.model.TestEmbeddable embeddable_0 = entity.getEmbeddable();",
+      System.lineSeparator(),
+      "        record.setValue(TEST_ENTITY_EMBEDDED.EMBEDDABLE_INT_FIELD, embeddable_0 != null ? embeddable_0.getIntField() : null);",
+      System.lineSeparator(),
+      "        io.github.devastool.entity2jooq.codegen.model.TestSecondEmbeddable secondEmbeddable_1 = embeddable_0 != null ? embeddable_0.getSecondEmbeddable() : null;",
+      System.lineSeparator(),
+      "        record.setValue(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_INT_FIELD, secondEmbeddable_1 != null ? secondEmbeddable_1.getSecondIntField() : null);",
+      System.lineSeparator(),
+      "        record.setValue(TEST_ENTITY_EMBEDDED.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_STRING_FIELD, secondEmbeddable_1 != null ? secondEmbeddable_1.getSecondStringField() : null);",
+      System.lineSeparator(),
+      "        record.setValue(TEST_ENTITY_EMBEDDED.EMBEDDABLE_STRING_FIELD, embeddable_0 != null ? embeddable_0.getStringField() : null);",
+      System.lineSeparator(),
+      "        return record;",
+      System.lineSeparator(),
+      "    }",
+      System.lineSeparator()
+  );
+
+  private static final String WITH_FIELD_ACCESS_EXPECTED = String.join(
+      "",
+      "    public org.jooq.Record toRecord(io.github.devastool.entity2jooq.codegen.model.TestEntityAccess entity) {",
+      System.lineSeparator(),
+      "        org.jooq.Record record = TEST_ENTITY_ACCESS.newRecord();",
+      System.lineSeparator(),
+      "        io.github.devastool.entity2jooq.codegen.model.TestEmbeddable embeddable_0 = (io.github.devastool.entity2jooq.codegen.model.TestEmbeddable) TEST_ENTITY_ACCESS_EMBEDDABLE_HANDLE.get(entity);",
+      System.lineSeparator(),
+      "        record.setValue(TEST_ENTITY_ACCESS.EMBEDDABLE_INT_FIELD, embeddable_0 != null ? embeddable_0.getIntField() : null);",
+      System.lineSeparator(),
+      "        io.github.devastool.entity2jooq.codegen.model.TestSecondEmbeddable secondEmbeddable_1 = embeddable_0 != null ? embeddable_0.getSecondEmbeddable() : null;",
+      System.lineSeparator(),
+      "        record.setValue(TEST_ENTITY_ACCESS.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_INT_FIELD, secondEmbeddable_1 != null ? secondEmbeddable_1.getSecondIntField() : null);",
+      System.lineSeparator(),
+      "        record.setValue(TEST_ENTITY_ACCESS.EMBEDDABLE_SECOND_EMBEDDABLE_SECOND_STRING_FIELD, secondEmbeddable_1 != null ? secondEmbeddable_1.getSecondStringField() : null);",
+      System.lineSeparator(),
+      "        record.setValue(TEST_ENTITY_ACCESS.EMBEDDABLE_STRING_FIELD, embeddable_0 != null ? embeddable_0.getStringField() : null);",
+      System.lineSeparator(),
+      "        record.setValue(TEST_ENTITY_ACCESS.PRIVATE_FIELD, (java.lang.Long) TEST_ENTITY_ACCESS_PRIVATE_FIELD_HANDLE.get(entity));",
+      System.lineSeparator(),
+      "        record.setValue(TEST_ENTITY_ACCESS.PUBLIC_FIELD, entity.publicField);",
+      System.lineSeparator(),
+      "        return record;",
+      System.lineSeparator(),
+      "    }",
+      System.lineSeparator()
+  );
+
   @Test
   void generateTest() {
     EntityTableDefinitionFactory factory = getTableFactory();
@@ -115,6 +169,22 @@ class ToRecordGenerateChainPartTest extends CommonFactoryTest {
     Assertions.assertEquals(EXPECTED, target.getBuffer());
   }
 
+  @Test
+  void generateWithEmbeddedTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    ToRecordGenerateChainPart part = new ToRecordGenerateChainPart();
+    part.generate(
+        new GenerateContext(
+            factory.build(TestEntityEmbedded.class, getProperties()),
+            new IndentCodeTarget(target)
+        )
+    );
+
+    Assertions.assertEquals(EXPECTED_WITH_EMBEDDED, target.getBuffer());
+  }
+
   @Test
   void generateWithDisabledMappingTest() {
     EntityTableDefinitionFactory factory = getTableFactory();
@@ -150,4 +220,19 @@ class ToRecordGenerateChainPartTest extends CommonFactoryTest {
     new ToRecordGenerateChainPart().generate(context);
     Assertions.assertEquals(EXPECTED_WITH_CONVERTERS, target.getBuffer());
   }
-}
\ No newline at end of file
+
+  @Test
+  void generateWithFieldAccessTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    new ToRecordGenerateChainPart().generate(
+        new GenerateContext(
+            factory.build(TestEntityAccess.class, getProperties()),
+            new IndentCodeTarget(target)
+        )
+    );
+
+    Assertions.assertEquals(WITH_FIELD_ACCESS_EXPECTED, target.getBuffer());
+  }
+}
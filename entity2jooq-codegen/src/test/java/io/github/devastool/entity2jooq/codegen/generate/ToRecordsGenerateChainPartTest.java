@@ -0,0 +1,81 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate;
+
+import io.github.devastool.entity2jooq.codegen.definition.factory.CommonFactoryTest;
+import io.github.devastool.entity2jooq.codegen.definition.factory.EntityTableDefinitionFactory;
+import io.github.devastool.entity2jooq.codegen.generate.code.BufferedCodeTarget;
+import io.github.devastool.entity2jooq.codegen.generate.code.IndentCodeTarget;
+import io.github.devastool.entity2jooq.codegen.model.TestEntity;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityDisabledMapping;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ToRecordsGenerateChainPart}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class ToRecordsGenerateChainPartTest extends CommonFactoryTest {
+  private static final String EXPECTED = String.join(
+      "",
+      "    public java.util.List<org.jooq.Record> toRecords(java.util.Collection<? extends io.github.devastool.entity2jooq.codegen.model.TestEntity> entities) {",
+      System.lineSeparator(),
+      "        java.util.List<org.jooq.Record> records = new java.util.ArrayList<>(entities.size());",
+      System.lineSeparator(),
+      "        for (io.github.devastool.entity2jooq.codegen.model.TestEntity entity : entities) {",
+      System.lineSeparator(),
+      "            records.add(toRecord(entity));",
+      System.lineSeparator(),
+      "        }",
+      System.lineSeparator(),
+      "        return records;",
+      System.lineSeparator(),
+      "    }",
+      System.lineSeparator()
+  );
+
+  @Test
+  void generateTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    new ToRecordsGenerateChainPart().generate(
+        new GenerateContext(
+            factory.build(TestEntity.class, getProperties()),
+            new IndentCodeTarget(target)
+        )
+    );
+
+    Assertions.assertEquals(EXPECTED, target.getBuffer());
+  }
+
+  @Test
+  void generateWithDisabledMappingTest() {
+    EntityTableDefinitionFactory factory = getTableFactory();
+
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    new ToRecordsGenerateChainPart().generate(
+        new GenerateContext(
+            factory.build(TestEntityDisabledMapping.class, getProperties()),
+            new IndentCodeTarget(target)
+        )
+    );
+
+    Assertions.assertEquals("", target.getBuffer());
+  }
+}
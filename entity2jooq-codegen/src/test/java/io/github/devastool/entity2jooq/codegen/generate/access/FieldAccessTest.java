@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate.access;
+
+import io.github.devastool.entity2jooq.codegen.generate.access.FieldAccess.Style;
+import io.github.devastool.entity2jooq.codegen.generate.code.BufferedCodeTarget;
+import io.github.devastool.entity2jooq.codegen.generate.code.operator.OperatorCodeGenerator;
+import io.github.devastool.entity2jooq.codegen.model.TestEntity;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityAccess;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityImmutable;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link FieldAccess}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class FieldAccessTest {
+  private static final String VARIABLE_NAME = "entity";
+  private static final String VALUE = "value";
+  private static final String RECORD_CLASS_NAME = "jdk.net.UnixDomainPrincipal";
+  private static final String RECORD_COMPONENT_NAME = "group";
+
+  @Test
+  void methodAccessTest() throws Exception {
+    FieldAccess access = FieldAccess.of(TestEntity.class.getDeclaredField("intField"));
+
+    Assertions.assertEquals(Style.METHOD, access.getReadStyle());
+    Assertions.assertEquals(Style.METHOD, access.getWriteStyle());
+    Assertions.assertFalse(access.isHandle());
+    Assertions.assertEquals("entity.getIntField()", generate(access.read(VARIABLE_NAME)));
+    Assertions.assertEquals(
+        "entity.setIntField(value)",
+        generate(access.write(VARIABLE_NAME, target -> target.write(VALUE)))
+    );
+  }
+
+  @Test
+  void fieldAccessTest() throws Exception {
+    FieldAccess access = FieldAccess.of(TestEntityAccess.class.getDeclaredField("publicField"));
+
+    Assertions.assertEquals(Style.FIELD, access.getReadStyle());
+    Assertions.assertEquals(Style.FIELD, access.getWriteStyle());
+    Assertions.assertFalse(access.isHandle());
+    Assertions.assertEquals("entity.publicField", generate(access.read(VARIABLE_NAME)));
+    Assertions.assertEquals(
+        "entity.publicField = value",
+        generate(access.write(VARIABLE_NAME, target -> target.write(VALUE)))
+    );
+  }
+
+  @Test
+  void handleAccessTest() throws Exception {
+    FieldAccess access = FieldAccess.of(TestEntityAccess.class.getDeclaredField("privateField"));
+
+    Assertions.assertEquals(Style.HANDLE, access.getReadStyle());
+    Assertions.assertEquals(Style.HANDLE, access.getWriteStyle());
+    Assertions.assertTrue(access.isHandle());
+    Assertions.assertEquals("TEST_ENTITY_ACCESS_PRIVATE_FIELD_HANDLE", access.getHandleName());
+    Assertions.assertEquals(
+        "(java.lang.Long) TEST_ENTITY_ACCESS_PRIVATE_FIELD_HANDLE.get(entity)",
+        generate(access.read(VARIABLE_NAME))
+    );
+    Assertions.assertEquals(
+        "TEST_ENTITY_ACCESS_PRIVATE_FIELD_HANDLE.set(entity, value)",
+        generate(access.write(VARIABLE_NAME, target -> target.write(VALUE)))
+    );
+  }
+
+  @Test
+  void finalFieldAccessTest() throws Exception {
+    FieldAccess access = FieldAccess.of(FieldAccessTest.class.getDeclaredField("VALUE"));
+
+    Assertions.assertEquals(Style.NONE, access.getWriteStyle());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> access.write(VARIABLE_NAME, target -> target.write(VALUE))
+    );
+  }
+
+  @Test
+  void newInstanceTest() {
+    Assertions.assertFalse(FieldAccess.isRecord(TestEntity.class));
+    Assertions.assertEquals(
+        "new io.github.devastool.entity2jooq.codegen.model.TestEntity()",
+        generate(FieldAccess.newInstance(TestEntity.class, Map.of()))
+    );
+  }
+
+  @Test
+  void newRecordInstanceTest() throws Exception {
+    Class<?> type;
+    try {
+      type = Class.forName(RECORD_CLASS_NAME);
+    } catch (ClassNotFoundException exception) {
+      type = null;
+    }
+    Assumptions.assumeTrue(type != null, "Records are not supported by the runtime");
+
+    Assertions.assertTrue(FieldAccess.isRecord(type));
+    Assertions.assertEquals(
+        "new jdk.net.UnixDomainPrincipal(null, value)",
+        generate(
+            FieldAccess.newInstance(
+                type,
+                Map.of(RECORD_COMPONENT_NAME, target -> target.write(VALUE))
+            )
+        )
+    );
+
+    FieldAccess access = FieldAccess.of(type.getDeclaredField(RECORD_COMPONENT_NAME));
+    Assertions.assertEquals(Style.METHOD, access.getReadStyle());
+    Assertions.assertEquals(Style.CONSTRUCTOR, access.getWriteStyle());
+    Assertions.assertEquals("entity.group()", generate(access.read(VARIABLE_NAME)));
+  }
+
+  @Test
+  void newImmutableInstanceTest() throws Exception {
+    Assertions.assertFalse(FieldAccess.isRecord(TestEntityImmutable.class));
+    Assertions.assertTrue(FieldAccess.isConstructed(TestEntityImmutable.class));
+    Assertions.assertFalse(FieldAccess.isConstructed(TestEntity.class));
+    Assertions.assertEquals(
+        "new io.github.devastool.entity2jooq.codegen.model.TestEntityImmutable(null, value, null)",
+        generate(
+            FieldAccess.newInstance(
+                TestEntityImmutable.class,
+                Map.of("name", target -> target.write(VALUE))
+            )
+        )
+    );
+
+    FieldAccess access = FieldAccess.of(TestEntityImmutable.class.getDeclaredField("name"));
+    Assertions.assertEquals(Style.METHOD, access.getReadStyle());
+    Assertions.assertEquals(Style.CONSTRUCTOR, access.getWriteStyle());
+    Assertions.assertEquals("entity.getName()", generate(access.read(VARIABLE_NAME)));
+  }
+
+  // Generates code of the operator
+  private String generate(OperatorCodeGenerator operator) {
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    operator.generate(target);
+    return target.getBuffer();
+  }
+}
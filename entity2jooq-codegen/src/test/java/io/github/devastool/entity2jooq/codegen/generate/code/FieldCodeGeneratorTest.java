@@ -46,6 +46,11 @@ class FieldCodeGeneratorTest {
       "public final java.util.function.Function<java.math.BigDecimal, java.math.BigDecimal> TEST_FIELD;",
       System.lineSeparator()
   );
+  private static final String PRIVATE_STATIC_EXPECTED = String.join(
+      "",
+      "private static final java.util.List TEST_FIELD;",
+      System.lineSeparator()
+  );
 
   @Test
   void generateWithAssignmentTest() {
@@ -79,4 +84,15 @@ class FieldCodeGeneratorTest {
     generator.generate(target);
     Assertions.assertEquals(WITH_GENERICS_EXPECTED, target.getBuffer());
   }
-}
\ No newline at end of file
+
+  @Test
+  void generatePrivateStaticTest() {
+    BufferedCodeTarget target = new BufferedCodeTarget();
+    new FieldCodeGenerator(FIELD_NAME, List.class)
+        .setPrivate(true)
+        .setStatic(true)
+        .generate(target);
+
+    Assertions.assertEquals(PRIVATE_STATIC_EXPECTED, target.getBuffer());
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.generate.code;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link WriterCodeTarget}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class WriterCodeTargetTest {
+  private static final String VALUE = "string";
+
+  @Test
+  void writeStringTest() {
+    StringWriter writer = new StringWriter();
+    try (WriterCodeTarget target = new WriterCodeTarget(writer)) {
+      target.write(VALUE);
+      Assertions.assertTrue(writer.toString().isEmpty());
+    }
+
+    Assertions.assertEquals(VALUE, writer.toString());
+  }
+
+  @Test
+  void writeLargeStringTest() {
+    String value = "a".repeat(WriterCodeTarget.BUFFER_SIZE * 2 + 1);
+    StringWriter writer = new StringWriter();
+    try (WriterCodeTarget target = new WriterCodeTarget(writer)) {
+      target.write(VALUE).write(value);
+    }
+
+    Assertions.assertEquals(VALUE + value, writer.toString());
+  }
+
+  @Test
+  void writelnTest() {
+    StringWriter writer = new StringWriter();
+    try (WriterCodeTarget target = new WriterCodeTarget(writer)) {
+      target.writeln(VALUE);
+    }
+
+    Assertions.assertEquals(VALUE + System.lineSeparator(), writer.toString());
+  }
+
+  @Test
+  void writeIndentTest() {
+    BufferedCodeTarget buffer = new BufferedCodeTarget();
+    new IndentCodeTarget(buffer).writeln("{").writeln(VALUE).writeln("}");
+
+    StringWriter writer = new StringWriter();
+    try (WriterCodeTarget target = new WriterCodeTarget(writer)) {
+      new IndentCodeTarget(target).writeln("{").writeln(VALUE).writeln("}");
+    }
+
+    Assertions.assertEquals(buffer.getBuffer(), writer.toString());
+  }
+
+  @Test
+  void writeChannelTest() {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (WriterCodeTarget target = new WriterCodeTarget(
+        Channels.newChannel(output),
+        StandardCharsets.UTF_8
+    )) {
+      target.write(VALUE);
+    }
+
+    Assertions.assertEquals(VALUE, output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void flushTest() {
+    StringWriter writer = new StringWriter();
+    WriterCodeTarget target = new WriterCodeTarget(writer);
+    target.write(VALUE);
+    target.flush();
+
+    Assertions.assertEquals(VALUE, writer.toString());
+    target.close();
+    target.close();
+    Assertions.assertEquals(VALUE, writer.toString());
+  }
+
+  @Test
+  void writeErrorTest() {
+    WriterCodeTarget target = new WriterCodeTarget(new Writer() {
+      @Override
+      public void write(char[] buffer, int offset, int length) throws IOException {
+        throw new IOException();
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    });
+    target.write(VALUE);
+
+    Assertions.assertThrows(RuntimeException.class, target::close);
+  }
+}
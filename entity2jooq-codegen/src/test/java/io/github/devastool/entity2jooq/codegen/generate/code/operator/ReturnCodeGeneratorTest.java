@@ -38,4 +38,12 @@ class ReturnCodeGeneratorTest {
 
     Assertions.assertEquals(EXPECTED_VALUE, target.getBuffer());
   }
-}
\ No newline at end of file
+
+  @Test
+  void generateExpressionTest() {
+    BufferedCodeTarget target = new BufferedCodeTarget();
+
+    new ReturnCodeGenerator(codeTarget -> codeTarget.write(RETURN_VALUE)).generate(target);
+    Assertions.assertEquals(EXPECTED_VALUE, target.getBuffer());
+  }
+}
@@ -52,4 +52,21 @@ class TypeCodeGeneratorTest {
 
     Assertions.assertEquals(Integer.class.getSimpleName(), target.getBuffer());
   }
-}
\ No newline at end of file
+
+  @Test
+  void generateWildcardTest() {
+    BufferedCodeTarget target = new BufferedCodeTarget();
+
+    new TypeCodeGenerator(List.class, TypeCodeGenerator.wildcard(Number.class)).generate(target);
+    Assertions.assertEquals("java.util.List<? extends Number>", target.getBuffer());
+  }
+
+  @Test
+  void generateSuperWildcardTest() {
+    BufferedCodeTarget target = new BufferedCodeTarget();
+
+    new TypeCodeGenerator(List.class, TypeCodeGenerator.superWildcard(Number.class))
+        .generate(target);
+    Assertions.assertEquals("java.util.List<? super Number>", target.getBuffer());
+  }
+}
@@ -42,4 +42,16 @@ class VarMemberCodeGeneratorTest {
 
     Assertions.assertEquals(EXPECTED, buffer.getBuffer());
   }
-}
\ No newline at end of file
+
+  @Test
+  void generateWithExpressionTest() {
+    BufferedCodeTarget buffer = new BufferedCodeTarget();
+
+    new VarMemberCodeGenerator(
+        new VarMemberCodeGenerator(VARIABLE_NAME, new InvokeMethodCodeGenerator("stream")),
+        target -> target.write(MEMBER_NAME)
+    ).generate(buffer);
+
+    Assertions.assertEquals("testVar.stream().testField", buffer.getBuffer());
+  }
+}
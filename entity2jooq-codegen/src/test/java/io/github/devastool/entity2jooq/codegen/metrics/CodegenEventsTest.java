@@ -0,0 +1,203 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.metrics;
+
+import io.github.devastool.entity2jooq.codegen.Entity2JooqDatabase;
+import io.github.devastool.entity2jooq.codegen.Entity2JooqJavaGenerator;
+import io.github.devastool.entity2jooq.codegen.definition.factory.CommonFactoryTest;
+import io.github.devastool.entity2jooq.codegen.filesystem.classload.ClassLoaderContext;
+import io.github.devastool.entity2jooq.codegen.filesystem.classload.PathClassLoader;
+import io.github.devastool.entity2jooq.codegen.model.TestEntityConverter;
+import io.github.devastool.entity2jooq.codegen.properties.CodegenProperty;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.jooq.SQLDialect;
+import org.jooq.codegen.GenerationTool;
+import org.jooq.meta.jaxb.Configuration;
+import org.jooq.meta.jaxb.Database;
+import org.jooq.meta.jaxb.Generator;
+import org.jooq.meta.jaxb.Logging;
+import org.jooq.meta.jaxb.Property;
+import org.jooq.meta.jaxb.Target;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of flight recorder events of the code generation.
+ *
+ * @author Andrey_Yurzanov
+ */
+class CodegenEventsTest extends CommonFactoryTest {
+  private static final String TABLE = "model.test_entity_converter";
+  private static final String CLASS_FILE_EXT = ".class";
+  private static final List<Class<? extends Event>> EVENTS = List.of(
+      ClassScanEvent.class,
+      ClassLoadEvent.class,
+      TableBuildEvent.class
+  );
+  private final Path classes = Paths.get("").toAbsolutePath().resolve("target/test-classes");
+
+  @Test
+  void eventsTest(@TempDir Path directory) throws Exception {
+    String entity = TestEntityConverter.class.getName();
+    Path dump = directory.resolve("codegen.jfr");
+    try (Recording recording = new Recording()) {
+      EVENTS.forEach(event -> recording.enable(event).withoutThreshold());
+      recording.start();
+
+      ClassLoaderContext context = new ClassLoaderContext(1);
+      context.addRoot(classes);
+      try (PathClassLoader loader = new PathClassLoader(context)) {
+        loader.loadClass(entity);
+      }
+      getTableFactory().build(TestEntityConverter.class, getProperties());
+
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+    RecordedEvent scan = find(events, ClassScanEvent.class, "className", entity).orElseThrow();
+    Assertions.assertTrue(scan.getLong("size") > 0);
+
+    RecordedEvent load = find(events, ClassLoadEvent.class, "className", entity).orElseThrow();
+    Assertions.assertTrue(load.getLong("size") > 0);
+
+    RecordedEvent build = find(events, TableBuildEvent.class, "table", TABLE).orElseThrow();
+    Assertions.assertEquals(entity, build.getClass("entity").getName());
+    Assertions.assertTrue(build.getInt("columns") > 0);
+    Assertions.assertTrue(build.getInt("converters") > 0);
+  }
+
+  @Test
+  void tableGenerateEventsTest(@TempDir Path directory) throws Exception {
+    // Only the entity is scanned, other entities of the tests are not generated
+    String entity = TestEntityConverter.class.getName().replace('.', '/') + CLASS_FILE_EXT;
+    Path entityClasses = directory.resolve("classes");
+    Files.createDirectories(entityClasses.resolve(entity).getParent());
+    Files.copy(classes.resolve(entity), entityClasses.resolve(entity));
+
+    Path target = directory.resolve("generated");
+    Configuration configuration = getConfiguration(
+        entityClasses,
+        target,
+        directory.resolve("generate-index")
+    );
+    Path dump = directory.resolve("generate.jfr");
+    try (Recording recording = new Recording()) {
+      // Events are enabled by default, only events of the table generation are recorded
+      EVENTS.forEach(recording::disable);
+      recording.enable(TableGenerateEvent.class).withoutThreshold();
+      recording.start();
+
+      // The second generation skips the unchanged table
+      GenerationTool.generate(configuration);
+      GenerationTool.generate(configuration);
+
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    Path file;
+    try (Stream<Path> files = Files.walk(target)) {
+      file = files
+          .filter(path -> path.endsWith(Paths.get("tables", "TestEntityConverter.java")))
+          .findFirst()
+          .orElseThrow();
+    }
+
+    String name = TableGenerateEvent.class.getAnnotation(Name.class).value();
+    List<RecordedEvent> events = RecordingFile
+        .readAllEvents(dump)
+        .stream()
+        .filter(event -> name.equals(event.getEventType().getName()))
+        .filter(event -> TABLE.equals(event.getString("table")))
+        .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+        .collect(Collectors.toList());
+    Assertions.assertEquals(2, events.size());
+
+    RecordedEvent generated = events.get(0);
+    Assertions.assertFalse(generated.getBoolean("skipped"));
+    Assertions.assertEquals(Files.size(file), generated.getLong("size"));
+
+    RecordedEvent skipped = events.get(1);
+    Assertions.assertTrue(skipped.getBoolean("skipped"));
+    Assertions.assertEquals(Files.size(file), skipped.getLong("size"));
+  }
+
+  // Returns configuration of the generation with the index like the plugin
+  private static Configuration getConfiguration(Path classes, Path target, Path index) {
+    Database database = new Database();
+    database.setName(Entity2JooqDatabase.class.getCanonicalName());
+    database.setProperties(List.of(
+        getProperty(CodegenProperty.CLASSES, classes),
+        getProperty(CodegenProperty.TEST_CLASSES, classes.resolveSibling("test-classes")),
+        getProperty(CodegenProperty.CLASSPATH, classes),
+        getProperty(CodegenProperty.DIALECT, SQLDialect.POSTGRES.getName()),
+        getProperty(CodegenProperty.GENERATE_INDEX, index)
+    ));
+
+    Target generateTarget = new Target();
+    generateTarget.setDirectory(target.toString());
+    generateTarget.setPackageName("test.generated");
+
+    Generator generator = new Generator();
+    generator.setName(Entity2JooqJavaGenerator.class.getCanonicalName());
+    generator.setDatabase(database);
+    generator.setTarget(generateTarget);
+
+    Configuration configuration = new Configuration();
+    configuration.setLogging(Logging.WARN);
+    configuration.setGenerator(generator);
+    return configuration;
+  }
+
+  // Returns property of the database by the property of the generation
+  private static Property getProperty(CodegenProperty<?> key, Object value) {
+    Property property = new Property();
+    property.setKey(key.getName());
+    property.setValue(value.toString());
+    return property;
+  }
+
+  // Finds recorded event by type and value of the field
+  private static Optional<RecordedEvent> find(
+      List<RecordedEvent> events,
+      Class<? extends Event> type,
+      String field,
+      String value
+  ) {
+    String name = type.getAnnotation(Name.class).value();
+    return events
+        .stream()
+        .filter(event -> name.equals(event.getEventType().getName()))
+        .filter(event -> value.equals(event.getString(field)))
+        .findFirst();
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link CodegenMetrics}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class CodegenMetricsTest {
+  private static final String SESSION = "session";
+
+  @Test
+  void sessionTest() {
+    CodegenMetrics metrics = CodegenMetrics.open(SESSION);
+    Assertions.assertSame(metrics, CodegenMetrics.find(SESSION).orElseThrow());
+    Assertions.assertTrue(CodegenMetrics.find(null).isEmpty());
+
+    CodegenMetrics.close(SESSION);
+    Assertions.assertTrue(CodegenMetrics.find(SESSION).isEmpty());
+  }
+
+  @Test
+  void toJsonTest() {
+    CodegenMetrics metrics = new CodegenMetrics();
+    PhaseMetrics scan = metrics.getPhase(CodegenMetrics.SCAN);
+    Assertions.assertSame(scan, metrics.getPhase(CodegenMetrics.SCAN));
+
+    scan.add("files", 2);
+    metrics.getPhase("\"quoted\"");
+    Assertions.assertEquals(2, metrics.getPhases().size());
+    Assertions.assertEquals(
+        String.join(
+            "",
+            "{\"phases\":[",
+            "{\"name\":\"scan\",\"time\":0,\"allocated\":0,\"counters\":{\"files\":2}},",
+            "{\"name\":\"\\\"quoted\\\"\",\"time\":0,\"allocated\":0,\"counters\":{}}",
+            "]}"
+        ),
+        metrics.toJson()
+    );
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.metrics;
+
+import io.github.devastool.entity2jooq.codegen.metrics.PhaseMetrics.Measurement;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link PhaseMetrics}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class PhaseMetricsTest {
+  private static final String PHASE = "phase";
+  private static final String COUNTER = "counter";
+
+  @Test
+  void countersTest() {
+    PhaseMetrics metrics = new PhaseMetrics(PHASE);
+    Assertions.assertEquals(PHASE, metrics.getName());
+    Assertions.assertEquals(0, metrics.get(COUNTER));
+
+    metrics.add(COUNTER, 2);
+    metrics.add(COUNTER, 3);
+    Assertions.assertEquals(5, metrics.get(COUNTER));
+    Assertions.assertEquals(Map.of(COUNTER, 5L), metrics.getCounters());
+  }
+
+  @Test
+  void measurementTest() {
+    PhaseMetrics metrics = new PhaseMetrics(PHASE);
+    try (Measurement ignored = metrics.start()) {
+      Function<Integer, List<Integer>> task = metrics.track(List::of);
+      Assertions.assertEquals(List.of(1), task.apply(1));
+    }
+
+    long time = metrics.getTime();
+    Assertions.assertTrue(time > 0);
+    Assertions.assertTrue(metrics.getAllocated() >= 0);
+
+    // Tracked tasks do not add wall time, closing twice has no effect
+    Measurement measurement = metrics.track();
+    measurement.close();
+    measurement.close();
+    Assertions.assertEquals(time, metrics.getTime());
+  }
+}
@@ -29,4 +29,28 @@ public class TestEmbeddable {
   private Integer intField;
   private String stringField;
   private TestSecondEmbeddable secondEmbeddable;
+
+  public Integer getIntField() {
+    return intField;
+  }
+
+  public void setIntField(Integer intField) {
+    this.intField = intField;
+  }
+
+  public String getStringField() {
+    return stringField;
+  }
+
+  public void setStringField(String stringField) {
+    this.stringField = stringField;
+  }
+
+  public TestSecondEmbeddable getSecondEmbeddable() {
+    return secondEmbeddable;
+  }
+
+  public void setSecondEmbeddable(TestSecondEmbeddable secondEmbeddable) {
+    this.secondEmbeddable = secondEmbeddable;
+  }
 }
@@ -30,4 +30,12 @@ import io.github.devastool.entity2jooq.codegen.model.converter.StringToIntegerCo
 public class TestEntityConverter {
   @Type(converter = StringToIntegerConverter.class)
   private Integer intField;
+
+  public Integer getIntField() {
+    return intField;
+  }
+
+  public void setIntField(Integer intField) {
+    this.intField = intField;
+  }
 }
@@ -27,4 +27,12 @@ import io.github.devastool.entity2jooq.annotation.Table;
 @Table
 public class TestEntityEmbedded {
   private TestEmbeddable embeddable;
+
+  public TestEmbeddable getEmbeddable() {
+    return embeddable;
+  }
+
+  public void setEmbeddable(TestEmbeddable embeddable) {
+    this.embeddable = embeddable;
+  }
 }
@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.model;
+
+import io.github.devastool.entity2jooq.annotation.Column;
+import io.github.devastool.entity2jooq.annotation.Embedded;
+import io.github.devastool.entity2jooq.annotation.Table;
+
+/**
+ * Example entity with fields of the same handle name, see tests.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+@Table
+public class TestEntityHandleClash {
+  private String fooBar;
+  @Column("other_foo_bar")
+  private String foo_bar;
+  private Order order;
+  private Customer customer;
+
+  /**
+   * Example embedded class of the order, see tests.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0.0
+   */
+  @Embedded
+  public static class Order {
+    private Address address;
+
+    /**
+     * Example embedded address of the order, see tests.
+     *
+     * @author Andrey_Yurzanov
+     * @since 1.0.0
+     */
+    @Embedded
+    public static class Address {
+      private String city;
+    }
+  }
+
+  /**
+   * Example embedded class of the customer, see tests.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0.0
+   */
+  @Embedded
+  public static class Customer {
+    private Address address;
+
+    /**
+     * Example embedded address of the customer, see tests.
+     *
+     * @author Andrey_Yurzanov
+     * @since 1.0.0
+     */
+    @Embedded
+    public static class Address {
+      private String city;
+    }
+  }
+}
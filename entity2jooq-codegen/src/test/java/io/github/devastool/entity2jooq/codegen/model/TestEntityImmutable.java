@@ -0,0 +1,50 @@
+/*
+ *    Copyright 2024 All entity2jooq contributors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.devastool.entity2jooq.codegen.model;
+
+import io.github.devastool.entity2jooq.annotation.Table;
+
+/**
+ * Example immutable entity with final fields and the constructor, see tests.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0.0
+ */
+@Table
+public class TestEntityImmutable {
+  private final Long id;
+  private final String name;
+  private final TestEmbeddable embeddable;
+
+  public TestEntityImmutable(Long id, String name, TestEmbeddable embeddable) {
+    this.id = id;
+    this.name = name;
+    this.embeddable = embeddable;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public TestEmbeddable getEmbeddable() {
+    return embeddable;
+  }
+}
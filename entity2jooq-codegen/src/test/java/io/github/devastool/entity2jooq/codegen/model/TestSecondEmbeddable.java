@@ -28,4 +28,20 @@ import io.github.devastool.entity2jooq.annotation.Embedded;
 public class TestSecondEmbeddable {
   private String secondStringField;
   private Integer secondIntField;
+
+  public String getSecondStringField() {
+    return secondStringField;
+  }
+
+  public void setSecondStringField(String secondStringField) {
+    this.secondStringField = secondStringField;
+  }
+
+  public Integer getSecondIntField() {
+    return secondIntField;
+  }
+
+  public void setSecondIntField(Integer secondIntField) {
+    this.secondIntField = secondIntField;
+  }
 }
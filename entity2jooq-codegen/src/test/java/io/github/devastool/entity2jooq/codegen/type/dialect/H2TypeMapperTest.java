@@ -16,7 +16,9 @@
 
 package io.github.devastool.entity2jooq.codegen.type.dialect;
 
+import io.github.devastool.entity2jooq.codegen.model.TestEnum;
 import java.time.LocalDateTime;
+import java.util.Date;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -39,4 +41,19 @@ class H2TypeMapperTest {
     String sqlType = mapper.getSqlType("H2", LocalDateTime.class);
     Assertions.assertEquals("timestamp", sqlType);
   }
-}
\ No newline at end of file
+
+  @Test
+  void getSqlTypeSubtypeTest() {
+    Assertions.assertEquals("character varying", mapper.getSqlType("H2", TestEnum.class));
+    Assertions.assertEquals("date", mapper.getSqlType("H2", TestDate.class));
+    Assertions.assertEquals("date", mapper.getSqlType("H2", TestDate.class));
+  }
+
+  /**
+   * Subclass of {@link Date} without mapping.
+   *
+   * @author Andrey_Yurzanov
+   */
+  private static class TestDate extends Date {
+  }
+}
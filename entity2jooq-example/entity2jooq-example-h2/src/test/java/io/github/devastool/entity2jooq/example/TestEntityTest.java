@@ -18,22 +18,28 @@ package io.github.devastool.entity2jooq.example;
 
 import static org.jooq.generated.test_schema.Tables.TEST_ENTITY;
 
+import io.github.devastool.entity2jooq.annotation.mapping.MappingMetrics;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.h2.jdbcx.JdbcConnectionPool;
 import org.jooq.DSLContext;
 import org.jooq.DeleteConditionStep;
+import org.jooq.Field;
 import org.jooq.InsertValuesStepN;
 import org.jooq.Record;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
 import org.jooq.UpdateConditionStep;
 import org.jooq.generated.DefaultCatalog;
+import org.jooq.generated.EntityMappers;
 import org.jooq.impl.DSL;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -160,7 +166,10 @@ class TestEntityTest {
         .from(TEST_ENTITY)
         .where(TEST_ENTITY.SHORT_FIELD.isNotNull());
 
+    MappingMetrics metrics = MappingMetrics.find("test_schema.test_entity").orElseThrow();
+    long rows = metrics.getRows();
     List<TestEntity> results = select.fetch(TEST_ENTITY::toEntity);
+    Assertions.assertEquals(rows + results.size(), metrics.getRows());
 
     for (TestEntity entity : DATA) {
       Byte byteField = entity.getByteField();
@@ -170,6 +179,58 @@ class TestEntityTest {
               .anyMatch(result -> Objects.equals(result.getByteField(), byteField))
       );
     }
+
+    List<TestEntity> entities = TEST_ENTITY.toEntities(select.fetch());
+    Assertions.assertEquals(results.size(), entities.size());
+    for (int i = 0; i < results.size(); i++) {
+      Assertions.assertEquals(results.get(i).getUuidField(), entities.get(i).getUuidField());
+    }
+
+    List<Field<?>> fields = new ArrayList<>(Arrays.asList(TEST_ENTITY.fields()));
+    Collections.reverse(fields);
+    List<TestEntity> reversed = context
+        .select(fields)
+        .from(TEST_ENTITY)
+        .where(TEST_ENTITY.SHORT_FIELD.isNotNull())
+        .fetch(TEST_ENTITY::toEntity);
+    Assertions.assertEquals(
+        results.stream().map(TestEntity::getUuidField).collect(Collectors.toSet()),
+        reversed.stream().map(TestEntity::getUuidField).collect(Collectors.toSet())
+    );
+
+    try (Stream<TestEntity> stream = TEST_ENTITY.toEntityStream(select, 1)) {
+      Assertions.assertEquals(
+          results.stream().map(TestEntity::getUuidField).collect(Collectors.toList()),
+          stream.map(TestEntity::getUuidField).collect(Collectors.toList())
+      );
+    }
+
+    List<UUID> uuids = new ArrayList<>();
+    try (var cursor = select.fetchLazy()) {
+      TEST_ENTITY.forEachEntity(cursor, entity -> uuids.add(entity.getUuidField()));
+    }
+    Assertions.assertEquals(
+        results.stream().map(TestEntity::getUuidField).collect(Collectors.toList()),
+        uuids
+    );
+
+    DSLContext mapped = DSL.using(new EntityMappers().applyTo(context.configuration().derive()));
+    Assertions.assertEquals(
+        results.stream().map(TestEntity::getUuidField).collect(Collectors.toSet()),
+        mapped
+            .selectFrom(TEST_ENTITY)
+            .where(TEST_ENTITY.SHORT_FIELD.isNotNull())
+            .fetchInto(TestEntity.class)
+            .stream()
+            .map(TestEntity::getUuidField)
+            .collect(Collectors.toSet())
+    );
+    for (TestEntity entity : results) {
+      Assertions.assertEquals(
+          entity.getUuidField(),
+          mapped.newRecord(TEST_ENTITY, entity).get(TEST_ENTITY.UUID_FIELD)
+      );
+    }
     connection.close();
   }
 
@@ -191,6 +252,28 @@ class TestEntityTest {
     }
     Assertions.assertDoesNotThrow(() -> context.batch(updates).execute());
 
+    for (TestEntity entity : DATA) {
+      Record original = context
+          .selectFrom(TEST_ENTITY)
+          .where(TEST_ENTITY.INT_FIELD.eq(entity.getIntField()))
+          .fetchOne();
+      TestEntity loaded = TEST_ENTITY.toEntity(original);
+      Assertions.assertFalse(TEST_ENTITY.toChangedRecord(loaded, original).changed());
+
+      loaded.setStringField(UUID.randomUUID().toString());
+      Record changed = TEST_ENTITY.toChangedRecord(loaded, original);
+      Assertions.assertTrue(changed.changed(TEST_ENTITY.ENTITY_NAME));
+      Assertions.assertFalse(changed.changed(TEST_ENTITY.INT_FIELD));
+      Assertions.assertEquals(
+          1,
+          context
+              .update(TEST_ENTITY)
+              .set(changed)
+              .where(TEST_ENTITY.INT_FIELD.eq(entity.getIntField()))
+              .execute()
+      );
+    }
+
     connection.close();
   }
 
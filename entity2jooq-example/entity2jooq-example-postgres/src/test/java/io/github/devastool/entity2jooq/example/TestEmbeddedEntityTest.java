@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 import org.h2.jdbcx.JdbcConnectionPool;
 import org.jooq.DSLContext;
 import org.jooq.DeleteConditionStep;
+import org.jooq.InsertValuesStepN;
 import org.jooq.Record;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
@@ -91,29 +92,24 @@ class TestEmbeddedEntityTest {
     pool.dispose();
   }
 
-  // TODO. Use toRecord(...) after: https://github.com/devastool/entity2jooq/issues/51
   @Test
   @Order(1)
   void insertTest() throws SQLException {
     Connection connection = pool.getConnection();
     DSLContext context = DSL.using(connection, SQLDialect.POSTGRES);
 
-    var insert = context
-        .insertInto(TEST_EMBEDDED_ENTITY)
-        .columns(
-            TEST_EMBEDDED_ENTITY.NAME,
-            TEST_EMBEDDED_ENTITY.WORK,
-            TEST_EMBEDDED_ENTITY.HOME
-        );
-
-    for (TestEmbeddedEntity entity : DATA) {
-      insert.values(
-          entity.getName(),
-          entity.getWorkCity(),
-          entity.getHomeCity()
-      );
+    var insert = context.insertInto(TEST_EMBEDDED_ENTITY);
+    var iterator = TEST_EMBEDDED_ENTITY.toRecords(DATA).iterator();
+    while (iterator.hasNext()) {
+      Record record = iterator.next();
+      InsertValuesStepN<Record> insertStep = insert
+          .columns(record.fields())
+          .values(record.intoList());
+
+      if (!iterator.hasNext()) {
+        Assertions.assertDoesNotThrow(insertStep::execute);
+      }
     }
-    Assertions.assertDoesNotThrow(insert::execute);
 
     connection.close();
   }